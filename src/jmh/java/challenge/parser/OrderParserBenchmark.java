@@ -0,0 +1,58 @@
+package challenge.parser;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link OrderParser#toOrder(CharSequence, int, int)} over generated order lines.
+ * 
+ * @author jeffrey
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderParserBenchmark {
+
+  private static final int NUMBER_OF_LINES = 10000;
+
+  private String[] lines;
+
+  /**
+   * Generates the lines once per trial.
+   */
+  @Setup
+  public void setUp() {
+    Random random = new Random(20181003L);
+    lines = new String[NUMBER_OF_LINES];
+    for (int index = 0; index < NUMBER_OF_LINES; index++) {
+      lines[index] = String.format("WM%04d %s%d%s%d %02d:%02d:%02d", index,
+          random.nextBoolean() ? "N" : "S", random.nextInt(100), random.nextBoolean() ? "E" : "W",
+          random.nextInt(100), random.nextInt(24), random.nextInt(60), random.nextInt(60));
+    }
+  }
+
+  /**
+   * @param blackhole Consumes the parsed orders.
+   */
+  @Benchmark
+  public void toOrder(Blackhole blackhole) {
+    for (String line : lines) {
+      blackhole.consume(OrderParser.toOrder(line, 0, line.length()));
+    }
+  }
+
+}
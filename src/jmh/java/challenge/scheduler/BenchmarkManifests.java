@@ -0,0 +1,51 @@
+package challenge.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import challenge.generator.ArrivalProfile;
+import challenge.generator.OrderGenerator;
+import challenge.model.GridCoordinate;
+import challenge.model.Manifest;
+import challenge.model.Order;
+
+/**
+ * Generates reproducible {@link Manifest} lists for the scheduler benchmarks. Orders are spread
+ * evenly across the delivery window with customer locations around the warehouse.
+ * 
+ * @author jeffrey
+ */
+final class BenchmarkManifests {
+
+  /**
+   * The fixed seed so every run schedules the same orders.
+   */
+  static final long SEED = 20181003L;
+
+  private BenchmarkManifests() {}
+
+  /**
+   * Generates the orders sorted by order time with the {@link OrderGenerator}. Ids repeat in
+   * loads of more than {@link OrderGenerator#MAXIMUM_ORDERS} orders.
+   * 
+   * @param numberOfOrders The number of orders to generate.
+   * @return The generated {@link Order} list.
+   */
+  static List<Order> generateOrders(int numberOfOrders) {
+    return new OrderGenerator(GridCoordinate.ZERO, ArrivalProfile.UNIFORM)
+        .generateLoad(numberOfOrders, SEED);
+  }
+
+  /**
+   * Generates the manifests relative to {@link GridCoordinate#ZERO}.
+   * 
+   * @param numberOfManifests The number of manifests to generate.
+   * @return The generated {@link Manifest} list.
+   */
+  static List<Manifest> generateManifests(int numberOfManifests) {
+    List<Manifest> manifests = new ArrayList<>(numberOfManifests);
+    generateOrders(numberOfManifests)
+        .forEach(order -> manifests.add(new Manifest(order, GridCoordinate.ZERO)));
+    return manifests;
+  }
+
+}
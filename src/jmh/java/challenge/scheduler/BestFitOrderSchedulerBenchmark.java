@@ -0,0 +1,71 @@
+package challenge.scheduler;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Manifest;
+
+/**
+ * Benchmarks {@link BestFitOrderScheduler#processManifests(List)}. The generation limit grows with
+ * the number of manifests, so only the smaller sizes run by default. Larger sizes can be selected
+ * with <code>-p numberOfManifests=1000</code>.
+ * 
+ * @author jeffrey
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class BestFitOrderSchedulerBenchmark {
+
+  @Param({"10", "100"})
+  private int numberOfManifests;
+
+  private SchedulerContext schedulerContext;
+
+  private OrderScheduler orderScheduler;
+
+  private List<Manifest> manifests;
+
+  /**
+   * Generates the manifests and the {@link SchedulerContext} once per trial.
+   */
+  @Setup
+  public void setUp() {
+    schedulerContext = new SchedulerContext(Runtime.getRuntime().availableProcessors());
+    orderScheduler = OrderSchedulers.bestFit(GridCoordinate.ZERO, schedulerContext);
+    manifests = BenchmarkManifests.generateManifests(numberOfManifests);
+  }
+
+  /**
+   * Closes the {@link SchedulerContext}.
+   */
+  @TearDown
+  public void tearDown() {
+    schedulerContext.close();
+  }
+
+  /**
+   * @return The scheduled deliveries.
+   */
+  @Benchmark
+  public List<Delivery> processManifests() {
+    return orderScheduler.processManifests(manifests);
+  }
+
+}
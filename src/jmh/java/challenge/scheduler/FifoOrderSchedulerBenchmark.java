@@ -0,0 +1,56 @@
+package challenge.scheduler;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import challenge.model.Delivery;
+import challenge.model.Manifest;
+
+/**
+ * Benchmarks {@link FifoOrderScheduler#processManifests(List)}.
+ * 
+ * @author jeffrey
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FifoOrderSchedulerBenchmark {
+
+  @Param({"10", "100", "1000", "10000", "100000"})
+  private int numberOfManifests;
+
+  private OrderScheduler orderScheduler;
+
+  private List<Manifest> manifests;
+
+  /**
+   * Generates the manifests once per trial.
+   */
+  @Setup
+  public void setUp() {
+    orderScheduler = OrderSchedulers.fifo();
+    manifests = BenchmarkManifests.generateManifests(numberOfManifests);
+  }
+
+  /**
+   * @return The scheduled deliveries.
+   */
+  @Benchmark
+  public List<Delivery> processManifests() {
+    return orderScheduler.processManifests(manifests);
+  }
+
+}
@@ -1,10 +1,14 @@
 package challenge;
 
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import challenge.exporter.DeliveryExporter;
 import challenge.importer.OrderImporter;
+import challenge.metrics.PipelineMetrics;
 import challenge.model.Delivery;
 import challenge.model.Order;
 import challenge.scheduler.OrderSchedulers;
@@ -27,15 +31,33 @@ public final class Application {
    * <li>Imports the orders from the file.
    * <li>Schedules the deliveries.
    * <li>Prints out the exported file path.
+   * <p>
+   * Given a directory or several file paths, runs the files in parallel with a {@link BatchRunner}
+   * and prints the NPS of each exported file followed by the total NPS. The parsed orders are
+   * cached in the directory of the {@link BatchRunner#CACHE_PROPERTY} system property, if set.
+   * <p>
+   * The {@link PipelineMetrics} are exposed over JMX while the application runs and logged at exit
+   * if the {@link PipelineMetrics#DUMP_PROPERTY} system property is <code>true</code>.
    * 
    * @param args The program arguments.
    */
   public static void main(String[] args) {
-    if (args == null || args.length != 1) {
+    PipelineMetrics.register();
+    if (Boolean.getBoolean(PipelineMetrics.DUMP_PROPERTY)) {
+      PipelineMetrics.get().dumpAtExit();
+    }
+    if (args == null || args.length == 0) {
       LOG.error("Expects file path.");
+    } else if (args.length > 1 || Files.isDirectory(Paths.get(args[0]))) {
+      String cacheDirectory = System.getProperty(BatchRunner.CACHE_PROPERTY);
+      BatchRunner batchRunner = new BatchRunner(Paths.get(""),
+          Runtime.getRuntime().availableProcessors(),
+          cacheDirectory == null ? null : Paths.get(cacheDirectory));
+      BatchRunner.toSummary(batchRunner.run(BatchRunner.toInputFiles(Arrays.asList(args))))
+          .forEach(System.out::println);
     } else {
       List<Order> orders = OrderImporter.parseFile(args[0]);
-      List<Delivery> deliveries = OrderSchedulers.queueBased().schedule(orders);
+      List<Delivery> deliveries = OrderSchedulers.priorityQueueBased().schedule(orders);
       System.out.println(DeliveryExporter.exportToFile(deliveries));
     }
   }
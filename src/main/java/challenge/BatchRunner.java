@@ -0,0 +1,324 @@
+package challenge;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.base.Preconditions;
+import challenge.cache.OrderCache;
+import challenge.calculator.NPSAccumulator;
+import challenge.exporter.DeliveryExporter;
+import challenge.importer.OrderImporter;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.ManifestTable;
+import challenge.model.Order;
+import challenge.scheduler.OrderScheduler;
+import challenge.scheduler.OrderSchedulers;
+
+/**
+ * Runs the import, schedule and export pipeline for many order files in one JVM. Each file is a
+ * separate task on a fixed number of threads. The task queue is bounded, so the submitting thread
+ * runs a task itself when every thread is busy and the queue is full.
+ * <p>
+ * Every file gets its own export file. Files that would be exported to the same file as an earlier
+ * file, e.g. <code>a/day1.txt</code> and <code>b/day1.txt</code>, are not processed.
+ * <p>
+ * Given a cache directory, the parsed orders of each file are kept in an {@link OrderCache}, so
+ * running the same files again schedules straight from the cache without parsing the text. A
+ * cache is parsed again once its order file has changed.
+ * 
+ * @author jeffrey
+ */
+public final class BatchRunner {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BatchRunner.class);
+
+  /**
+   * The system property with the cache directory used by the {@link Application}.
+   */
+  public static final String CACHE_PROPERTY = "challenge.cache.directory";
+
+  private static final String OUTPUT_SUFFIX = "-output.txt";
+
+  private static final String CACHE_FORMAT = "%s-%08x.orders";
+
+  private static final String SUMMARY_FORMAT = "%s NPS %d";
+
+  private static final String TOTAL_FORMAT = "Files %d Deliveries %d NPS %d";
+
+  private final Path outputDirectory;
+
+  private final int threads;
+
+  private final Path cacheDirectory;
+
+  /**
+   * The constructor. Every file is parsed.
+   * 
+   * @param outputDirectory The directory of the export files. Cannot be <code>null</code>.
+   * @param threads The number of files processed at the same time. Must be positive.
+   */
+  public BatchRunner(Path outputDirectory, int threads) {
+    this(outputDirectory, threads, null);
+  }
+
+  /**
+   * The constructor.
+   * 
+   * @param outputDirectory The directory of the export files. Cannot be <code>null</code>.
+   * @param threads The number of files processed at the same time. Must be positive.
+   * @param cacheDirectory The directory of the {@link OrderCache} files. <code>null</code> to parse
+   *        every file.
+   */
+  public BatchRunner(Path outputDirectory, int threads, Path cacheDirectory) {
+    Preconditions.checkNotNull(outputDirectory, "The output directory cannot be null.");
+    Preconditions.checkArgument(threads > 0, "The number of threads must be positive.");
+
+    this.outputDirectory = outputDirectory;
+    this.threads = threads;
+    this.cacheDirectory = cacheDirectory;
+  }
+
+  /**
+   * Expands the paths into order files. Directories are replaced by the regular files they
+   * contain, sorted by name. Export files ending in {@value BatchRunner#OUTPUT_SUFFIX} are skipped,
+   * so a directory can be run again after it has been exported into.
+   * 
+   * @param paths The file and directory paths. Cannot be <code>null</code>.
+   * @return The order files.
+   */
+  public static final List<Path> toInputFiles(List<String> paths) {
+    Preconditions.checkNotNull(paths, "Paths cannot be null.");
+
+    List<Path> inputFiles = new ArrayList<>();
+    for (String path : paths) {
+      Path inputPath = Paths.get(path);
+      if (Files.isDirectory(inputPath)) {
+        try (Stream<Path> directoryFiles = Files.list(inputPath)) {
+          directoryFiles.filter(Files::isRegularFile)
+              .filter(file -> !file.getFileName().toString().endsWith(OUTPUT_SUFFIX)).sorted()
+              .forEach(inputFiles::add);
+        } catch (IOException exception) {
+          LOG.error("Unable to list directory at path: {}.", path);
+        }
+      } else {
+        inputFiles.add(inputPath);
+      }
+    }
+    return inputFiles;
+  }
+
+  /**
+   * Processes the files concurrently. Each file is exported to the output directory as the file
+   * name without its extension followed by {@value BatchRunner#OUTPUT_SUFFIX}. A file whose
+   * export file is already used by an earlier file, or is one of the order files, is not processed
+   * and has no export.
+   * 
+   * @param inputFiles The order files. Cannot be <code>null</code>.
+   * @return The {@link FileResult} of each file, in the same order as the files.
+   */
+  public List<FileResult> run(List<Path> inputFiles) {
+    Preconditions.checkNotNull(inputFiles, "Input files cannot be null.");
+
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L,
+        TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(threads * 2),
+        new ThreadPoolExecutor.CallerRunsPolicy());
+    try {
+      List<Path> outputFiles = toOutputFiles(inputFiles);
+      List<Future<FileResult>> futures = new ArrayList<>();
+      for (int index = 0; index < inputFiles.size(); index++) {
+        Path inputFile = inputFiles.get(index);
+        Path outputFile = outputFiles.get(index);
+        futures.add(outputFile == null ? null
+            : executor.submit(() -> process(inputFile, outputFile, cacheDirectory)));
+      }
+
+      List<FileResult> results = new ArrayList<>();
+      for (int index = 0; index < futures.size(); index++) {
+        results.add(toFileResult(inputFiles.get(index), futures.get(index)));
+      }
+      return results;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Finds the export file of each order file. The export file is <code>null</code> if it
+   * collides with the export file of an earlier file or with an order file.
+   */
+  private List<Path> toOutputFiles(List<Path> inputFiles) {
+    Map<Path, Path> usedFiles = new HashMap<>();
+    inputFiles.forEach(inputFile -> usedFiles.put(normalize(inputFile), inputFile));
+    List<Path> outputFiles = new ArrayList<>();
+    for (Path inputFile : inputFiles) {
+      Path outputFile = outputDirectory.resolve(toOutputFileName(inputFile));
+      Path collision = usedFiles.putIfAbsent(normalize(outputFile), inputFile);
+      if (collision != null) {
+        LOG.error("Export file {} of order file {} is already used by: {}.", outputFile,
+            inputFile, collision);
+      }
+      outputFiles.add(collision == null ? outputFile : null);
+    }
+    return outputFiles;
+  }
+
+  private static Path normalize(Path path) {
+    return path.toAbsolutePath().normalize();
+  }
+
+  private static FileResult toFileResult(Path inputFile, Future<FileResult> future) {
+    if (future == null) {
+      return new FileResult(inputFile, null, new NPSAccumulator());
+    }
+    try {
+      return future.get();
+    } catch (ExecutionException exception) {
+      LOG.error("Unable to process file at path: {}.", inputFile, exception.getCause());
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      LOG.error("Interrupted while processing file at path: {}.", inputFile);
+    }
+    return new FileResult(inputFile, null, new NPSAccumulator());
+  }
+
+  private static FileResult process(Path inputFile, Path outputFile, Path cacheDirectory) {
+    OrderScheduler scheduler = OrderSchedulers.priorityQueueBased();
+    ManifestTable manifestTable =
+        toManifestTable(inputFile, cacheDirectory, scheduler.getWarehouseLocation());
+    if (manifestTable.size() == 0) {
+      LOG.error("No orders in file at path: {}.", inputFile);
+      return new FileResult(inputFile, null, new NPSAccumulator());
+    }
+    List<Delivery> deliveries = scheduler.scheduleTable(manifestTable);
+    String exportFile = DeliveryExporter.exportToFile(deliveries, outputFile.toString());
+    if (exportFile == null) {
+      return new FileResult(inputFile, null, new NPSAccumulator());
+    }
+    return new FileResult(inputFile, Paths.get(exportFile), NPSAccumulator.of(deliveries));
+  }
+
+  /**
+   * Reads the orders from the cache file of the order file if it is up to date. Otherwise parses
+   * the order file and writes its cache file. Cache files that cannot be read or written are
+   * logged and the parsed orders are used.
+   */
+  private static ManifestTable toManifestTable(Path inputFile, Path cacheDirectory,
+      GridCoordinate warehouseLocation) {
+    Path cacheFile = cacheDirectory == null ? null : cacheDirectory.resolve(String
+        .format(CACHE_FORMAT, inputFile.getFileName(), normalize(inputFile).hashCode()));
+    try {
+      if (cacheFile != null && Files.isRegularFile(cacheFile) && Files
+          .getLastModifiedTime(cacheFile).compareTo(Files.getLastModifiedTime(inputFile)) >= 0) {
+        return OrderCache.open(cacheFile).toManifestTable(warehouseLocation);
+      }
+    } catch (IOException exception) {
+      LOG.warn("Unable to read cache file at path: {}.", cacheFile);
+    }
+
+    List<Order> orders = OrderImporter.parseFile(inputFile.toString());
+    if (cacheFile != null && !orders.isEmpty()) {
+      try {
+        OrderCache.write(orders, cacheFile);
+      } catch (IOException exception) {
+        LOG.warn("Unable to write cache file at path: {}.", cacheFile);
+      }
+    }
+    return ManifestTable.of(orders, warehouseLocation);
+  }
+
+  private static String toOutputFileName(Path inputFile) {
+    String fileName = inputFile.getFileName().toString();
+    int extension = fileName.lastIndexOf('.');
+    return (extension > 0 ? fileName.substring(0, extension) : fileName) + OUTPUT_SUFFIX;
+  }
+
+  /**
+   * Formats a line per exported file followed by a line with the totals.
+   * 
+   * @param results The {@link FileResult} list. Cannot be <code>null</code>.
+   * @return The summary lines.
+   */
+  public static final List<String> toSummary(List<FileResult> results) {
+    Preconditions.checkNotNull(results, "Results cannot be null.");
+
+    List<String> summary = results.stream().filter(FileResult::isExported)
+        .map(result -> String.format(SUMMARY_FORMAT, result.getOutputFile(), result.getNPS()))
+        .collect(Collectors.toList());
+    NPSAccumulator total = new NPSAccumulator();
+    results.forEach(result -> total.merge(result.accumulator));
+    summary.add(String.format(TOTAL_FORMAT, summary.size(), total.getCount(),
+        total.isEmpty() ? 0 : total.getNPS()));
+    return summary;
+  }
+
+  /**
+   * The outcome of a single order file.
+   */
+  public static final class FileResult {
+
+    private final Path inputFile;
+
+    private final Path outputFile;
+
+    private final NPSAccumulator accumulator;
+
+    private FileResult(Path inputFile, Path outputFile, NPSAccumulator accumulator) {
+      this.inputFile = inputFile;
+      this.outputFile = outputFile;
+      this.accumulator = accumulator;
+    }
+
+    /**
+     * @return The order file.
+     */
+    public Path getInputFile() {
+      return inputFile;
+    }
+
+    /**
+     * @return The export file or <code>null</code> if the file could not be processed.
+     */
+    public Path getOutputFile() {
+      return outputFile;
+    }
+
+    /**
+     * @return <code>true</code> if the deliveries were exported.
+     */
+    public boolean isExported() {
+      return outputFile != null;
+    }
+
+    /**
+     * @return The number of deliveries.
+     */
+    public long getDeliveries() {
+      return accumulator.getCount();
+    }
+
+    /**
+     * @return The Net Promoter Score (NPS) of the file.
+     * @throws IllegalArgumentException If the file has no deliveries.
+     */
+    public int getNPS() {
+      return accumulator.getNPS();
+    }
+
+  }
+
+}
@@ -0,0 +1,267 @@
+package challenge.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import com.google.common.base.Preconditions;
+import challenge.model.GridCoordinate;
+import challenge.model.ManifestTable;
+import challenge.model.Order;
+
+/**
+ * A binary, column based cache of parsed orders, so the same order file can be loaded many times
+ * without parsing the text again.
+ * <p>
+ * The file is a header of three ints (magic number, version and order count) followed by four int
+ * columns, each with a value per order: the order id number, the x and y coordinates of the
+ * customer location and the order time in seconds of the day. Ints are big-endian. Order ids are
+ * expected to match <code>WM[0-9]{4}</code> and order times to have a precision of seconds.
+ * <p>
+ * An opened cache reads the columns straight from the memory-mapped file. Values are only copied
+ * when orders or a {@link ManifestTable} are created from them. A {@link ManifestTable} keeps the
+ * order ids as numbers.
+ * 
+ * @author jeffrey
+ */
+public final class OrderCache {
+
+  /**
+   * The first int of every cache file.
+   */
+  public static final int MAGIC = 0x44445243;
+
+  /**
+   * The version of the file format.
+   */
+  public static final int VERSION = 1;
+
+  private static final int HEADER_INTS = 3;
+
+  private static final int COLUMNS = 4;
+
+  private static final int MAXIMUM_ORDERS = Integer.MAX_VALUE / (COLUMNS * Integer.BYTES) - 1;
+
+  private static final String ORDER_ID_PREFIX = "WM";
+
+  private static final int ORDER_ID_DIGITS = 4;
+
+  private static final int MAXIMUM_ID_NUMBER = 9999;
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final int size;
+
+  private final IntBuffer idNumbers;
+
+  private final IntBuffer xs;
+
+  private final IntBuffer ys;
+
+  private final IntBuffer orderSeconds;
+
+  private OrderCache(ByteBuffer buffer, int size) {
+    this.size = size;
+    this.idNumbers = toColumn(buffer, size, 0);
+    this.xs = toColumn(buffer, size, 1);
+    this.ys = toColumn(buffer, size, 2);
+    this.orderSeconds = toColumn(buffer, size, 3);
+  }
+
+  private static IntBuffer toColumn(ByteBuffer buffer, int size, int column) {
+    ByteBuffer columnBuffer = buffer.duplicate();
+    int start = (HEADER_INTS + column * size) * Integer.BYTES;
+    columnBuffer.limit(start + size * Integer.BYTES).position(start);
+    return columnBuffer.slice().asIntBuffer();
+  }
+
+  /**
+   * Writes the orders to a cache file, replacing any existing file. Keeps the order of the list.
+   * 
+   * @param orders The {@link Order} list. Cannot be <code>null</code>.
+   * @param filePath The path to the cache file. Cannot be <code>null</code>.
+   * @throws IOException If writing fails.
+   * @throws IllegalArgumentException If an order id does not match <code>WM[0-9]{4}</code>.
+   */
+  public static final void write(List<Order> orders, Path filePath) throws IOException {
+    Preconditions.checkNotNull(orders, "Orders cannot be null.");
+    Preconditions.checkNotNull(filePath, "The file path cannot be null.");
+    Preconditions.checkArgument(orders.size() <= MAXIMUM_ORDERS, "Too many orders to cache.");
+
+    try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+      buffer.putInt(MAGIC).putInt(VERSION).putInt(orders.size());
+      writeColumn(orders, order -> toIdNumber(order.getOrderId()), buffer, channel);
+      writeColumn(orders, order -> order.getCustomerLocation().getX(), buffer, channel);
+      writeColumn(orders, order -> order.getCustomerLocation().getY(), buffer, channel);
+      writeColumn(orders, order -> order.getOrderTime().toSecondOfDay(), buffer, channel);
+      flush(buffer, channel);
+    }
+  }
+
+  private static void writeColumn(List<Order> orders, ToIntFunction<Order> column,
+      ByteBuffer buffer, FileChannel channel) throws IOException {
+    for (Order order : orders) {
+      if (buffer.remaining() < Integer.BYTES) {
+        flush(buffer, channel);
+      }
+      buffer.putInt(column.applyAsInt(order));
+    }
+  }
+
+  private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  private static int toIdNumber(String orderId) {
+    Preconditions.checkArgument(
+        orderId.length() == ORDER_ID_PREFIX.length() + ORDER_ID_DIGITS
+            && orderId.startsWith(ORDER_ID_PREFIX),
+        "Order ids must match WM[0-9]{4}.");
+
+    int idNumber = 0;
+    for (int index = ORDER_ID_PREFIX.length(); index < orderId.length(); index++) {
+      char digit = orderId.charAt(index);
+      Preconditions.checkArgument(digit >= '0' && digit <= '9',
+          "Order ids must match WM[0-9]{4}.");
+      idNumber = idNumber * 10 + digit - '0';
+    }
+    return idNumber;
+  }
+
+  /**
+   * Memory-maps a cache file. The file is not read until the orders are.
+   * 
+   * @param filePath The path to the cache file. Cannot be <code>null</code>.
+   * @return The {@link OrderCache}.
+   * @throws IOException If the file cannot be read or is not a cache file of this version.
+   */
+  public static final OrderCache open(Path filePath) throws IOException {
+    Preconditions.checkNotNull(filePath, "The file path cannot be null.");
+
+    try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+      long fileSize = channel.size();
+      if (fileSize < HEADER_INTS * Integer.BYTES || fileSize > Integer.MAX_VALUE) {
+        throw new IOException("Not an order cache: " + filePath);
+      }
+      MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, fileSize);
+      int size = buffer.getInt(2 * Integer.BYTES);
+      if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION || size < 0
+          || size > MAXIMUM_ORDERS
+          || fileSize != (HEADER_INTS + (long) COLUMNS * size) * Integer.BYTES) {
+        throw new IOException("Not an order cache: " + filePath);
+      }
+      return new OrderCache(buffer, size);
+    }
+  }
+
+  /**
+   * @return The number of orders.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param index The order index.
+   * @return The order id.
+   */
+  public String getOrderId(int index) {
+    return toOrderId(toCheckedIdNumber(idNumbers.get(index)));
+  }
+
+  private static int toCheckedIdNumber(int idNumber) {
+    Preconditions.checkState(idNumber >= 0 && idNumber <= MAXIMUM_ID_NUMBER,
+        "The order id number is out of range.");
+    return idNumber;
+  }
+
+  private static String toOrderId(int idNumber) {
+    char[] orderId = new char[ORDER_ID_PREFIX.length() + ORDER_ID_DIGITS];
+    ORDER_ID_PREFIX.getChars(0, ORDER_ID_PREFIX.length(), orderId, 0);
+    for (int digit = orderId.length - 1; digit >= ORDER_ID_PREFIX.length(); digit--) {
+      orderId[digit] = (char) ('0' + idNumber % 10);
+      idNumber /= 10;
+    }
+    return new String(orderId);
+  }
+
+  /**
+   * @param index The order index.
+   * @return The order time in seconds of the day.
+   */
+  public int getOrderSecond(int index) {
+    return orderSeconds.get(index);
+  }
+
+  /**
+   * @param index The order index.
+   * @return The customer {@link GridCoordinate}.
+   */
+  public GridCoordinate getCustomerLocation(int index) {
+    return GridCoordinate.of(xs.get(index), ys.get(index));
+  }
+
+  /**
+   * @param index The order index.
+   * @return The {@link Order} at the index.
+   */
+  public Order getOrder(int index) {
+    return new Order(getOrderId(index), LocalTime.ofSecondOfDay(getOrderSecond(index)),
+        getCustomerLocation(index));
+  }
+
+  /**
+   * @return The {@link Order} list in file order.
+   */
+  public List<Order> toOrders() {
+    List<Order> orders = new ArrayList<>(size);
+    for (int index = 0; index < size; index++) {
+      orders.add(getOrder(index));
+    }
+    return orders;
+  }
+
+  /**
+   * Creates the {@link ManifestTable} straight from the columns, without creating any orders. Equal
+   * to {@link ManifestTable#of(List, GridCoordinate)} with {@link OrderCache#toOrders()}. The order
+   * ids stay numbers, so an order id string is only created when the table is asked for it.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate}. Cannot be <code>null</code>.
+   * @return The {@link ManifestTable} in file order.
+   */
+  public ManifestTable toManifestTable(GridCoordinate warehouseLocation) {
+    Preconditions.checkNotNull(warehouseLocation, "The warehouse location cannot be null.");
+
+    int[] orderIdNumbers = new int[size];
+    int[] seconds = new int[size];
+    int[] transitMinutes = new int[size];
+    for (int index = 0; index < size; index++) {
+      orderIdNumbers[index] = toCheckedIdNumber(idNumbers.get(index));
+      seconds[index] = orderSeconds.get(index);
+      transitMinutes[index] = Math.abs(xs.get(index) - warehouseLocation.getX())
+          + Math.abs(ys.get(index) - warehouseLocation.getY());
+    }
+    return ManifestTable.ofIdNumbers(orderIdNumbers, OrderCache::toOrderId, seconds,
+        transitMinutes);
+  }
+
+  @Override
+  public String toString() {
+    return "OrderCache [size=" + size + "]";
+  }
+
+}
@@ -5,10 +5,50 @@ import java.time.LocalTime;
 import java.util.Arrays;
 import challenge.model.CustomerSatisfaction;
 
+/**
+ * Utility for rating a delivery based on the {@link CustomerSatisfaction} ranges.
+ * <p>
+ * The ranges are read once into a table with the rating of every whole hour up to the last
+ * bounded range, so a rating is a single array lookup.
+ * 
+ * @author jeffrey
+ */
 public final class CustomerSatisfactionCalculator {
 
+  private static final long SECONDS_PER_HOUR = 3600;
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+
+  private static final long NANOS_PER_DAY = 24 * 60 * NANOS_PER_MINUTE;
+
+  private static final CustomerSatisfaction[] RATINGS_BY_HOUR = toRatingsByHour();
+
+  /**
+   * The rating of every hour past the table.
+   */
+  private static final CustomerSatisfaction LATER_RATING = toRating(RATINGS_BY_HOUR.length);
+
   private CustomerSatisfactionCalculator() {}
 
+  private static CustomerSatisfaction[] toRatingsByHour() {
+    int hours = Arrays.stream(CustomerSatisfaction.values())
+        .mapToInt(CustomerSatisfaction::getMaximumHours).filter(max -> max != Integer.MAX_VALUE)
+        .max().orElse(0);
+    CustomerSatisfaction[] ratingsByHour = new CustomerSatisfaction[hours];
+    Arrays.setAll(ratingsByHour, CustomerSatisfactionCalculator::toRating);
+    return ratingsByHour;
+  }
+
+  /**
+   * @return The first {@link CustomerSatisfaction} valid for the hours.
+   */
+  private static CustomerSatisfaction toRating(long hours) {
+    return Arrays.stream(CustomerSatisfaction.values()).filter(rating -> rating.isValid(hours))
+        .findFirst().orElse(CustomerSatisfaction.DETRACTOR);
+  }
+
   /**
    * Calculates the arrival time by adding the one way delivery duration to the departure time.
    * 
@@ -19,7 +59,9 @@ public final class CustomerSatisfactionCalculator {
    */
   public static final CustomerSatisfaction getRating(LocalTime orderTime, LocalTime departureTime,
       int oneWayDeliveryDuration) {
-    return getRating(orderTime, departureTime.plusMinutes(oneWayDeliveryDuration));
+    long arrivalNano = Math.floorMod(
+        departureTime.toNanoOfDay() + oneWayDeliveryDuration * NANOS_PER_MINUTE, NANOS_PER_DAY);
+    return getRating(toSeconds(arrivalNano - orderTime.toNanoOfDay()));
   }
 
   /**
@@ -31,11 +73,32 @@ public final class CustomerSatisfactionCalculator {
    * @return The valid {@link CustomerSatisfaction}.
    */
   public static final CustomerSatisfaction getRating(LocalTime orderTime, LocalTime arrivalTime) {
-    Duration timeToDelivery = Duration.between(orderTime, arrivalTime);
-    long hoursToDelivery = timeToDelivery.toHours();
-    return Arrays.stream(CustomerSatisfaction.values())
-        .filter(rating -> rating.isValid(hoursToDelivery)).findFirst()
-        .orElse(CustomerSatisfaction.DETRACTOR);
+    return getRating(toSeconds(arrivalTime.toNanoOfDay() - orderTime.toNanoOfDay()));
+  }
+
+  /**
+   * Rounds down to whole seconds like {@link Duration#getSeconds()}.
+   */
+  private static long toSeconds(long nanos) {
+    return Math.floorDiv(nanos, NANOS_PER_SECOND);
+  }
+
+  /**
+   * Looks up the {@link CustomerSatisfaction} of the time to delivery. The whole hours are
+   * compared to the ranges like {@link Duration#toHours()}, so a delivery less than an hour before
+   * the order time still counts as zero hours.
+   * 
+   * @param secondsToDelivery The seconds between the order time and the arrival time.
+   * @return The valid {@link CustomerSatisfaction}. {@link CustomerSatisfaction#DETRACTOR} if no
+   *         range matches.
+   */
+  public static final CustomerSatisfaction getRating(long secondsToDelivery) {
+    long hoursToDelivery = secondsToDelivery / SECONDS_PER_HOUR;
+    if (hoursToDelivery < 0) {
+      return CustomerSatisfaction.DETRACTOR;
+    }
+    return hoursToDelivery < RATINGS_BY_HOUR.length ? RATINGS_BY_HOUR[(int) hoursToDelivery]
+        : LATER_RATING;
   }
 
 }
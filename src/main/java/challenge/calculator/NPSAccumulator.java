@@ -0,0 +1,147 @@
+package challenge.calculator;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import com.google.common.base.Preconditions;
+import challenge.model.CustomerSatisfaction;
+import challenge.model.Delivery;
+
+/**
+ * Counts the {@link CustomerSatisfaction} of deliveries one at a time, so the Net Promoter Score
+ * (NPS) can be read at any moment without keeping the deliveries. Accumulators of different
+ * warehouses or partitions can be merged.
+ * <p>
+ * The counters are striped, so any number of threads can add deliveries at the same time without
+ * contending on a single value. A read while deliveries are being added sees every delivery added
+ * before the read started, and possibly some of the ones added during it. Striped counters cost
+ * more per delivery than plain ones, so single threaded counts, such as
+ * {@link NPSCalculator#getNPS(Collection)}, do not use an accumulator.
+ * 
+ * @author jeffrey
+ */
+public final class NPSAccumulator implements Consumer<Delivery> {
+
+  private final LongAdder promoters = new LongAdder();
+
+  private final LongAdder neutrals = new LongAdder();
+
+  private final LongAdder detractors = new LongAdder();
+
+  /**
+   * Creates an accumulator with the ratings of the deliveries.
+   * 
+   * @param deliveries The collection of {@link Delivery}. Cannot be <code>null</code>.
+   * @return The {@link NPSAccumulator}.
+   */
+  public static final NPSAccumulator of(Collection<Delivery> deliveries) {
+    Preconditions.checkNotNull(deliveries, "Deliveries cannot be null.");
+
+    NPSAccumulator accumulator = new NPSAccumulator();
+    deliveries.forEach(accumulator);
+    return accumulator;
+  }
+
+  /**
+   * Adds the rating of the delivery.
+   * 
+   * @param delivery The {@link Delivery}. Cannot be <code>null</code>.
+   */
+  @Override
+  public void accept(Delivery delivery) {
+    Preconditions.checkNotNull(delivery, "Delivery cannot be null.");
+
+    add(delivery.getRating());
+  }
+
+  /**
+   * Adds a single rating.
+   * 
+   * @param rating The {@link CustomerSatisfaction}. Cannot be <code>null</code>.
+   */
+  public void add(CustomerSatisfaction rating) {
+    Preconditions.checkNotNull(rating, "Rating cannot be null.");
+
+    switch (rating) {
+      case PROMOTER:
+        promoters.increment();
+        break;
+      case NEUTRAL:
+        neutrals.increment();
+        break;
+      default:
+        detractors.increment();
+        break;
+    }
+  }
+
+  /**
+   * Adds the counts of the other accumulator. The other accumulator is not changed.
+   * 
+   * @param other The {@link NPSAccumulator} to add. Cannot be <code>null</code>.
+   * @return This accumulator.
+   */
+  public NPSAccumulator merge(NPSAccumulator other) {
+    Preconditions.checkNotNull(other, "The accumulator cannot be null.");
+
+    promoters.add(other.getPromoters());
+    neutrals.add(other.getNeutrals());
+    detractors.add(other.getDetractors());
+    return this;
+  }
+
+  /**
+   * @return The number of {@link CustomerSatisfaction#PROMOTER} deliveries.
+   */
+  public long getPromoters() {
+    return promoters.sum();
+  }
+
+  /**
+   * @return The number of {@link CustomerSatisfaction#NEUTRAL} deliveries.
+   */
+  public long getNeutrals() {
+    return neutrals.sum();
+  }
+
+  /**
+   * @return The number of {@link CustomerSatisfaction#DETRACTOR} deliveries.
+   */
+  public long getDetractors() {
+    return detractors.sum();
+  }
+
+  /**
+   * @return The number of deliveries.
+   */
+  public long getCount() {
+    return getPromoters() + getNeutrals() + getDetractors();
+  }
+
+  /**
+   * @return <code>true</code> if no deliveries have been added.
+   */
+  public boolean isEmpty() {
+    return getCount() == 0;
+  }
+
+  /**
+   * Follows {@link NPSCalculator#getNPS(long, long, long)} with the current counts.
+   * 
+   * @return The Net Promoter Score (NPS).
+   * @throws IllegalArgumentException If no deliveries have been added.
+   */
+  public int getNPS() {
+    long promoterCount = getPromoters();
+    long detractorCount = getDetractors();
+    return NPSCalculator.getNPS(promoterCount, detractorCount,
+        promoterCount + getNeutrals() + detractorCount);
+  }
+
+  @Override
+  public String toString() {
+    return "NPSAccumulator [promoters=" + getPromoters() + ", neutrals=" + getNeutrals()
+        + ", detractors=" + getDetractors() + "]";
+  }
+
+}
@@ -0,0 +1,205 @@
+package challenge.calculator;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.PriorityQueue;
+import com.google.common.base.Preconditions;
+import challenge.model.CustomerSatisfaction;
+import challenge.model.ManifestTable;
+
+/**
+ * An upper bound on the Net Promoter Score (NPS) any schedule of the manifests can reach, so an
+ * optimizer can stop as soon as its best schedule reaches the bound and report how far it is from
+ * the bound otherwise.
+ * <p>
+ * The bound relaxes the single drone to a machine that can start every delivery from the earliest
+ * time any order could leave. Promoters and non-detractors are then each bounded by the largest set
+ * of deliveries that can all leave before their rating deadline and return by the end time, found
+ * with the Moore-Hodgson algorithm in <i>O(n log n)</i>. Orders that cannot reach a rating even
+ * when flown alone, e.g. because they are placed too late in the day, never count towards it.
+ * <p>
+ * Every schedule the relaxation rejects is also rejected by the {@link NPSCalculator}, so the bound
+ * is never lower than the best schedule. It is exact when the day is quiet enough for the drone to
+ * deliver every order in time.
+ * 
+ * @author jeffrey
+ */
+public final class NPSBound {
+
+  private static final int SECONDS_PER_MINUTE = 60;
+
+  private static final int SECONDS_PER_HOUR = 3600;
+
+  private static final int PROMOTER_SECONDS =
+      CustomerSatisfaction.NEUTRAL.getMinimumHours() * SECONDS_PER_HOUR;
+
+  private static final int NEUTRAL_SECONDS =
+      CustomerSatisfaction.DETRACTOR.getMinimumHours() * SECONDS_PER_HOUR;
+
+  private final int size;
+
+  private final int maximumPromoters;
+
+  private final int minimumDetractors;
+
+  private NPSBound(int size, int maximumPromoters, int minimumDetractors) {
+    this.size = size;
+    this.maximumPromoters = maximumPromoters;
+    this.minimumDetractors = minimumDetractors;
+  }
+
+  /**
+   * Calculates the bound of the manifests scheduled first in, first out between the start and end
+   * time, like the {@link challenge.jenetics.ScheduleFitness}.
+   * 
+   * @param manifestTable The {@link ManifestTable}. Cannot be <code>null</code> or empty.
+   * @param startTime The start time for scheduling. Cannot be <code>null</code>.
+   * @param endTime The end time for scheduling. Cannot be <code>null</code>.
+   * @return The {@link NPSBound}.
+   */
+  public static final NPSBound of(ManifestTable manifestTable, LocalTime startTime,
+      LocalTime endTime) {
+    Preconditions.checkNotNull(manifestTable, "Manifests cannot be null.");
+    Preconditions.checkArgument(manifestTable.size() > 0, "Manifests cannot be empty.");
+    Preconditions.checkNotNull(startTime, "The start time cannot be null.");
+    Preconditions.checkNotNull(endTime, "The end time cannot be null.");
+
+    int startSecond = startTime.toSecondOfDay();
+    int endSecond = endTime.toSecondOfDay();
+    int maximumPromoters =
+        getMaximumOnTime(manifestTable, startSecond, endSecond, PROMOTER_SECONDS);
+    int maximumNonDetractors =
+        getMaximumOnTime(manifestTable, startSecond, endSecond, NEUTRAL_SECONDS);
+    return new NPSBound(manifestTable.size(), maximumPromoters,
+        manifestTable.size() - maximumNonDetractors);
+  }
+
+  /**
+   * Counts the largest set of deliveries that can all leave less than the rating seconds after
+   * their order time, less the transit, and return by the end second. Each delivery is a job with
+   * its earliest departure as release time, the round trip as processing time and the latest return
+   * as due time.
+   * <p>
+   * For each whole hour of the window, the jobs released before the hour are all counted as on
+   * time and the jobs released from the hour on are started together from the earliest of their
+   * releases. The smallest count over the hours is the bound.
+   */
+  private static int getMaximumOnTime(ManifestTable manifestTable, int startSecond,
+      int endSecond, int ratingSeconds) {
+    long[] jobs = new long[manifestTable.size()];
+    int[] releaseSeconds = new int[manifestTable.size()];
+    int[] processingSeconds = new int[manifestTable.size()];
+    int jobCount = 0;
+    for (int index = 0; index < manifestTable.size(); index++) {
+      int orderSecond = manifestTable.getOrderSecond(index);
+      int transitSeconds = manifestTable.getTransitMinutes(index) * SECONDS_PER_MINUTE;
+      int departureSecond = Math.max(startSecond, orderSecond);
+      long latestDepartureSecond = (long) orderSecond + ratingSeconds - transitSeconds - 1;
+      long dueSecond = Math.min(latestDepartureSecond + 2L * transitSeconds, endSecond);
+      if (orderSecond < endSecond && departureSecond <= latestDepartureSecond
+          && departureSecond + 2L * transitSeconds <= dueSecond) {
+        jobs[jobCount] = dueSecond << Integer.SIZE | jobCount;
+        releaseSeconds[jobCount] = departureSecond;
+        processingSeconds[jobCount++] = 2 * transitSeconds;
+      }
+    }
+    Arrays.sort(jobs, 0, jobCount);
+
+    int maximumOnTime = jobCount;
+    for (int hourSecond = startSecond; hourSecond < endSecond; hourSecond += SECONDS_PER_HOUR) {
+      maximumOnTime = Math.min(maximumOnTime,
+          getMaximumOnTime(jobs, jobCount, releaseSeconds, processingSeconds, hourSecond));
+    }
+    return maximumOnTime;
+  }
+
+  /**
+   * Runs the Moore-Hodgson algorithm on the jobs released from the hour on, adding jobs in due time
+   * order and dropping the longest job whenever the last one added would be late.
+   */
+  private static int getMaximumOnTime(long[] jobs, int jobCount, int[] releaseSeconds,
+      int[] processingSeconds, int hourSecond) {
+    int earlierJobs = 0;
+    long totalSeconds = Long.MAX_VALUE;
+    for (int job = 0; job < jobCount; job++) {
+      if (releaseSeconds[job] < hourSecond) {
+        earlierJobs++;
+      } else {
+        totalSeconds = Math.min(totalSeconds, releaseSeconds[job]);
+      }
+    }
+
+    PriorityQueue<Integer> onTime = new PriorityQueue<>(Collections.reverseOrder());
+    for (int job = 0; job < jobCount; job++) {
+      int jobIndex = (int) jobs[job];
+      if (releaseSeconds[jobIndex] >= hourSecond) {
+        onTime.add(processingSeconds[jobIndex]);
+        totalSeconds += processingSeconds[jobIndex];
+        if (totalSeconds > jobs[job] >> Integer.SIZE) {
+          totalSeconds -= onTime.poll();
+        }
+      }
+    }
+    return earlierJobs + onTime.size();
+  }
+
+  /**
+   * @return The number of manifests.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return The most promoters any schedule can have.
+   */
+  public int getMaximumPromoters() {
+    return maximumPromoters;
+  }
+
+  /**
+   * @return The fewest detractors any schedule can have.
+   */
+  public int getMinimumDetractors() {
+    return minimumDetractors;
+  }
+
+  /**
+   * @return The highest number of promoters minus detractors any schedule can have.
+   */
+  public int getMaximumScore() {
+    return maximumPromoters - minimumDetractors;
+  }
+
+  /**
+   * @return The highest Net Promoter Score (NPS) any schedule can have.
+   */
+  public int getNPS() {
+    return NPSCalculator.getNPS(maximumPromoters, minimumDetractors, size);
+  }
+
+  /**
+   * @param nps The Net Promoter Score (NPS) of a schedule.
+   * @return <code>true</code> if the schedule reaches the bound, so no schedule is better.
+   */
+  public boolean isOptimal(int nps) {
+    return nps >= getNPS();
+  }
+
+  /**
+   * @param nps The Net Promoter Score (NPS) of a schedule.
+   * @return The NPS the schedule is at most away from the best schedule. Zero if the schedule is
+   *         optimal.
+   */
+  public int getOptimalityGap(int nps) {
+    return Math.max(getNPS() - nps, 0);
+  }
+
+  @Override
+  public String toString() {
+    return "NPSBound [size=" + size + ", maximumPromoters=" + maximumPromoters
+        + ", minimumDetractors=" + minimumDetractors + ", nps=" + getNPS() + "]";
+  }
+
+}
@@ -1,9 +1,6 @@
 package challenge.calculator;
 
 import java.util.Collection;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import com.google.common.base.Preconditions;
 import challenge.model.CustomerSatisfaction;
 import challenge.model.Delivery;
@@ -32,13 +29,30 @@ public final class NPSCalculator {
     Preconditions.checkNotNull(deliveries, "Deliveries cannot be null.");
     Preconditions.checkArgument(!deliveries.isEmpty(), "Deliveries cannot be empty.");
 
-    float size = deliveries.size();
-    Map<CustomerSatisfaction, Long> count = deliveries.stream().map(Delivery::getRating)
-        .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
-    float promoters = count.getOrDefault(CustomerSatisfaction.PROMOTER, 0L);
-    float detractors = count.getOrDefault(CustomerSatisfaction.DETRACTOR, 0L);
+    int promoters = 0;
+    int detractors = 0;
+    for (Delivery delivery : deliveries) {
+      if (delivery.getRating() == CustomerSatisfaction.PROMOTER) {
+        promoters++;
+      } else if (delivery.getRating() == CustomerSatisfaction.DETRACTOR) {
+        detractors++;
+      }
+    }
+    return getNPS(promoters, detractors, deliveries.size());
+  }
+
+  /**
+   * Computes the score based on the percentage of promoters minus the percentage of detractors.
+   * 
+   * @param promoters The number of {@link CustomerSatisfaction#PROMOTER} deliveries.
+   * @param detractors The number of {@link CustomerSatisfaction#DETRACTOR} deliveries.
+   * @param size The total number of deliveries. Must be positive.
+   * @return The Net Promoter Score (NPS).
+   */
+  public static final int getNPS(long promoters, long detractors, long size) {
+    Preconditions.checkArgument(size > 0, "Deliveries cannot be empty.");
 
-    float nps = (promoters - detractors) / size;
+    float nps = ((float) promoters - (float) detractors) / size;
 
     return Math.round(nps * FULL_PERCENTAGE);
   }
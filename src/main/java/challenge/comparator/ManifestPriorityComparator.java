@@ -37,9 +37,11 @@ public class ManifestPriorityComparator implements Comparator<Manifest> {
       Function<Manifest, LocalTime> timeFunction) {
     LocalTime firstManifestTime = timeFunction.apply(firstManifest);
     LocalTime secondManifestTime = timeFunction.apply(secondManifest);
-    if (!currentTime.isAfter(firstManifestTime) && !currentTime.isAfter(secondManifestTime)) {
+    boolean firstManifestLate = currentTime.isAfter(firstManifestTime);
+    boolean secondManifestLate = currentTime.isAfter(secondManifestTime);
+    if (firstManifestLate == secondManifestLate) {
       return 0;
-    } else if (currentTime.isAfter(firstManifestTime)) {
+    } else if (firstManifestLate) {
       return 1;
     } else {
       return -1;
@@ -1,19 +1,35 @@
 package challenge.exporter;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.google.common.base.Preconditions;
 import challenge.calculator.NPSCalculator;
+import challenge.jfr.ExportEvent;
+import challenge.jfr.PipelineEvents;
+import challenge.metrics.PipelineMetrics;
+import challenge.model.CustomerSatisfaction;
 import challenge.model.Delivery;
-import challenge.parser.OrderParser;
+import challenge.parser.OrderTimeCodec;
 
 /**
  * The utility used to export a {@link Delivery} list.
+ * <p>
+ * Lines are encoded straight into a direct {@link ByteBuffer} that is reused by every export on
+ * the same thread, so exports on different threads can run at the same time. The time taken and
+ * the bytes written are recorded in the {@link PipelineMetrics} and as an {@link ExportEvent} once
+ * per export.
  * 
  * @author jeffrey
  */
@@ -27,39 +43,190 @@ public final class DeliveryExporter {
 
   private static final String NPS_FORMAT = "NPS %d";
 
+  private static final byte DELIMITER_BYTE = ' ';
+
+  private static final byte[] LINE_SEPARATOR =
+      System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+  /**
+   * The delimiter, departure time and line separator written after the order id.
+   */
+  private static final int DEPARTURE_TIME_LENGTH =
+      1 + OrderTimeCodec.LENGTH + LINE_SEPARATOR.length;
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private static final ThreadLocal<ByteBuffer> BUFFERS =
+      ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
   private DeliveryExporter() {}
 
   /**
-   * Sorts the deliveries by departure time and writes the deliveries to a file. Formats the
-   * deliveries with {@link DeliveryExporter#toLine(Delivery)}. Appends the Net Promoter Score (NPS)
-   * at the end of the file.
+   * Writes the deliveries to drone-delivery-output.txt. Follows
+   * {@link DeliveryExporter#exportToFile(List, String)}.
    * 
    * @param deliveries The {@link Delivery} list to export.
-   * @return The path to the export file. <code>null</code> if deliveries invalid.
+   * @return The path to the export file. <code>null</code> if deliveries invalid or writing
+   *         failed.
    */
   public static final String exportToFile(List<Delivery> deliveries) {
+    return exportToFile(deliveries, FILE_PATH);
+  }
+
+  /**
+   * Sorts the deliveries by departure time and writes the deliveries to a file. Formats the
+   * deliveries like {@link DeliveryExporter#toLine(Delivery)}. Appends the Net Promoter Score (NPS)
+   * at the end of the file. The list itself is not modified.
+   * 
+   * @param deliveries The {@link Delivery} list to export.
+   * @param filePath The path to the export file. Cannot be <code>null</code>.
+   * @return The path to the export file. <code>null</code> if deliveries invalid or writing
+   *         failed.
+   */
+  public static final String exportToFile(List<Delivery> deliveries, String filePath) {
+    Preconditions.checkNotNull(filePath, "The file path cannot be null.");
+
     if (deliveries != null && !deliveries.isEmpty()) {
-      Collections.sort(deliveries);
-      File file = new File(FILE_PATH);
-      try (BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(file))) {
-        deliveries.stream().map(DeliveryExporter::toLine)
-            .forEach(line -> writeNewLine(bufferedWriter, line));
-        writeNewLine(bufferedWriter, String.format(NPS_FORMAT, NPSCalculator.getNPS(deliveries)));
+      File file = new File(filePath);
+      try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+          StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+        export(deliveries, fileChannel);
       } catch (IOException exception) {
-        LOG.error("Unable to write to file at path: {}", FILE_PATH);
+        LOG.error("Unable to write to file at path: {}", filePath);
+        return null;
       }
       return file.getAbsolutePath();
     }
     return null;
   }
 
-  private static final void writeNewLine(BufferedWriter bufferedWriter, String line) {
-    try {
-      bufferedWriter.write(line);
-      bufferedWriter.newLine();
-    } catch (IOException exception) {
-      LOG.error("Unable to write line.", exception);
+  /**
+   * Writes the deliveries to the stream. Follows
+   * {@link DeliveryExporter#export(List, WritableByteChannel)}. The stream is not closed.
+   * 
+   * @param deliveries The {@link Delivery} list to export. Cannot be <code>null</code> or empty.
+   * @param outputStream The {@link OutputStream} to write to. Cannot be <code>null</code>.
+   * @return The Net Promoter Score (NPS).
+   * @throws IOException If writing fails.
+   */
+  public static final int export(List<Delivery> deliveries, OutputStream outputStream)
+      throws IOException {
+    Preconditions.checkNotNull(outputStream, "The output stream cannot be null.");
+
+    return export(deliveries, Channels.newChannel(outputStream));
+  }
+
+  /**
+   * Sorts the deliveries by departure time and writes a line for each delivery to the channel,
+   * followed by the Net Promoter Score (NPS). The NPS is counted while the lines are written. The
+   * list itself is not modified and the channel is not closed.
+   * 
+   * @param deliveries The {@link Delivery} list to export. Cannot be <code>null</code> or empty.
+   * @param channel The {@link WritableByteChannel} to write to. Cannot be <code>null</code>.
+   * @return The Net Promoter Score (NPS).
+   * @throws IOException If writing fails.
+   */
+  public static final int export(List<Delivery> deliveries, WritableByteChannel channel)
+      throws IOException {
+    Preconditions.checkNotNull(deliveries, "Deliveries cannot be null.");
+    Preconditions.checkArgument(!deliveries.isEmpty(), "Deliveries cannot be empty.");
+    Preconditions.checkNotNull(channel, "The channel cannot be null.");
+
+    ExportEvent event = PipelineEvents.newExportEvent();
+    event.begin();
+    long startNanos = System.nanoTime();
+    List<Delivery> sortedDeliveries = new ArrayList<>(deliveries);
+    Collections.sort(sortedDeliveries);
+
+    ByteBuffer buffer = BUFFERS.get();
+    buffer.clear();
+    long bytesWritten = 0;
+    int promoters = 0;
+    int detractors = 0;
+    for (Delivery delivery : sortedDeliveries) {
+      bytesWritten += writeLine(delivery, buffer, channel);
+      if (delivery.getRating() == CustomerSatisfaction.PROMOTER) {
+        promoters++;
+      } else if (delivery.getRating() == CustomerSatisfaction.DETRACTOR) {
+        detractors++;
+      }
+    }
+    int nps = NPSCalculator.getNPS(promoters, detractors, sortedDeliveries.size());
+    bytesWritten += writeAscii(String.format(NPS_FORMAT, nps), buffer, channel);
+    bytesWritten += writeBytes(LINE_SEPARATOR, buffer, channel);
+    bytesWritten += flush(buffer, channel);
+
+    PipelineMetrics metrics = PipelineMetrics.get();
+    metrics.addBytesWritten(bytesWritten);
+    metrics.setLastNPS(nps);
+    metrics.getExportTimer().recordSince(startNanos);
+    event.end();
+    if (event.shouldCommit()) {
+      event.setDeliveries(sortedDeliveries.size());
+      event.setBytesWritten(bytesWritten);
+      event.setNPS(nps);
+      event.commit();
+    }
+    return nps;
+  }
+
+  /**
+   * @return The number of bytes flushed to the channel.
+   */
+  private static final int writeLine(Delivery delivery, ByteBuffer buffer,
+      WritableByteChannel channel) throws IOException {
+    int flushed = writeAscii(delivery.getOrderId(), buffer, channel);
+    if (buffer.remaining() < DEPARTURE_TIME_LENGTH) {
+      flushed += flush(buffer, channel);
+    }
+    buffer.put(DELIMITER_BYTE);
+    OrderTimeCodec.format(delivery.getDepartureTime().toSecondOfDay(), buffer);
+    buffer.put(LINE_SEPARATOR);
+    return flushed;
+  }
+
+  /**
+   * Writes the characters as single bytes. Order ids and the NPS line are ASCII.
+   * 
+   * @return The number of bytes flushed to the channel.
+   */
+  private static final int writeAscii(CharSequence characters, ByteBuffer buffer,
+      WritableByteChannel channel) throws IOException {
+    int flushed = 0;
+    for (int index = 0; index < characters.length(); index++) {
+      if (!buffer.hasRemaining()) {
+        flushed += flush(buffer, channel);
+      }
+      buffer.put((byte) characters.charAt(index));
+    }
+    return flushed;
+  }
+
+  /**
+   * @return The number of bytes flushed to the channel.
+   */
+  private static final int writeBytes(byte[] bytes, ByteBuffer buffer,
+      WritableByteChannel channel) throws IOException {
+    int flushed = 0;
+    if (buffer.remaining() < bytes.length) {
+      flushed = flush(buffer, channel);
+    }
+    buffer.put(bytes);
+    return flushed;
+  }
+
+  /**
+   * @return The number of bytes flushed to the channel.
+   */
+  private static final int flush(ByteBuffer buffer, WritableByteChannel channel)
+      throws IOException {
+    buffer.flip();
+    int flushed = buffer.remaining();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
     }
+    buffer.clear();
+    return flushed;
   }
 
   /**
@@ -72,7 +239,7 @@ public final class DeliveryExporter {
     StringBuilder stringBuilder = new StringBuilder();
     stringBuilder.append(delivery.getOrderId());
     stringBuilder.append(DELIMITER);
-    stringBuilder.append(OrderParser.formatOrderTime(delivery.getDepartureTime()));
+    OrderTimeCodec.append(delivery.getDepartureTime(), stringBuilder);
     return stringBuilder.toString();
   }
 
@@ -0,0 +1,62 @@
+package challenge.generator;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The relative rate at which orders arrive during each hour of the delivery window, from 06:00 to
+ * 22:00. Orders are spread evenly within an hour.
+ * 
+ * @author jeffrey
+ */
+public enum ArrivalProfile {
+  /**
+   * Orders arrive at the same rate all day.
+   */
+  UNIFORM(1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1),
+  /**
+   * Most orders arrive around lunch time, tailing off towards the start and end of the day.
+   */
+  MIDDAY_PEAK(1, 2, 3, 5, 7, 9, 9, 7, 5, 4, 3, 2, 2, 1, 1, 1),
+  /**
+   * Orders peak in the morning, at lunch time and in the evening.
+   */
+  RUSH_HOURS(3, 6, 6, 3, 2, 4, 6, 4, 2, 2, 3, 6, 7, 5, 3, 1);
+
+  /**
+   * The number of hours in the delivery window.
+   */
+  public static final int HOURS = 16;
+
+  private static final int SECONDS_PER_HOUR = 3600;
+
+  private final int[] cumulativeWeights;
+
+  /**
+   * The constructor.
+   * 
+   * @param hourlyWeights The relative rate of each hour of the delivery window. Must be positive.
+   */
+  ArrivalProfile(int... hourlyWeights) {
+    this.cumulativeWeights = new int[hourlyWeights.length];
+    int total = 0;
+    for (int hour = 0; hour < hourlyWeights.length; hour++) {
+      total += hourlyWeights[hour];
+      cumulativeWeights[hour] = total;
+    }
+  }
+
+  /**
+   * Draws the time an order arrives.
+   * 
+   * @param random The {@link Random} to draw from.
+   * @return The seconds between the start of the delivery window and the order time.
+   */
+  public int nextSecond(Random random) {
+    int weight = random.nextInt(cumulativeWeights[HOURS - 1]);
+    int hour = Arrays.binarySearch(cumulativeWeights, weight + 1);
+    hour = hour < 0 ? -hour - 1 : hour;
+    return hour * SECONDS_PER_HOUR + random.nextInt(SECONDS_PER_HOUR);
+  }
+
+}
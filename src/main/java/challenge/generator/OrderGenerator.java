@@ -0,0 +1,289 @@
+package challenge.generator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import com.google.common.base.Preconditions;
+import challenge.model.GridCoordinate;
+import challenge.model.Order;
+import challenge.parser.OrderTimeCodec;
+
+/**
+ * Generates reproducible days of orders for load and scale testing. Order times follow an
+ * {@link ArrivalProfile} over the delivery window and customer locations follow a
+ * {@link SpatialDistribution} around the warehouse. The same seed always generates the same orders.
+ * <p>
+ * Orders are generated sorted by order time, so they can be streamed to the schedulers that expect
+ * sorted orders. Only the number of orders in each second of the window is kept while generating,
+ * so days of millions of orders can be streamed or written to a file without holding them in
+ * memory.
+ * <p>
+ * Order ids match the <code>WM[0-9]{4}</code> format of the order files, which has room for
+ * {@link OrderGenerator#MAXIMUM_ORDERS} ids. Days of up to that many orders are generated with
+ * unique ids, so their deliveries can be matched back to the orders. Larger loads, e.g. days of
+ * millions of orders for benchmarks and capacity tests, are generated with the <code>*Load</code>
+ * methods and reuse the ids.
+ * 
+ * @author jeffrey
+ */
+public final class OrderGenerator {
+
+  /**
+   * The largest offset from the warehouse used when none is given.
+   */
+  public static final int DEFAULT_MAXIMUM_DISTANCE = 60;
+
+  /**
+   * The largest number of orders with unique ids.
+   */
+  public static final int MAXIMUM_ORDERS = 10000;
+
+  private static final int START_SECOND = LocalTime.of(6, 0).toSecondOfDay();
+
+  private static final int WINDOW_SECONDS = ArrivalProfile.HOURS * 3600;
+
+  private static final String ORDER_ID_PREFIX = "WM";
+
+  private static final int ORDER_ID_DIGITS = 4;
+
+  private final GridCoordinate warehouseLocation;
+
+  private final ArrivalProfile arrivalProfile;
+
+  private final SpatialDistribution spatialDistribution;
+
+  private final int maximumDistance;
+
+  /**
+   * Equivalent to calling
+   * {@link OrderGenerator#OrderGenerator(GridCoordinate, ArrivalProfile, SpatialDistribution, int)}
+   * with {@link SpatialDistribution#UNIFORM} and {@link OrderGenerator#DEFAULT_MAXIMUM_DISTANCE}.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate} customers live around. Cannot be
+   *        <code>null</code>.
+   * @param arrivalProfile The {@link ArrivalProfile} of the order times. Cannot be
+   *        <code>null</code>.
+   */
+  public OrderGenerator(GridCoordinate warehouseLocation, ArrivalProfile arrivalProfile) {
+    this(warehouseLocation, arrivalProfile, SpatialDistribution.UNIFORM,
+        DEFAULT_MAXIMUM_DISTANCE);
+  }
+
+  /**
+   * The constructor.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate} customers live around. Cannot be
+   *        <code>null</code>.
+   * @param arrivalProfile The {@link ArrivalProfile} of the order times. Cannot be
+   *        <code>null</code>.
+   * @param spatialDistribution The {@link SpatialDistribution} of the customer locations. Cannot
+   *        be <code>null</code>.
+   * @param maximumDistance The largest offset from the warehouse on each axis. Cannot be negative.
+   */
+  public OrderGenerator(GridCoordinate warehouseLocation, ArrivalProfile arrivalProfile,
+      SpatialDistribution spatialDistribution, int maximumDistance) {
+    Preconditions.checkNotNull(warehouseLocation, "The warehouse location cannot be null.");
+    Preconditions.checkNotNull(arrivalProfile, "The arrival profile cannot be null.");
+    Preconditions.checkNotNull(spatialDistribution, "The spatial distribution cannot be null.");
+    Preconditions.checkArgument(maximumDistance >= 0, "The maximum distance cannot be negative.");
+
+    this.warehouseLocation = warehouseLocation;
+    this.arrivalProfile = arrivalProfile;
+    this.spatialDistribution = spatialDistribution;
+    this.maximumDistance = maximumDistance;
+  }
+
+  /**
+   * Generates the orders sorted by order time. The order times are drawn when the stream is
+   * created and the customer locations as the stream is consumed. Every order has a unique id.
+   * 
+   * @param numberOfOrders The number of orders to generate. Cannot be negative or more than
+   *        {@link OrderGenerator#MAXIMUM_ORDERS}.
+   * @param seed The seed of the random orders.
+   * @return The {@link Order} stream.
+   */
+  public Stream<Order> stream(int numberOfOrders, long seed) {
+    checkUniqueIds(numberOfOrders);
+
+    return streamLoad(numberOfOrders, seed);
+  }
+
+  /**
+   * Generates the orders sorted by order time. Follows {@link OrderGenerator#stream(int, long)}.
+   * 
+   * @param numberOfOrders The number of orders to generate. Cannot be negative or more than
+   *        {@link OrderGenerator#MAXIMUM_ORDERS}.
+   * @param seed The seed of the random orders.
+   * @return The {@link Order} list.
+   */
+  public List<Order> generate(int numberOfOrders, long seed) {
+    checkUniqueIds(numberOfOrders);
+
+    return generateLoad(numberOfOrders, seed);
+  }
+
+  /**
+   * Writes the orders to an order file that can be read by the
+   * {@link challenge.importer.OrderImporter}, replacing any existing file. Follows
+   * {@link OrderGenerator#stream(int, long)}.
+   * 
+   * @param numberOfOrders The number of orders to generate. Cannot be negative or more than
+   *        {@link OrderGenerator#MAXIMUM_ORDERS}.
+   * @param seed The seed of the random orders.
+   * @param filePath The path to the order file. Cannot be <code>null</code>.
+   * @throws IOException If writing fails.
+   */
+  public void writeFile(int numberOfOrders, long seed, Path filePath) throws IOException {
+    checkUniqueIds(numberOfOrders);
+
+    writeLoadFile(numberOfOrders, seed, filePath);
+  }
+
+  /**
+   * Generates a load of orders sorted by order time for benchmarks and capacity tests, like
+   * {@link OrderGenerator#stream(int, long)} but without a limit. Order ids repeat every
+   * {@link OrderGenerator#MAXIMUM_ORDERS} orders, so the deliveries of a larger load cannot be
+   * matched back to their orders.
+   * 
+   * @param numberOfOrders The number of orders to generate. Cannot be negative.
+   * @param seed The seed of the random orders.
+   * @return The {@link Order} stream.
+   */
+  public Stream<Order> streamLoad(int numberOfOrders, long seed) {
+    Preconditions.checkArgument(numberOfOrders >= 0, "The number of orders cannot be negative.");
+
+    return StreamSupport.stream(Spliterators.spliterator(new OrderIterator(numberOfOrders, seed),
+        numberOfOrders, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+  }
+
+  /**
+   * Generates a load of orders sorted by order time. Follows
+   * {@link OrderGenerator#streamLoad(int, long)}.
+   * 
+   * @param numberOfOrders The number of orders to generate. Cannot be negative.
+   * @param seed The seed of the random orders.
+   * @return The {@link Order} list.
+   */
+  public List<Order> generateLoad(int numberOfOrders, long seed) {
+    List<Order> orders = new ArrayList<>(Math.max(numberOfOrders, 0));
+    streamLoad(numberOfOrders, seed).forEach(orders::add);
+    return orders;
+  }
+
+  /**
+   * Writes a load of orders to an order file, replacing any existing file. Follows
+   * {@link OrderGenerator#streamLoad(int, long)}.
+   * 
+   * @param numberOfOrders The number of orders to generate. Cannot be negative.
+   * @param seed The seed of the random orders.
+   * @param filePath The path to the order file. Cannot be <code>null</code>.
+   * @throws IOException If writing fails.
+   */
+  public void writeLoadFile(int numberOfOrders, long seed, Path filePath) throws IOException {
+    Preconditions.checkNotNull(filePath, "The file path cannot be null.");
+
+    try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.US_ASCII)) {
+      StringBuilder line = new StringBuilder();
+      Iterator<Order> orders = streamLoad(numberOfOrders, seed).iterator();
+      while (orders.hasNext()) {
+        line.setLength(0);
+        writer.append(toLine(orders.next(), line)).append('\n');
+      }
+    }
+  }
+
+  private static void checkUniqueIds(int numberOfOrders) {
+    Preconditions.checkArgument(numberOfOrders <= MAXIMUM_ORDERS,
+        "Order ids are only unique for up to %s orders.", MAXIMUM_ORDERS);
+  }
+
+  /**
+   * Formats the order like the lines of an order file. (e.g. WM0001 N11W5 05:11:50)
+   */
+  private static StringBuilder toLine(Order order, StringBuilder line) {
+    GridCoordinate location = order.getCustomerLocation();
+    line.append(order.getOrderId()).append(' ');
+    line.append(location.getY() < 0 ? 'S' : 'N').append(Math.abs(location.getY()));
+    line.append(location.getX() < 0 ? 'W' : 'E').append(Math.abs(location.getX()));
+    line.append(' ');
+    return OrderTimeCodec.append(order.getOrderTime(), line);
+  }
+
+  private static String toOrderId(int index) {
+    int idNumber = index % MAXIMUM_ORDERS;
+    char[] orderId = new char[ORDER_ID_PREFIX.length() + ORDER_ID_DIGITS];
+    ORDER_ID_PREFIX.getChars(0, ORDER_ID_PREFIX.length(), orderId, 0);
+    for (int digit = orderId.length - 1; digit >= ORDER_ID_PREFIX.length(); digit--) {
+      orderId[digit] = (char) ('0' + idNumber % 10);
+      idNumber /= 10;
+    }
+    return new String(orderId);
+  }
+
+  @Override
+  public String toString() {
+    return "OrderGenerator [warehouseLocation=" + warehouseLocation + ", arrivalProfile="
+        + arrivalProfile + ", spatialDistribution=" + spatialDistribution + ", maximumDistance="
+        + maximumDistance + "]";
+  }
+
+  /**
+   * Draws every order time up front, counting the orders of each second of the window, then draws
+   * the customer locations as the orders are read.
+   */
+  private final class OrderIterator implements Iterator<Order> {
+
+    private final Random random;
+
+    private final int[] ordersBySecond = new int[WINDOW_SECONDS];
+
+    private final int numberOfOrders;
+
+    private int index;
+
+    private int second;
+
+    private OrderIterator(int numberOfOrders, long seed) {
+      this.random = new Random(seed);
+      this.numberOfOrders = numberOfOrders;
+      for (int order = 0; order < numberOfOrders; order++) {
+        ordersBySecond[arrivalProfile.nextSecond(random)]++;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < numberOfOrders;
+    }
+
+    @Override
+    public Order next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      while (ordersBySecond[second] == 0) {
+        second++;
+      }
+      ordersBySecond[second]--;
+      GridCoordinate customerLocation = GridCoordinate.of(
+          warehouseLocation.getX() + spatialDistribution.nextOffset(random, maximumDistance),
+          warehouseLocation.getY() + spatialDistribution.nextOffset(random, maximumDistance));
+      return new Order(toOrderId(index++), LocalTime.ofSecondOfDay(START_SECOND + second),
+          customerLocation);
+    }
+
+  }
+
+}
@@ -0,0 +1,42 @@
+package challenge.generator;
+
+import java.util.Random;
+
+/**
+ * How customer locations are spread around the warehouse. Offsets on each axis are limited to the
+ * maximum distance of the generator.
+ * 
+ * @author jeffrey
+ */
+public enum SpatialDistribution {
+  /**
+   * Every offset up to the maximum distance is equally likely.
+   */
+  UNIFORM {
+    @Override
+    public int nextOffset(Random random, int maximumDistance) {
+      return random.nextInt(maximumDistance * 2 + 1) - maximumDistance;
+    }
+  },
+  /**
+   * Offsets are normally distributed around the warehouse, with the maximum distance three
+   * standard deviations away, so most customers live close to the warehouse.
+   */
+  NORMAL {
+    @Override
+    public int nextOffset(Random random, int maximumDistance) {
+      long offset = Math.round(random.nextGaussian() * maximumDistance / 3);
+      return (int) Math.max(-maximumDistance, Math.min(maximumDistance, offset));
+    }
+  };
+
+  /**
+   * Draws the offset of a customer location from the warehouse on a single axis.
+   * 
+   * @param random The {@link Random} to draw from.
+   * @param maximumDistance The largest offset. Cannot be negative.
+   * @return The offset.
+   */
+  public abstract int nextOffset(Random random, int maximumDistance);
+
+}
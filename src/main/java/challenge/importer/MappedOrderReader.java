@@ -0,0 +1,148 @@
+package challenge.importer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import challenge.metrics.PipelineMetrics;
+import challenge.model.Order;
+import challenge.parser.OrderParser;
+
+/**
+ * Reads orders from a memory-mapped file. The file is split into chunks at line boundaries and the
+ * chunks are parsed on a {@link ForkJoinPool}. Lines are expected to end with a line feed. Each
+ * chunk adds its parsed and rejected lines to the {@link PipelineMetrics} once it is done.
+ * 
+ * @author jeffrey
+ */
+final class MappedOrderReader {
+
+  private static final byte LINE_FEED = '\n';
+
+  private static final long MINIMUM_CHUNK_SIZE = 1 << 16;
+
+  private static final long MAXIMUM_CHUNK_SIZE = Integer.MAX_VALUE;
+
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private static final int SCAN_BUFFER_SIZE = 256;
+
+  private static final int LINE_BUFFER_SIZE = 64;
+
+  private MappedOrderReader() {}
+
+  /**
+   * Parses the file in parallel. Ignores invalid lines.
+   * 
+   * @param filePath The path to the order file.
+   * @param pool The {@link ForkJoinPool} used to parse the chunks.
+   * @return The list of {@link Order} in file order.
+   * @throws IOException If the file cannot be read.
+   */
+  static List<Order> read(Path filePath, ForkJoinPool pool) throws IOException {
+    try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+      long[] boundaries = toChunkBoundaries(channel, pool.getParallelism());
+
+      List<ForkJoinTask<List<Order>>> tasks = new ArrayList<>();
+      for (int chunk = 0; chunk < boundaries.length - 1; chunk++) {
+        long start = boundaries[chunk];
+        long end = boundaries[chunk + 1];
+        tasks.add(pool.submit(() -> readChunk(channel, start, end)));
+      }
+
+      List<Order> orders = new ArrayList<>();
+      tasks.forEach(task -> orders.addAll(task.join()));
+      return orders;
+    }
+  }
+
+  /**
+   * Splits the file into roughly even chunks. Every chunk except the last ends right after a line
+   * feed.
+   */
+  private static long[] toChunkBoundaries(FileChannel channel, int parallelism)
+      throws IOException {
+    long size = channel.size();
+    long chunks = Math.max((long) parallelism * CHUNKS_PER_THREAD,
+        (size + MAXIMUM_CHUNK_SIZE - 1) / MAXIMUM_CHUNK_SIZE);
+    chunks = Math.max(1, Math.min(chunks, size / MINIMUM_CHUNK_SIZE));
+
+    long[] boundaries = new long[(int) chunks + 1];
+    int count = 1;
+    for (long chunk = 1; chunk < chunks; chunk++) {
+      long boundary = nextLineStart(channel, size * chunk / chunks, size);
+      if (boundary > boundaries[count - 1] && boundary < size) {
+        boundaries[count++] = boundary;
+      }
+    }
+    boundaries[count++] = size;
+    return Arrays.copyOf(boundaries, count);
+  }
+
+  private static long nextLineStart(FileChannel channel, long position, long size)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+    while (position < size) {
+      buffer.clear();
+      int read = channel.read(buffer, position);
+      if (read <= 0) {
+        break;
+      }
+      for (int index = 0; index < read; index++) {
+        if (buffer.get(index) == LINE_FEED) {
+          return position + index + 1;
+        }
+      }
+      position += read;
+    }
+    return size;
+  }
+
+  private static List<Order> readChunk(FileChannel channel, long start, long end) {
+    MappedByteBuffer buffer;
+    try {
+      buffer = channel.map(MapMode.READ_ONLY, start, end - start);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+
+    List<Order> orders = new ArrayList<>();
+    long lines = 0;
+    byte[] line = new byte[LINE_BUFFER_SIZE];
+    int length = 0;
+    while (buffer.hasRemaining()) {
+      byte next = buffer.get();
+      if (next == LINE_FEED) {
+        lines += length == 0 ? 0 : 1;
+        addOrder(orders, line, length);
+        length = 0;
+      } else {
+        if (length == line.length) {
+          line = Arrays.copyOf(line, length * 2);
+        }
+        line[length++] = next;
+      }
+    }
+    lines += length == 0 ? 0 : 1;
+    addOrder(orders, line, length);
+    PipelineMetrics.get().addOrderLines(orders.size(), lines - orders.size());
+    return orders;
+  }
+
+  private static void addOrder(List<Order> orders, byte[] line, int length) {
+    Order order = OrderParser.toOrder(line, 0, length);
+    if (order != null) {
+      orders.add(order);
+    }
+  }
+
+}
@@ -3,13 +3,20 @@ package challenge.importer;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
-import java.time.LocalTime;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import challenge.model.GridCoordinate;
+import challenge.jfr.ImportEvent;
+import challenge.jfr.PipelineEvents;
+import challenge.metrics.PipelineMetrics;
 import challenge.model.Order;
 import challenge.parser.OrderParser;
 
@@ -17,6 +24,8 @@ import challenge.parser.OrderParser;
  * The order importer. Assumes the columns in the file are in the following order:
  * <p>
  * ID, LOCATION, TIME.
+ * <p>
+ * Every imported file is recorded as an {@link ImportEvent}.
  * 
  * @author jeffrey
  */
@@ -24,9 +33,7 @@ public final class OrderImporter {
 
   private static final Logger LOG = LoggerFactory.getLogger(OrderImporter.class);
 
-  private static final String DELIMITER = " ";
-
-  private static final int NUMBER_OF_COLUMNS = 3;
+  private static final int COUNTED_LINES = 1024;
 
   private OrderImporter() {}
 
@@ -37,16 +44,98 @@ public final class OrderImporter {
    * @return The list of {@link Order}.
    */
   public static final List<Order> parseFile(String filePath) {
+    ImportEvent event = PipelineEvents.newImportEvent();
+    event.begin();
+    long startNanos = System.nanoTime();
     List<Order> orders = new ArrayList<>();
-    try (BufferedReader bufferedReader = new BufferedReader(new FileReader(filePath))) {
-      bufferedReader.lines().map(OrderImporter::toOrder).filter(Objects::nonNull)
-          .forEach(orders::add);
-    } catch (IOException exception) {
+    try (Stream<Order> orderStream = streamFile(filePath)) {
+      orderStream.forEach(orders::add);
+    } catch (UncheckedIOException exception) {
+      LOG.error("Unable to read file at path: {}.", filePath);
+    }
+    PipelineMetrics.get().getImportTimer().recordSince(startNanos);
+    commit(event, filePath, orders, false);
+    return orders;
+  }
+
+  /**
+   * Parses the file in parallel on the common {@link ForkJoinPool}. Follows
+   * {@link OrderImporter#parseFileInParallel(String, ForkJoinPool)}.
+   * 
+   * @param filePath The path to the order file to importer.
+   * @return The list of {@link Order} in file order.
+   */
+  public static final List<Order> parseFileInParallel(String filePath) {
+    return parseFileInParallel(filePath, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Memory-maps the file, splits it into chunks at line boundaries and parses the chunks on the
+   * pool. Ignores invalid lines. Lines are expected to end with a line feed and to be ASCII, so
+   * large order archives can be read with every core.
+   * 
+   * @param filePath The path to the order file to importer.
+   * @param pool The {@link ForkJoinPool} used to parse the chunks. Cannot be <code>null</code>.
+   * @return The list of {@link Order} in file order. Empty if the file cannot be read.
+   */
+  public static final List<Order> parseFileInParallel(String filePath, ForkJoinPool pool) {
+    Preconditions.checkNotNull(pool, "The pool cannot be null.");
+    ImportEvent event = PipelineEvents.newImportEvent();
+    event.begin();
+    long startNanos = System.nanoTime();
+    List<Order> orders = new ArrayList<>();
+    try {
+      orders = MappedOrderReader.read(Paths.get(filePath), pool);
+    } catch (IOException | UncheckedIOException exception) {
       LOG.error("Unable to read file at path: {}.", filePath);
     }
+    PipelineMetrics.get().getImportTimer().recordSince(startNanos);
+    commit(event, filePath, orders, true);
     return orders;
   }
 
+  private static final void commit(ImportEvent event, String filePath, List<Order> orders,
+      boolean parallel) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.setFilePath(filePath);
+      event.setOrders(orders.size());
+      event.setParallel(parallel);
+      event.commit();
+    }
+  }
+
+  /**
+   * Lazily parses the file to get the orders. Ignores invalid lines. Lines are only read as the
+   * stream is consumed, so the stream must be closed to release the file. Parsed and rejected lines
+   * are counted in the {@link PipelineMetrics} once per {@value OrderImporter#COUNTED_LINES} lines
+   * and when the stream is closed. The stream is expected to be consumed on a single thread.
+   * 
+   * @param filePath The path to the order file to importer.
+   * @return The {@link Order} stream. Empty if the file cannot be opened.
+   */
+  public static final Stream<Order> streamFile(String filePath) {
+    try {
+      BufferedReader bufferedReader = new BufferedReader(new FileReader(filePath));
+      LineCounter lineCounter = new LineCounter();
+      return bufferedReader.lines().map(lineCounter).filter(Objects::nonNull).onClose(() -> {
+        lineCounter.flush();
+        close(bufferedReader, filePath);
+      });
+    } catch (IOException exception) {
+      LOG.error("Unable to read file at path: {}.", filePath);
+    }
+    return Stream.empty();
+  }
+
+  private static final void close(BufferedReader bufferedReader, String filePath) {
+    try {
+      bufferedReader.close();
+    } catch (IOException exception) {
+      LOG.error("Unable to close file at path: {}.", filePath);
+    }
+  }
+
   /**
    * Parses a String into an {@link Order}. Expects the String to be in the format:
    * <p>
@@ -56,19 +145,41 @@ public final class OrderImporter {
    * @return The parsed {@link Order} or <code>null</code> if invalid.
    */
   public static final Order toOrder(String line) {
-    Order order = null;
-    if (line != null) {
-      String[] columns = line.trim().split(DELIMITER);
-      if (columns.length == NUMBER_OF_COLUMNS) {
-        String orderId = OrderParser.toOrderId(columns[0]);
-        GridCoordinate coordinate = OrderParser.toGridCoordinates(columns[1]);
-        LocalTime orderTime = OrderParser.toOrderTime(columns[2]);
-        if (orderId != null && coordinate != null && orderTime != null) {
-          order = new Order(orderId, orderTime, coordinate);
-        }
+    return line == null ? null : OrderParser.toOrder(line, 0, line.length());
+  }
+
+  /**
+   * Parses the lines of a single stream and counts them in plain ints, which are added to the
+   * {@link PipelineMetrics} once per batch of lines.
+   */
+  private static final class LineCounter implements Function<String, Order> {
+
+    private int parsed;
+
+    private int rejected;
+
+    @Override
+    public Order apply(String line) {
+      Order order = toOrder(line);
+      if (order != null) {
+        parsed++;
+      } else if (!line.isEmpty()) {
+        rejected++;
       }
+      if (parsed + rejected == COUNTED_LINES) {
+        flush();
+      }
+      return order;
     }
-    return order;
+
+    private void flush() {
+      if (parsed + rejected > 0) {
+        PipelineMetrics.get().addOrderLines(parsed, rejected);
+        parsed = 0;
+        rejected = 0;
+      }
+    }
+
   }
 
 }
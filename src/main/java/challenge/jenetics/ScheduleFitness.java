@@ -0,0 +1,102 @@
+package challenge.jenetics;
+
+import java.time.LocalTime;
+import java.util.List;
+import com.google.common.base.Preconditions;
+import challenge.calculator.NPSCalculator;
+import challenge.model.CustomerSatisfaction;
+import challenge.model.Manifest;
+import challenge.model.ManifestTable;
+import challenge.scheduler.FifoOrderScheduler;
+
+/**
+ * Calculates the NPS of a first in, first out schedule without creating any {@link Manifest},
+ * {@link challenge.model.Delivery} or time instances. Every schedule is evaluated with a single
+ * pass over the permutation using the primitive columns of a {@link ManifestTable}.
+ * <p>
+ * Matches {@link FifoOrderScheduler} followed by {@link NPSCalculator#getNPS}. Order times are
+ * expected to have a precision of seconds.
+ * 
+ * @author jeffrey
+ */
+public final class ScheduleFitness {
+
+  private final ManifestTable manifestTable;
+
+  private final int startSecond;
+
+  private final int endSecond;
+
+  /**
+   * The constructor.
+   * 
+   * @param manifests The {@link Manifest}s. The indices are used by the schedules. Cannot be
+   *        <code>null</code>.
+   * @param startTime The start time for scheduling. Cannot be <code>null</code>.
+   * @param endTime The end time for scheduling. Cannot be <code>null</code>.
+   */
+  public ScheduleFitness(List<Manifest> manifests, LocalTime startTime, LocalTime endTime) {
+    this(ManifestTable.ofManifests(manifests), startTime, endTime);
+  }
+
+  /**
+   * The constructor.
+   * 
+   * @param manifestTable The {@link ManifestTable}. The indices are used by the schedules. Cannot
+   *        be <code>null</code>.
+   * @param startTime The start time for scheduling. Cannot be <code>null</code>.
+   * @param endTime The end time for scheduling. Cannot be <code>null</code>.
+   */
+  public ScheduleFitness(ManifestTable manifestTable, LocalTime startTime, LocalTime endTime) {
+    Preconditions.checkNotNull(manifestTable, "Manifests cannot be null.");
+    Preconditions.checkNotNull(startTime, "The start time cannot be null.");
+    Preconditions.checkNotNull(endTime, "The end time cannot be null.");
+
+    this.manifestTable = manifestTable;
+    this.startSecond = startTime.toSecondOfDay();
+    this.endSecond = endTime.toSecondOfDay();
+  }
+
+  /**
+   * @return The number of manifests.
+   */
+  public int size() {
+    return manifestTable.size();
+  }
+
+  /**
+   * Schedules the manifests in the given order and calculates the Net Promoter Score (NPS).
+   * 
+   * @param schedule The permutation of manifest indices. Must contain every index once.
+   * @return The Net Promoter Score (NPS).
+   */
+  public int getNPS(int[] schedule) {
+    Preconditions.checkArgument(schedule.length == size(), "Schedule must contain every index.");
+
+    int promoters = 0;
+    int detractors = 0;
+    int currentSecond = startSecond;
+    for (int index : schedule) {
+      int orderSecond = manifestTable.getOrderSecond(index);
+      if (orderSecond >= endSecond) {
+        detractors++;
+      } else {
+        currentSecond = Math.max(currentSecond, orderSecond);
+        int completionSecond = manifestTable.getCompletionSecond(index, currentSecond);
+        if (completionSecond > endSecond) {
+          detractors++;
+        } else {
+          CustomerSatisfaction rating = manifestTable.getRating(index, currentSecond);
+          if (rating == CustomerSatisfaction.PROMOTER) {
+            promoters++;
+          } else if (rating == CustomerSatisfaction.DETRACTOR) {
+            detractors++;
+          }
+          currentSecond = completionSecond;
+        }
+      }
+    }
+    return NPSCalculator.getNPS(promoters, detractors, schedule.length);
+  }
+
+}
@@ -0,0 +1,26 @@
+package challenge.jfr;
+
+/**
+ * The flight recorder event of a single delivery list exported. The duration of the event is the
+ * time taken to sort and write the deliveries.
+ * 
+ * @author jeffrey
+ */
+public interface ExportEvent extends PipelineEvent {
+
+  /**
+   * @param deliveries The number of deliveries exported.
+   */
+  void setDeliveries(int deliveries);
+
+  /**
+   * @param bytesWritten The number of bytes written.
+   */
+  void setBytesWritten(long bytesWritten);
+
+  /**
+   * @param nps The Net Promoter Score (NPS) of the deliveries.
+   */
+  void setNPS(int nps);
+
+}
@@ -0,0 +1,36 @@
+package challenge.jfr;
+
+/**
+ * The flight recorder event of a single generation of genetic search. The generation has already
+ * been evaluated when the event is created, so its times are carried as fields.
+ * 
+ * @author jeffrey
+ */
+public interface GenerationEvent extends PipelineEvent {
+
+  /**
+   * @param generation The number of the generation, starting at one.
+   */
+  void setGeneration(long generation);
+
+  /**
+   * @param bestNPS The NPS of the best schedule of the generation.
+   */
+  void setBestNPS(int bestNPS);
+
+  /**
+   * @param populationSize The number of schedules in the generation.
+   */
+  void setPopulationSize(int populationSize);
+
+  /**
+   * @param evaluationNanos The nanoseconds spent evaluating fitness.
+   */
+  void setEvaluationNanos(long evaluationNanos);
+
+  /**
+   * @param evolveNanos The nanoseconds spent evolving the generation.
+   */
+  void setEvolveNanos(long evolveNanos);
+
+}
@@ -0,0 +1,26 @@
+package challenge.jfr;
+
+/**
+ * The flight recorder event of a single order file imported. The duration of the event is the time
+ * taken to read and parse the file.
+ * 
+ * @author jeffrey
+ */
+public interface ImportEvent extends PipelineEvent {
+
+  /**
+   * @param filePath The path to the order file.
+   */
+  void setFilePath(String filePath);
+
+  /**
+   * @param orders The number of orders parsed.
+   */
+  void setOrders(int orders);
+
+  /**
+   * @param parallel <code>true</code> if the file was parsed in parallel.
+   */
+  void setParallel(boolean parallel);
+
+}
@@ -0,0 +1,46 @@
+package challenge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The {@link ExportEvent} recorded by the flight recorder.
+ * 
+ * @author jeffrey
+ */
+@Name("challenge.Export")
+@Label("Export")
+@Category({"Drone Delivery", "Exporter"})
+@Description("Exports a delivery list")
+final class JfrExportEvent extends Event implements ExportEvent {
+
+  @Label("Deliveries")
+  private int deliveries;
+
+  @Label("Bytes Written")
+  @DataAmount(DataAmount.BYTES)
+  private long bytesWritten;
+
+  @Label("NPS")
+  private int nps;
+
+  @Override
+  public void setDeliveries(int deliveries) {
+    this.deliveries = deliveries;
+  }
+
+  @Override
+  public void setBytesWritten(long bytesWritten) {
+    this.bytesWritten = bytesWritten;
+  }
+
+  @Override
+  public void setNPS(int nps) {
+    this.nps = nps;
+  }
+
+}
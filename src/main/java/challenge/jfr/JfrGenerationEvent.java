@@ -0,0 +1,64 @@
+package challenge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * The {@link GenerationEvent} recorded by the flight recorder.
+ * 
+ * @author jeffrey
+ */
+@Name("challenge.Generation")
+@Label("Generation")
+@Category({"Drone Delivery", "Scheduler"})
+@Description("Evolves a generation of schedules")
+final class JfrGenerationEvent extends Event implements GenerationEvent {
+
+  @Label("Generation")
+  private long generation;
+
+  @Label("Best NPS")
+  private int bestNPS;
+
+  @Label("Population Size")
+  private int populationSize;
+
+  @Label("Evaluation Time")
+  @Timespan(Timespan.NANOSECONDS)
+  private long evaluationNanos;
+
+  @Label("Evolve Time")
+  @Description("The time taken to select, alter and evaluate the generation")
+  @Timespan(Timespan.NANOSECONDS)
+  private long evolveNanos;
+
+  @Override
+  public void setGeneration(long generation) {
+    this.generation = generation;
+  }
+
+  @Override
+  public void setBestNPS(int bestNPS) {
+    this.bestNPS = bestNPS;
+  }
+
+  @Override
+  public void setPopulationSize(int populationSize) {
+    this.populationSize = populationSize;
+  }
+
+  @Override
+  public void setEvaluationNanos(long evaluationNanos) {
+    this.evaluationNanos = evaluationNanos;
+  }
+
+  @Override
+  public void setEvolveNanos(long evolveNanos) {
+    this.evolveNanos = evolveNanos;
+  }
+
+}
@@ -0,0 +1,45 @@
+package challenge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The {@link ImportEvent} recorded by the flight recorder.
+ * 
+ * @author jeffrey
+ */
+@Name("challenge.Import")
+@Label("Import")
+@Category({"Drone Delivery", "Importer"})
+@Description("Imports an order file")
+final class JfrImportEvent extends Event implements ImportEvent {
+
+  @Label("File Path")
+  private String filePath;
+
+  @Label("Orders")
+  private int orders;
+
+  @Label("Parallel")
+  @Description("The file was memory-mapped and parsed in parallel")
+  private boolean parallel;
+
+  @Override
+  public void setFilePath(String filePath) {
+    this.filePath = filePath;
+  }
+
+  @Override
+  public void setOrders(int orders) {
+    this.orders = orders;
+  }
+
+  @Override
+  public void setParallel(boolean parallel) {
+    this.parallel = parallel;
+  }
+
+}
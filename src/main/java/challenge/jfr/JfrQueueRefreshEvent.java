@@ -0,0 +1,37 @@
+package challenge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The {@link QueueRefreshEvent} recorded by the flight recorder.
+ * 
+ * @author jeffrey
+ */
+@Name("challenge.QueueRefresh")
+@Label("Queue Refresh")
+@Category({"Drone Delivery", "Scheduler"})
+@Description("Adds the ordered manifests to the queue and sorts it")
+final class JfrQueueRefreshEvent extends Event implements QueueRefreshEvent {
+
+  @Label("Added Manifests")
+  private int addedManifests;
+
+  @Label("Queue Depth")
+  @Description("The manifests in the queue after the refresh")
+  private int queueDepth;
+
+  @Override
+  public void setAddedManifests(int addedManifests) {
+    this.addedManifests = addedManifests;
+  }
+
+  @Override
+  public void setQueueDepth(int queueDepth) {
+    this.queueDepth = queueDepth;
+  }
+
+}
@@ -0,0 +1,45 @@
+package challenge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The {@link ScheduleEvent} recorded by the flight recorder.
+ * 
+ * @author jeffrey
+ */
+@Name("challenge.Schedule")
+@Label("Schedule")
+@Category({"Drone Delivery", "Scheduler"})
+@Description("Schedules an order list")
+final class JfrScheduleEvent extends Event implements ScheduleEvent {
+
+  @Label("Scheduler")
+  private String scheduler;
+
+  @Label("Orders")
+  private int orders;
+
+  @Label("Incomplete Deliveries")
+  @Description("Deliveries that could not complete before the end time")
+  private int incompleteDeliveries;
+
+  @Override
+  public void setScheduler(String scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public void setOrders(int orders) {
+    this.orders = orders;
+  }
+
+  @Override
+  public void setIncompleteDeliveries(int incompleteDeliveries) {
+    this.incompleteDeliveries = incompleteDeliveries;
+  }
+
+}
@@ -0,0 +1,32 @@
+package challenge.jfr;
+
+/**
+ * A flight recorder event of the pipeline. Matches the life cycle of a <code>jdk.jfr.Event</code>
+ * without depending on it, so the pipeline runs on JDKs without the flight recorder. Events are
+ * created by {@link PipelineEvents}.
+ * 
+ * @author jeffrey
+ */
+public interface PipelineEvent {
+
+  /**
+   * Starts timing the event.
+   */
+  void begin();
+
+  /**
+   * Stops timing the event.
+   */
+  void end();
+
+  /**
+   * @return <code>true</code> if the event is recorded, so its fields are worth filling in.
+   */
+  boolean shouldCommit();
+
+  /**
+   * Writes the event to the recording.
+   */
+  void commit();
+
+}
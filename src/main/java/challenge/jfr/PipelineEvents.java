@@ -0,0 +1,167 @@
+package challenge.jfr;
+
+/**
+ * The factory of the {@link PipelineEvent}s. Checks once whether the <code>jdk.jfr</code> API is
+ * available, which JDK 8 has from 8u262. Without it, every event is a no-op that is never
+ * committed, and the flight recorder classes are never loaded.
+ * 
+ * @author jeffrey
+ */
+public final class PipelineEvents {
+
+  private static final String EVENT_CLASS_NAME = "jdk.jfr.Event";
+
+  private static final boolean AVAILABLE = isFlightRecorderPresent();
+
+  private PipelineEvents() {}
+
+  private static boolean isFlightRecorderPresent() {
+    try {
+      Class.forName(EVENT_CLASS_NAME, false, PipelineEvents.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError exception) {
+      return false;
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the events are recorded by the flight recorder.
+   */
+  public static final boolean isAvailable() {
+    return AVAILABLE;
+  }
+
+  /**
+   * @return A new {@link ScheduleEvent}.
+   */
+  public static final ScheduleEvent newScheduleEvent() {
+    return AVAILABLE ? JfrEvents.newScheduleEvent() : NoOpEvent.INSTANCE;
+  }
+
+  /**
+   * @return A new {@link GenerationEvent}.
+   */
+  public static final GenerationEvent newGenerationEvent() {
+    return AVAILABLE ? JfrEvents.newGenerationEvent() : NoOpEvent.INSTANCE;
+  }
+
+  /**
+   * @return A new {@link QueueRefreshEvent}.
+   */
+  public static final QueueRefreshEvent newQueueRefreshEvent() {
+    return AVAILABLE ? JfrEvents.newQueueRefreshEvent() : NoOpEvent.INSTANCE;
+  }
+
+  /**
+   * @return A new {@link ImportEvent}.
+   */
+  public static final ImportEvent newImportEvent() {
+    return AVAILABLE ? JfrEvents.newImportEvent() : NoOpEvent.INSTANCE;
+  }
+
+  /**
+   * @return A new {@link ExportEvent}.
+   */
+  public static final ExportEvent newExportEvent() {
+    return AVAILABLE ? JfrEvents.newExportEvent() : NoOpEvent.INSTANCE;
+  }
+
+  /**
+   * Creates the flight recorder events. Only loaded when the <code>jdk.jfr</code> API is
+   * available.
+   */
+  private static final class JfrEvents {
+
+    private static ScheduleEvent newScheduleEvent() {
+      return new JfrScheduleEvent();
+    }
+
+    private static GenerationEvent newGenerationEvent() {
+      return new JfrGenerationEvent();
+    }
+
+    private static QueueRefreshEvent newQueueRefreshEvent() {
+      return new JfrQueueRefreshEvent();
+    }
+
+    private static ImportEvent newImportEvent() {
+      return new JfrImportEvent();
+    }
+
+    private static ExportEvent newExportEvent() {
+      return new JfrExportEvent();
+    }
+
+  }
+
+  /**
+   * The event used when the flight recorder is not available. It is never committed, so it is
+   * shared by every caller.
+   */
+  private static final class NoOpEvent implements ScheduleEvent, GenerationEvent,
+      QueueRefreshEvent, ImportEvent, ExportEvent {
+
+    private static final NoOpEvent INSTANCE = new NoOpEvent();
+
+    @Override
+    public void begin() {}
+
+    @Override
+    public void end() {}
+
+    @Override
+    public boolean shouldCommit() {
+      return false;
+    }
+
+    @Override
+    public void commit() {}
+
+    @Override
+    public void setScheduler(String scheduler) {}
+
+    @Override
+    public void setOrders(int orders) {}
+
+    @Override
+    public void setIncompleteDeliveries(int incompleteDeliveries) {}
+
+    @Override
+    public void setGeneration(long generation) {}
+
+    @Override
+    public void setBestNPS(int bestNPS) {}
+
+    @Override
+    public void setPopulationSize(int populationSize) {}
+
+    @Override
+    public void setEvaluationNanos(long evaluationNanos) {}
+
+    @Override
+    public void setEvolveNanos(long evolveNanos) {}
+
+    @Override
+    public void setAddedManifests(int addedManifests) {}
+
+    @Override
+    public void setQueueDepth(int queueDepth) {}
+
+    @Override
+    public void setFilePath(String filePath) {}
+
+    @Override
+    public void setParallel(boolean parallel) {}
+
+    @Override
+    public void setDeliveries(int deliveries) {}
+
+    @Override
+    public void setBytesWritten(long bytesWritten) {}
+
+    @Override
+    public void setNPS(int nps) {}
+
+  }
+
+}
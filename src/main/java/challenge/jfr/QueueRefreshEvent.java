@@ -0,0 +1,21 @@
+package challenge.jfr;
+
+/**
+ * The flight recorder event of newly ordered manifests added to the queue of a queue based
+ * scheduler. The duration of the event is the time taken to add and sort the manifests.
+ * 
+ * @author jeffrey
+ */
+public interface QueueRefreshEvent extends PipelineEvent {
+
+  /**
+   * @param addedManifests The number of manifests added to the queue.
+   */
+  void setAddedManifests(int addedManifests);
+
+  /**
+   * @param queueDepth The number of manifests in the queue after the refresh.
+   */
+  void setQueueDepth(int queueDepth);
+
+}
@@ -0,0 +1,26 @@
+package challenge.jfr;
+
+/**
+ * The flight recorder event of a single order list scheduled by an order scheduler. The duration
+ * of the event is the time taken to schedule the orders.
+ * 
+ * @author jeffrey
+ */
+public interface ScheduleEvent extends PipelineEvent {
+
+  /**
+   * @param scheduler The simple name of the scheduler class.
+   */
+  void setScheduler(String scheduler);
+
+  /**
+   * @param orders The number of orders scheduled.
+   */
+  void setOrders(int orders);
+
+  /**
+   * @param incompleteDeliveries The number of deliveries that could not complete.
+   */
+  void setIncompleteDeliveries(int incompleteDeliveries);
+
+}
@@ -0,0 +1,401 @@
+package challenge.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.base.Preconditions;
+
+/**
+ * Counts and times the stages of the pipeline: import, scheduling, genetic search and export.
+ * Searches also record how far their best schedule is from the NPS upper bound. The gauges hold
+ * the schedules running right now and the NPS of the latest export.
+ * <p>
+ * Every stage records into the {@link PipelineMetrics#get()} registry. The counters are striped
+ * and the hot loops only record once per chunk, batch of lines, generation or export, except for
+ * fitness evaluations which are a single increment each. The registry can be exposed as an MBean
+ * with {@link PipelineMetrics#register()} and logged when the JVM exits with
+ * {@link PipelineMetrics#dumpAtExit()}.
+ * 
+ * @author jeffrey
+ */
+public final class PipelineMetrics implements PipelineMetricsMBean {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PipelineMetrics.class);
+
+  /**
+   * The name the registry is registered under.
+   */
+  public static final String OBJECT_NAME = "challenge:type=PipelineMetrics";
+
+  /**
+   * The system property that logs the metrics when the JVM exits if set to <code>true</code>.
+   */
+  public static final String DUMP_PROPERTY = "challenge.metrics.dump";
+
+  private static final PipelineMetrics GLOBAL = new PipelineMetrics();
+
+  private final LongAdder ordersParsed = new LongAdder();
+
+  private final LongAdder rejectedLines = new LongAdder();
+
+  private final LongAdder manifestsScheduled = new LongAdder();
+
+  private final LongAdder generationsEvaluated = new LongAdder();
+
+  private final LongAdder fitnessEvaluations = new LongAdder();
+
+  private final LongAdder bytesWritten = new LongAdder();
+
+  private final LongAdder searches = new LongAdder();
+
+  private final LongAdder optimalSearches = new LongAdder();
+
+  private final LongAccumulator maximumOptimalityGap = new LongAccumulator(Math::max, 0);
+
+  private final AtomicInteger activeSchedules = new AtomicInteger();
+
+  private volatile int lastNPS;
+
+  private final StageTimer importTimer = new StageTimer();
+
+  private final StageTimer scheduleTimer = new StageTimer();
+
+  private final StageTimer evolutionTimer = new StageTimer();
+
+  private final StageTimer exportTimer = new StageTimer();
+
+  private final AtomicBoolean dumpHookAdded = new AtomicBoolean();
+
+  /**
+   * The constructor. The pipeline only records into {@link PipelineMetrics#get()}.
+   */
+  PipelineMetrics() {}
+
+  /**
+   * @return The registry the pipeline records into.
+   */
+  public static final PipelineMetrics get() {
+    return GLOBAL;
+  }
+
+  /**
+   * Registers {@link PipelineMetrics#get()} with the platform {@link MBeanServer} under
+   * {@link PipelineMetrics#OBJECT_NAME}. Registering more than once does nothing.
+   * 
+   * @return <code>true</code> if the registry is registered.
+   */
+  public static final boolean register() {
+    return GLOBAL.registerWith(ManagementFactory.getPlatformMBeanServer());
+  }
+
+  /**
+   * Registers the registry with the server under {@link PipelineMetrics#OBJECT_NAME}.
+   * 
+   * @param server The {@link MBeanServer}. Cannot be <code>null</code>.
+   * @return <code>true</code> if the registry is registered.
+   */
+  boolean registerWith(MBeanServer server) {
+    Preconditions.checkNotNull(server, "The server cannot be null.");
+
+    try {
+      server.registerMBean(this, new ObjectName(OBJECT_NAME));
+    } catch (InstanceAlreadyExistsException exception) {
+      return true;
+    } catch (JMException exception) {
+      LOG.error("Unable to register metrics as: {}.", OBJECT_NAME);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Logs {@link PipelineMetrics#toLines()} when the JVM exits. Adding the hook more than once does
+   * nothing.
+   */
+  public void dumpAtExit() {
+    if (dumpHookAdded.compareAndSet(false, true)) {
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> toLines().forEach(LOG::info)));
+    }
+  }
+
+  /**
+   * Counts the lines of an order file.
+   * 
+   * @param parsed The number of lines parsed into orders.
+   * @param rejected The number of non-empty lines that could not be parsed.
+   */
+  public void addOrderLines(long parsed, long rejected) {
+    ordersParsed.add(parsed);
+    rejectedLines.add(rejected);
+  }
+
+  /**
+   * Counts a schedule that has started. Every call must be followed by
+   * {@link PipelineMetrics#scheduleFinished()}.
+   */
+  public void scheduleStarted() {
+    activeSchedules.incrementAndGet();
+  }
+
+  /**
+   * Counts a schedule that has finished or failed.
+   */
+  public void scheduleFinished() {
+    activeSchedules.decrementAndGet();
+  }
+
+  /**
+   * @param manifests The number of manifests scheduled.
+   */
+  public void addManifestsScheduled(long manifests) {
+    manifestsScheduled.add(manifests);
+  }
+
+  /**
+   * Counts a single generation of genetic search.
+   */
+  public void addGeneration() {
+    generationsEvaluated.increment();
+  }
+
+  /**
+   * Counts a single fitness evaluation.
+   */
+  public void addFitnessEvaluation() {
+    fitnessEvaluations.increment();
+  }
+
+  /**
+   * Counts a single search for the best schedule.
+   * 
+   * @param optimalityGap The NPS between the best schedule found and the upper bound. Zero if the
+   *        search stopped at the bound. Cannot be negative.
+   */
+  public void addSearch(int optimalityGap) {
+    Preconditions.checkArgument(optimalityGap >= 0, "The optimality gap cannot be negative.");
+
+    searches.increment();
+    if (optimalityGap == 0) {
+      optimalSearches.increment();
+    }
+    maximumOptimalityGap.accumulate(optimalityGap);
+  }
+
+  /**
+   * @param bytes The number of bytes written by an export.
+   */
+  public void addBytesWritten(long bytes) {
+    bytesWritten.add(bytes);
+  }
+
+  /**
+   * @param nps The Net Promoter Score (NPS) of the latest export.
+   */
+  public void setLastNPS(int nps) {
+    lastNPS = nps;
+  }
+
+  /**
+   * @return The {@link StageTimer} of order file imports.
+   */
+  public StageTimer getImportTimer() {
+    return importTimer;
+  }
+
+  /**
+   * @return The {@link StageTimer} of order list schedules.
+   */
+  public StageTimer getScheduleTimer() {
+    return scheduleTimer;
+  }
+
+  /**
+   * @return The {@link StageTimer} of genetic searches.
+   */
+  public StageTimer getEvolutionTimer() {
+    return evolutionTimer;
+  }
+
+  /**
+   * @return The {@link StageTimer} of delivery list exports.
+   */
+  public StageTimer getExportTimer() {
+    return exportTimer;
+  }
+
+  @Override
+  public long getOrdersParsed() {
+    return ordersParsed.sum();
+  }
+
+  @Override
+  public long getRejectedLines() {
+    return rejectedLines.sum();
+  }
+
+  @Override
+  public long getImportCount() {
+    return importTimer.getCount();
+  }
+
+  @Override
+  public long getImportMillis() {
+    return importTimer.getTotalMillis();
+  }
+
+  @Override
+  public long getManifestsScheduled() {
+    return manifestsScheduled.sum();
+  }
+
+  @Override
+  public long getScheduleCount() {
+    return scheduleTimer.getCount();
+  }
+
+  @Override
+  public long getScheduleMillis() {
+    return scheduleTimer.getTotalMillis();
+  }
+
+  @Override
+  public long getScheduleMaximumMillis() {
+    return scheduleTimer.getMaximumMillis();
+  }
+
+  @Override
+  public long getGenerationsEvaluated() {
+    return generationsEvaluated.sum();
+  }
+
+  @Override
+  public long getFitnessEvaluations() {
+    return fitnessEvaluations.sum();
+  }
+
+  /**
+   * Divides the fitness evaluations by the time spent in genetic search. Searches that are still
+   * running are counted in the evaluations but not yet in the time.
+   */
+  @Override
+  public long getFitnessEvaluationsPerSecond() {
+    long evolutionNanos = evolutionTimer.getTotalNanos();
+    return evolutionNanos == 0 ? 0
+        : (long) (getFitnessEvaluations() * (double) TimeUnit.SECONDS.toNanos(1) / evolutionNanos);
+  }
+
+  @Override
+  public long getEvolutionMillis() {
+    return evolutionTimer.getTotalMillis();
+  }
+
+  @Override
+  public long getSearches() {
+    return searches.sum();
+  }
+
+  @Override
+  public long getOptimalSearches() {
+    return optimalSearches.sum();
+  }
+
+  @Override
+  public long getMaximumOptimalityGap() {
+    return maximumOptimalityGap.get();
+  }
+
+  @Override
+  public int getActiveSchedules() {
+    return activeSchedules.get();
+  }
+
+  @Override
+  public int getLastNPS() {
+    return lastNPS;
+  }
+
+  @Override
+  public long getExportCount() {
+    return exportTimer.getCount();
+  }
+
+  @Override
+  public long getExportMillis() {
+    return exportTimer.getTotalMillis();
+  }
+
+  @Override
+  public long getBytesWritten() {
+    return bytesWritten.sum();
+  }
+
+  /**
+   * Resets the last NPS, but not the active schedules, since they are still running.
+   */
+  @Override
+  public void reset() {
+    ordersParsed.reset();
+    rejectedLines.reset();
+    manifestsScheduled.reset();
+    generationsEvaluated.reset();
+    fitnessEvaluations.reset();
+    bytesWritten.reset();
+    searches.reset();
+    optimalSearches.reset();
+    maximumOptimalityGap.reset();
+    importTimer.reset();
+    scheduleTimer.reset();
+    evolutionTimer.reset();
+    exportTimer.reset();
+    lastNPS = 0;
+  }
+
+  /**
+   * Formats every metric as a name and a value delimited by a space. (e.g. ordersParsed 42)
+   * 
+   * @return The formatted metrics.
+   */
+  public List<String> toLines() {
+    List<String> lines = new ArrayList<>();
+    lines.add("ordersParsed " + getOrdersParsed());
+    lines.add("rejectedLines " + getRejectedLines());
+    lines.add("importCount " + getImportCount());
+    lines.add("importMillis " + getImportMillis());
+    lines.add("manifestsScheduled " + getManifestsScheduled());
+    lines.add("scheduleCount " + getScheduleCount());
+    lines.add("scheduleMillis " + getScheduleMillis());
+    lines.add("scheduleMaximumMillis " + getScheduleMaximumMillis());
+    lines.add("generationsEvaluated " + getGenerationsEvaluated());
+    lines.add("fitnessEvaluations " + getFitnessEvaluations());
+    lines.add("fitnessEvaluationsPerSecond " + getFitnessEvaluationsPerSecond());
+    lines.add("evolutionMillis " + getEvolutionMillis());
+    lines.add("searches " + getSearches());
+    lines.add("optimalSearches " + getOptimalSearches());
+    lines.add("maximumOptimalityGap " + getMaximumOptimalityGap());
+    lines.add("activeSchedules " + getActiveSchedules());
+    lines.add("lastNPS " + getLastNPS());
+    lines.add("exportCount " + getExportCount());
+    lines.add("exportMillis " + getExportMillis());
+    lines.add("bytesWritten " + getBytesWritten());
+    return lines;
+  }
+
+  @Override
+  public String toString() {
+    return "PipelineMetrics [ordersParsed=" + getOrdersParsed() + ", manifestsScheduled="
+        + getManifestsScheduled() + ", fitnessEvaluations=" + getFitnessEvaluations()
+        + ", bytesWritten=" + getBytesWritten() + "]";
+  }
+
+}
@@ -0,0 +1,115 @@
+package challenge.metrics;
+
+/**
+ * The management interface of the {@link PipelineMetrics}, read by JMX clients such as JConsole.
+ * 
+ * @author jeffrey
+ */
+public interface PipelineMetricsMBean {
+
+  /**
+   * @return The number of orders parsed from order files.
+   */
+  long getOrdersParsed();
+
+  /**
+   * @return The number of non-empty lines that could not be parsed into an order.
+   */
+  long getRejectedLines();
+
+  /**
+   * @return The number of order files imported.
+   */
+  long getImportCount();
+
+  /**
+   * @return The total milliseconds spent importing order files.
+   */
+  long getImportMillis();
+
+  /**
+   * @return The number of manifests scheduled.
+   */
+  long getManifestsScheduled();
+
+  /**
+   * @return The number of order lists scheduled.
+   */
+  long getScheduleCount();
+
+  /**
+   * @return The total milliseconds spent scheduling order lists.
+   */
+  long getScheduleMillis();
+
+  /**
+   * @return The milliseconds of the longest schedule.
+   */
+  long getScheduleMaximumMillis();
+
+  /**
+   * @return The number of genetic generations evaluated.
+   */
+  long getGenerationsEvaluated();
+
+  /**
+   * @return The number of schedule fitness evaluations.
+   */
+  long getFitnessEvaluations();
+
+  /**
+   * @return The fitness evaluations per second of genetic search.
+   */
+  long getFitnessEvaluationsPerSecond();
+
+  /**
+   * @return The total milliseconds spent in genetic search.
+   */
+  long getEvolutionMillis();
+
+  /**
+   * @return The number of searches for the best schedule.
+   */
+  long getSearches();
+
+  /**
+   * @return The number of searches that reached the NPS upper bound, so no schedule is better.
+   */
+  long getOptimalSearches();
+
+  /**
+   * @return The largest NPS between the best schedule of a search and the upper bound.
+   */
+  long getMaximumOptimalityGap();
+
+  /**
+   * @return The number of schedules running right now.
+   */
+  int getActiveSchedules();
+
+  /**
+   * @return The Net Promoter Score (NPS) of the latest export. Zero before the first export.
+   */
+  int getLastNPS();
+
+  /**
+   * @return The number of delivery lists exported.
+   */
+  long getExportCount();
+
+  /**
+   * @return The total milliseconds spent exporting delivery lists.
+   */
+  long getExportMillis();
+
+  /**
+   * @return The number of bytes written by the exports.
+   */
+  long getBytesWritten();
+
+  /**
+   * Sets every counter, timer and the last NPS back to zero.
+   */
+  void reset();
+
+}
@@ -0,0 +1,91 @@
+package challenge.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import com.google.common.base.Preconditions;
+
+/**
+ * Times the runs of a single pipeline stage. Keeps the number of runs, the total time and the
+ * longest run. The counters are striped, so stages running on many threads can record at the same
+ * time without contending on a single value.
+ * 
+ * @author jeffrey
+ */
+public final class StageTimer {
+
+  private final LongAdder count = new LongAdder();
+
+  private final LongAdder totalNanos = new LongAdder();
+
+  private final LongAccumulator maximumNanos = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Records a run that started at the {@link System#nanoTime()} and ends now.
+   * 
+   * @param startNanos The {@link System#nanoTime()} the run started at.
+   * @return The nanoseconds the run took.
+   */
+  public long recordSince(long startNanos) {
+    long nanos = System.nanoTime() - startNanos;
+    record(nanos);
+    return nanos;
+  }
+
+  /**
+   * Records a single run.
+   * 
+   * @param nanos The nanoseconds the run took. Cannot be negative.
+   */
+  public void record(long nanos) {
+    Preconditions.checkArgument(nanos >= 0, "The nanoseconds cannot be negative.");
+
+    count.increment();
+    totalNanos.add(nanos);
+    maximumNanos.accumulate(nanos);
+  }
+
+  /**
+   * @return The number of recorded runs.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * @return The total nanoseconds of the recorded runs.
+   */
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+  /**
+   * @return The total milliseconds of the recorded runs.
+   */
+  public long getTotalMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(getTotalNanos());
+  }
+
+  /**
+   * @return The milliseconds of the longest recorded run.
+   */
+  public long getMaximumMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(maximumNanos.get());
+  }
+
+  /**
+   * Forgets every recorded run. Runs recorded during the reset may be partly kept.
+   */
+  public void reset() {
+    count.reset();
+    totalNanos.reset();
+    maximumNanos.reset();
+  }
+
+  @Override
+  public String toString() {
+    return "StageTimer [count=" + getCount() + ", totalMillis=" + getTotalMillis()
+        + ", maximumMillis=" + getMaximumMillis() + "]";
+  }
+
+}
@@ -5,33 +5,58 @@ import org.apache.commons.lang3.builder.CompareToBuilder;
 import com.google.common.base.Preconditions;
 
 /**
- * Represents a scheduled delivery with an id, departure time, and rating.
+ * Represents a scheduled delivery with an id, departure time, and rating. Fleet schedulers also
+ * report the drone that flew the delivery.
  * 
  * @author jeffrey
  */
 public class Delivery implements Comparable<Delivery> {
 
+  /**
+   * The drone of deliveries that were not assigned to a specific drone.
+   */
+  public static final int UNASSIGNED_DRONE = -1;
+
   private final String orderId;
 
   private final LocalTime departureTime;
 
   private final CustomerSatisfaction rating;
 
+  private final int drone;
+
   /**
-   * The constructor.
+   * The constructor. The delivery is not assigned to a drone.
    * 
    * @param orderId The id for the order. Cannot be <code>null</code>.
    * @param departureTime The time the delivery begins. Cannot be <code>null</code>.
    * @param rating The {@link CustomerSatisfaction}. Cannot be <code>null</code>.
    */
   public Delivery(String orderId, LocalTime departureTime, CustomerSatisfaction rating) {
+    this(orderId, departureTime, rating, UNASSIGNED_DRONE);
+  }
+
+  /**
+   * The constructor.
+   * 
+   * @param orderId The id for the order. Cannot be <code>null</code>.
+   * @param departureTime The time the delivery begins. Cannot be <code>null</code>.
+   * @param rating The {@link CustomerSatisfaction}. Cannot be <code>null</code>.
+   * @param drone The index of the drone that flew the delivery or
+   *        {@link Delivery#UNASSIGNED_DRONE}.
+   */
+  public Delivery(String orderId, LocalTime departureTime, CustomerSatisfaction rating,
+      int drone) {
     Preconditions.checkNotNull(orderId, "The order id cannot be null.");
     Preconditions.checkNotNull(departureTime, "The departure time cannot be null.");
     Preconditions.checkNotNull(rating, "The customer satisfaction cannot be null.");
+    Preconditions.checkArgument(drone >= UNASSIGNED_DRONE,
+        "The drone must be UNASSIGNED_DRONE or non-negative.");
 
     this.orderId = orderId;
     this.departureTime = departureTime;
     this.rating = rating;
+    this.drone = drone;
   }
 
   /**
@@ -56,13 +81,20 @@ public class Delivery implements Comparable<Delivery> {
   }
 
   /**
-   * Comparison order: departure time, rating, id.
+   * @return The index of the drone that flew the delivery or {@link Delivery#UNASSIGNED_DRONE}.
+   */
+  public int getDrone() {
+    return drone;
+  }
+
+  /**
+   * Comparison order: departure time, rating, id, drone.
    */
   @Override
   public int compareTo(Delivery other) {
     return new CompareToBuilder().append(getDepartureTime(), other.getDepartureTime())
         .append(getRating(), other.getRating()).append(getOrderId(), other.getOrderId())
-        .toComparison();
+        .append(getDrone(), other.getDrone()).toComparison();
   }
 
   @Override
@@ -86,13 +118,16 @@ public class Delivery implements Comparable<Delivery> {
     if (rating != other.rating) {
       return false;
     }
+    if (drone != other.drone) {
+      return false;
+    }
     return true;
   }
 
   @Override
   public String toString() {
     return "Delivery [orderId=" + orderId + ", departureTime=" + departureTime + ", rating="
-        + rating + "]";
+        + rating + (drone == UNASSIGNED_DRONE ? "" : ", drone=" + drone) + "]";
   }
 
 }
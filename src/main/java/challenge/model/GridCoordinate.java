@@ -73,6 +73,15 @@ public final class GridCoordinate implements Comparable<GridCoordinate> {
         .toComparison();
   }
 
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + x;
+    result = prime * result + y;
+    return result;
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj) {
@@ -62,6 +62,25 @@ public class Manifest implements Comparable<Manifest> {
     this.detractorTime = toRatingTime(CustomerSatisfaction.DETRACTOR);
   }
 
+  /**
+   * The constructor.
+   * 
+   * @param orderId The id for the order. Cannot be <code>null</code>.
+   * @param orderTime The time the order was placed. Cannot be <code>null</code>.
+   * @param transitMinutes The minutes it takes to reach the customer location from the warehouse
+   *        location.
+   */
+  public Manifest(String orderId, LocalTime orderTime, int transitMinutes) {
+    Preconditions.checkNotNull(orderId, "The order id cannot be null.");
+    Preconditions.checkNotNull(orderTime, "The order time cannot be null.");
+
+    this.orderId = orderId;
+    this.orderTime = orderTime;
+    this.transitMinutes = transitMinutes;
+    this.neutralTime = toRatingTime(CustomerSatisfaction.NEUTRAL);
+    this.detractorTime = toRatingTime(CustomerSatisfaction.DETRACTOR);
+  }
+
   private LocalTime toRatingTime(CustomerSatisfaction rating) {
     Duration duration = Duration.between(orderTime, LocalTime.MAX);
     int ratingHours = rating.getMinimumHours();
@@ -0,0 +1,299 @@
+package challenge.model;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import com.google.common.base.Preconditions;
+
+/**
+ * Compact, column based alternative to a {@link Manifest} list. Times are stored as seconds of the
+ * day in parallel arrays, so scheduling does not create any time instances. Order times are
+ * expected to have a precision of seconds.
+ * <p>
+ * Values match the {@link Manifest} of the same order. Times limited to {@link LocalTime#MAX} are
+ * stored as {@link ManifestTable#MAX_SECOND}.
+ * <p>
+ * Order ids can also be kept as numbers, so a table read from numeric columns does not create an
+ * id string per order. The id string is then only created when it is asked for.
+ * 
+ * @author jeffrey
+ */
+public final class ManifestTable {
+
+  /**
+   * Stands in for {@link LocalTime#MAX}. Later than every second of the day.
+   */
+  public static final int MAX_SECOND = Integer.MAX_VALUE;
+
+  private static final int SECONDS_PER_MINUTE = 60;
+
+  private static final int SECONDS_PER_HOUR = 3600;
+
+  private static final int SECONDS_PER_DAY = 86400;
+
+  private static final int LAST_SECOND = LocalTime.MAX.toSecondOfDay();
+
+  private static final int NEUTRAL_SECONDS =
+      CustomerSatisfaction.NEUTRAL.getMinimumHours() * SECONDS_PER_HOUR;
+
+  private static final int DETRACTOR_SECONDS =
+      CustomerSatisfaction.DETRACTOR.getMinimumHours() * SECONDS_PER_HOUR;
+
+  private final String[] orderIds;
+
+  private final int[] orderIdNumbers;
+
+  private final IntFunction<String> orderIdFormat;
+
+  private final int[] orderSeconds;
+
+  private final int[] transitMinutes;
+
+  private final int[] neutralSeconds;
+
+  private final int[] detractorSeconds;
+
+  private ManifestTable(int size) {
+    this(new String[size], null, null, size);
+  }
+
+  private ManifestTable(String[] orderIds, int[] orderIdNumbers,
+      IntFunction<String> orderIdFormat, int size) {
+    this.orderIds = orderIds;
+    this.orderIdNumbers = orderIdNumbers;
+    this.orderIdFormat = orderIdFormat;
+    this.orderSeconds = new int[size];
+    this.transitMinutes = new int[size];
+    this.neutralSeconds = new int[size];
+    this.detractorSeconds = new int[size];
+  }
+
+  /**
+   * Creates the table from the orders. Keeps the order of the list.
+   * 
+   * @param orders The {@link Order} list. Cannot be <code>null</code>.
+   * @param warehouseLocation The warehouse {@link GridCoordinate}. Cannot be <code>null</code>.
+   * @return The {@link ManifestTable}.
+   */
+  public static final ManifestTable of(List<Order> orders, GridCoordinate warehouseLocation) {
+    Preconditions.checkNotNull(orders, "Orders cannot be null.");
+    Preconditions.checkNotNull(warehouseLocation, "The warehouse location cannot be null.");
+
+    ManifestTable manifestTable = new ManifestTable(orders.size());
+    for (int index = 0; index < orders.size(); index++) {
+      Order order = orders.get(index);
+      manifestTable.set(index, order.getOrderId(), order.getOrderTime().toSecondOfDay(),
+          warehouseLocation.getDistanceTo(order.getCustomerLocation()));
+    }
+    return manifestTable;
+  }
+
+  /**
+   * Creates the table from the manifests. Keeps the order of the list.
+   * 
+   * @param manifests The {@link Manifest} list. Cannot be <code>null</code>.
+   * @return The {@link ManifestTable}.
+   */
+  public static final ManifestTable ofManifests(List<Manifest> manifests) {
+    Preconditions.checkNotNull(manifests, "Manifests cannot be null.");
+
+    ManifestTable manifestTable = new ManifestTable(manifests.size());
+    for (int index = 0; index < manifests.size(); index++) {
+      Manifest manifest = manifests.get(index);
+      manifestTable.set(index, manifest.getOrderId(), manifest.getOrderTime().toSecondOfDay(),
+          manifest.getTransitMinutes());
+    }
+    return manifestTable;
+  }
+
+  /**
+   * Creates the table from order columns, so orders that are already stored as columns do not have
+   * to be created first. Keeps the order of the columns.
+   * 
+   * @param orderIds The order ids. Cannot be <code>null</code>.
+   * @param orderSeconds The order times in seconds of the day. Cannot be <code>null</code> and
+   *        must be as long as the order ids.
+   * @param transitMinutes The minutes it takes to reach each customer location from the warehouse
+   *        location. Cannot be <code>null</code> and must be as long as the order ids.
+   * @return The {@link ManifestTable}.
+   */
+  public static final ManifestTable ofColumns(String[] orderIds, int[] orderSeconds,
+      int[] transitMinutes) {
+    Preconditions.checkNotNull(orderIds, "Order ids cannot be null.");
+    Preconditions.checkNotNull(orderSeconds, "Order seconds cannot be null.");
+    Preconditions.checkNotNull(transitMinutes, "Transit minutes cannot be null.");
+    Preconditions.checkArgument(
+        orderSeconds.length == orderIds.length && transitMinutes.length == orderIds.length,
+        "Columns must be the same length.");
+
+    ManifestTable manifestTable = new ManifestTable(orderIds.length);
+    for (int index = 0; index < orderIds.length; index++) {
+      Preconditions.checkArgument(orderSeconds[index] >= 0 && orderSeconds[index] <= LAST_SECOND,
+          "Order seconds must be within the day.");
+      manifestTable.set(index, orderIds[index], orderSeconds[index], transitMinutes[index]);
+    }
+    return manifestTable;
+  }
+
+  /**
+   * Creates the table from order columns with numeric order ids. The table keeps the id numbers
+   * and only formats an order id when it is asked for. Keeps the order of the columns.
+   * 
+   * @param orderIdNumbers The order id numbers. Cannot be <code>null</code>.
+   * @param orderIdFormat Formats an order id number as the order id. Cannot be <code>null</code>.
+   * @param orderSeconds The order times in seconds of the day. Cannot be <code>null</code> and
+   *        must be as long as the order id numbers.
+   * @param transitMinutes The minutes it takes to reach each customer location from the warehouse
+   *        location. Cannot be <code>null</code> and must be as long as the order id numbers.
+   * @return The {@link ManifestTable}.
+   */
+  public static final ManifestTable ofIdNumbers(int[] orderIdNumbers,
+      IntFunction<String> orderIdFormat, int[] orderSeconds, int[] transitMinutes) {
+    Preconditions.checkNotNull(orderIdNumbers, "Order id numbers cannot be null.");
+    Preconditions.checkNotNull(orderIdFormat, "The order id format cannot be null.");
+    Preconditions.checkNotNull(orderSeconds, "Order seconds cannot be null.");
+    Preconditions.checkNotNull(transitMinutes, "Transit minutes cannot be null.");
+    Preconditions.checkArgument(orderSeconds.length == orderIdNumbers.length
+        && transitMinutes.length == orderIdNumbers.length, "Columns must be the same length.");
+
+    ManifestTable manifestTable =
+        new ManifestTable(null, orderIdNumbers, orderIdFormat, orderIdNumbers.length);
+    for (int index = 0; index < orderIdNumbers.length; index++) {
+      Preconditions.checkArgument(orderSeconds[index] >= 0 && orderSeconds[index] <= LAST_SECOND,
+          "Order seconds must be within the day.");
+      manifestTable.setTimes(index, orderSeconds[index], transitMinutes[index]);
+    }
+    return manifestTable;
+  }
+
+  private void set(int index, String orderId, int orderSecond, int transit) {
+    orderIds[index] = orderId;
+    setTimes(index, orderSecond, transit);
+  }
+
+  private void setTimes(int index, int orderSecond, int transit) {
+    orderSeconds[index] = orderSecond;
+    transitMinutes[index] = transit;
+    neutralSeconds[index] = toRatingSecond(orderSecond, transit, CustomerSatisfaction.NEUTRAL);
+    detractorSeconds[index] = toRatingSecond(orderSecond, transit, CustomerSatisfaction.DETRACTOR);
+  }
+
+  /**
+   * Follows {@link Manifest#getNeutralTime()} and {@link Manifest#getDetractorTime()}, including
+   * the wrap around of {@link LocalTime} arithmetic.
+   */
+  private static int toRatingSecond(int orderSecond, int transit, CustomerSatisfaction rating) {
+    int ratingHours = rating.getMinimumHours();
+    if ((LAST_SECOND - orderSecond) / SECONDS_PER_HOUR > ratingHours) {
+      return Math.floorMod(
+          orderSecond + ratingHours * SECONDS_PER_HOUR - transit * SECONDS_PER_MINUTE,
+          SECONDS_PER_DAY);
+    }
+    return MAX_SECOND;
+  }
+
+  /**
+   * @return The number of manifests.
+   */
+  public int size() {
+    return orderSeconds.length;
+  }
+
+  /**
+   * @param index The manifest index.
+   * @return The order id.
+   */
+  public String getOrderId(int index) {
+    return orderIds != null ? orderIds[index] : orderIdFormat.apply(orderIdNumbers[index]);
+  }
+
+  /**
+   * @param index The manifest index.
+   * @return The order time in seconds of the day.
+   */
+  public int getOrderSecond(int index) {
+    return orderSeconds[index];
+  }
+
+  /**
+   * @param index The manifest index.
+   * @return The minutes it takes to reach the customer location from the warehouse location.
+   */
+  public int getTransitMinutes(int index) {
+    return transitMinutes[index];
+  }
+
+  /**
+   * @param index The manifest index.
+   * @return The latest second before an order becomes neutral. Limits to
+   *         {@link ManifestTable#MAX_SECOND}.
+   */
+  public int getNeutralSecond(int index) {
+    return neutralSeconds[index];
+  }
+
+  /**
+   * @param index The manifest index.
+   * @return The latest second before an order becomes a detractor. Limits to
+   *         {@link ManifestTable#MAX_SECOND}.
+   */
+  public int getDetractorSecond(int index) {
+    return detractorSeconds[index];
+  }
+
+  /**
+   * Calculates the {@link CustomerSatisfaction} based on the departure second.
+   * 
+   * @param index The manifest index.
+   * @param departureSecond The departure second of the day.
+   * @return The {@link CustomerSatisfaction}.
+   */
+  public CustomerSatisfaction getRating(int index, int departureSecond) {
+    int secondsToDelivery =
+        departureSecond + transitMinutes[index] * SECONDS_PER_MINUTE - orderSeconds[index];
+    if (secondsToDelivery < NEUTRAL_SECONDS) {
+      return CustomerSatisfaction.PROMOTER;
+    } else if (secondsToDelivery < DETRACTOR_SECONDS) {
+      return CustomerSatisfaction.NEUTRAL;
+    }
+    return CustomerSatisfaction.DETRACTOR;
+  }
+
+  /**
+   * Adds the delivery and return times to the start second. Limits to
+   * {@link ManifestTable#MAX_SECOND} like {@link Manifest#getCompletionTime(LocalTime)}.
+   * 
+   * @param index The manifest index.
+   * @param startSecond The start second of the day.
+   * @return The delivery completion second.
+   */
+  public int getCompletionSecond(int index, int startSecond) {
+    int minutesToAdd = transitMinutes[index] * 2;
+    if ((LAST_SECOND - startSecond) / SECONDS_PER_MINUTE > minutesToAdd) {
+      return startSecond + minutesToAdd * SECONDS_PER_MINUTE;
+    }
+    return MAX_SECOND;
+  }
+
+  /**
+   * @param index The manifest index.
+   * @return The {@link Manifest} at the index.
+   */
+  public Manifest toManifest(int index) {
+    return new Manifest(getOrderId(index), LocalTime.ofSecondOfDay(orderSeconds[index]),
+        transitMinutes[index]);
+  }
+
+  /**
+   * @return The {@link Manifest} list in table order.
+   */
+  public List<Manifest> toManifests() {
+    List<Manifest> manifests = new ArrayList<>(size());
+    for (int index = 0; index < size(); index++) {
+      manifests.add(toManifest(index));
+    }
+    return manifests;
+  }
+
+}
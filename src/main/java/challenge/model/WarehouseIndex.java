@@ -0,0 +1,142 @@
+package challenge.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import com.google.common.base.Preconditions;
+
+/**
+ * A k-d tree of warehouse locations used to find the warehouse closest to a customer. Distance is
+ * measured like {@link GridCoordinate#getDistanceTo(GridCoordinate)}. Ties go to the warehouse
+ * that comes first in the list.
+ * <p>
+ * The tree is stored in a single array: the node of a range is at the middle of the range, with
+ * the lower half to the left and the upper half to the right.
+ * 
+ * @author jeffrey
+ */
+public final class WarehouseIndex {
+
+  private final List<GridCoordinate> warehouseLocations;
+
+  private final int[] tree;
+
+  /**
+   * The constructor.
+   * 
+   * @param warehouseLocations The warehouse {@link GridCoordinate}s. Cannot be <code>null</code>,
+   *        empty or contain duplicates.
+   */
+  public WarehouseIndex(List<GridCoordinate> warehouseLocations) {
+    Preconditions.checkNotNull(warehouseLocations, "Warehouse locations cannot be null.");
+    Preconditions.checkArgument(!warehouseLocations.isEmpty(),
+        "Warehouse locations cannot be empty.");
+    Preconditions.checkArgument(!warehouseLocations.contains(null),
+        "Warehouse locations cannot contain null.");
+    Preconditions.checkArgument(
+        new HashSet<>(warehouseLocations).size() == warehouseLocations.size(),
+        "Warehouse locations must be unique.");
+
+    this.warehouseLocations = Collections.unmodifiableList(new ArrayList<>(warehouseLocations));
+    Integer[] warehouses = new Integer[warehouseLocations.size()];
+    Arrays.setAll(warehouses, warehouse -> warehouse);
+    build(warehouses, 0, warehouses.length, 0);
+    this.tree = Arrays.stream(warehouses).mapToInt(Integer::intValue).toArray();
+  }
+
+  private void build(Integer[] warehouses, int start, int end, int depth) {
+    if (end - start > 1) {
+      Arrays.sort(warehouses, start, end, byAxis(depth));
+      int middle = (start + end) >>> 1;
+      build(warehouses, start, middle, depth + 1);
+      build(warehouses, middle + 1, end, depth + 1);
+    }
+  }
+
+  private Comparator<Integer> byAxis(int depth) {
+    return Comparator.<Integer>comparingInt(warehouse -> axis(get(warehouse), depth))
+        .thenComparingInt(Integer::intValue);
+  }
+
+  private static int axis(GridCoordinate coordinate, int depth) {
+    return depth % 2 == 0 ? coordinate.getX() : coordinate.getY();
+  }
+
+  /**
+   * @return The number of warehouses.
+   */
+  public int size() {
+    return tree.length;
+  }
+
+  /**
+   * @return The warehouse {@link GridCoordinate}s in the order they were given.
+   */
+  public List<GridCoordinate> getWarehouseLocations() {
+    return warehouseLocations;
+  }
+
+  /**
+   * @param warehouse The warehouse index.
+   * @return The warehouse {@link GridCoordinate}.
+   */
+  public GridCoordinate get(int warehouse) {
+    return warehouseLocations.get(warehouse);
+  }
+
+  /**
+   * Finds the closest warehouse.
+   * 
+   * @param location The {@link GridCoordinate} to search from. Cannot be <code>null</code>.
+   * @return The index of the closest warehouse.
+   */
+  public int nearest(GridCoordinate location) {
+    Preconditions.checkNotNull(location, "The location cannot be null.");
+
+    Nearest nearest = new Nearest();
+    search(location, 0, tree.length, 0, nearest);
+    return nearest.warehouse;
+  }
+
+  private void search(GridCoordinate location, int start, int end, int depth, Nearest nearest) {
+    if (start >= end) {
+      return;
+    }
+    int middle = (start + end) >>> 1;
+    int warehouse = tree[middle];
+    GridCoordinate warehouseLocation = get(warehouse);
+    nearest.offer(warehouse, location.getDistanceTo(warehouseLocation));
+
+    long axisDistance = (long) axis(location, depth) - axis(warehouseLocation, depth);
+    boolean lowerFirst = axisDistance <= 0;
+    search(location, lowerFirst ? start : middle + 1, lowerFirst ? middle : end, depth + 1,
+        nearest);
+    if (Math.abs(axisDistance) <= nearest.distance) {
+      search(location, lowerFirst ? middle + 1 : start, lowerFirst ? end : middle, depth + 1,
+          nearest);
+    }
+  }
+
+  /**
+   * The closest warehouse found so far.
+   */
+  private static final class Nearest {
+
+    private int warehouse = -1;
+
+    private long distance = Long.MAX_VALUE;
+
+    private void offer(int candidate, long candidateDistance) {
+      if (candidateDistance < distance
+          || (candidateDistance == distance && candidate < warehouse)) {
+        warehouse = candidate;
+        distance = candidateDistance;
+      }
+    }
+
+  }
+
+}
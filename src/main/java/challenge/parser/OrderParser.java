@@ -1,16 +1,16 @@
 package challenge.parser;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import challenge.model.GridCoordinate;
+import challenge.model.Order;
 
 /**
- * Utility used to parse and validate order fields.
+ * Utility used to parse and validate order fields. Fields are decoded character by character, so
+ * a line can be parsed from any {@link CharSequence} or ASCII byte window without splitting it into
+ * intermediate strings.
  * 
  * @author jeffrey
  */
@@ -18,22 +18,72 @@ public final class OrderParser {
 
   private static final Logger LOG = LoggerFactory.getLogger(OrderParser.class);
 
+  private static final char DELIMITER = ' ';
+
   private static final int ORDER_ID_LENGTH = 6;
 
+  private static final String ORDER_ID_PREFIX = "WM";
+
   private static final String ORDER_ID_FORMAT = String.format("WM[0-9]{%d}", ORDER_ID_LENGTH - 2);
 
   private static final String ORDER_TIME_FORMAT = "HH:mm:ss";
 
-  private static final DateTimeFormatter ORDER_TIME_FORMATTER =
-      DateTimeFormatter.ofPattern(ORDER_TIME_FORMAT);
+  private static final long INVALID_COORDINATE = Long.MIN_VALUE;
 
-  private static final String COORDINATES_FORMAT = "^([N|S][0-9]+)([E|W][0-9]+)$";
+  private OrderParser() {}
 
-  private static final String NEGATIVE_DIRECTIONS = "S|W";
+  /**
+   * Parses a line into an {@link Order}. Expects the line to be three columns delimited by single
+   * spaces: ID Coordinate Time. Surrounding whitespace is ignored.
+   * 
+   * @param line The line to parse. Cannot be <code>null</code>.
+   * @param start The index of the first character (inclusive).
+   * @param end The index of the last character (exclusive).
+   * @return The parsed {@link Order} or <code>null</code> if invalid.
+   */
+  public static final Order toOrder(CharSequence line, int start, int end) {
+    while (start < end && line.charAt(start) <= DELIMITER) {
+      start++;
+    }
+    while (end > start && line.charAt(end - 1) <= DELIMITER) {
+      end--;
+    }
+    int firstDelimiter = indexOfDelimiter(line, start, end);
+    int secondDelimiter = indexOfDelimiter(line, firstDelimiter + 1, end);
+    if (firstDelimiter == end || secondDelimiter == end
+        || indexOfDelimiter(line, secondDelimiter + 1, end) != end) {
+      return null;
+    }
 
-  private static final String POSITIVE_DIRECTIONS = "N|E";
+    String orderId = toOrderId(line, start, firstDelimiter);
+    GridCoordinate coordinate = toGridCoordinates(line, firstDelimiter + 1, secondDelimiter);
+    LocalTime orderTime = toOrderTime(line, secondDelimiter + 1, end);
+    if (orderId != null && coordinate != null && orderTime != null) {
+      return new Order(orderId, orderTime, coordinate);
+    }
+    return null;
+  }
 
-  private OrderParser() {}
+  /**
+   * Parses a line of ASCII bytes into an {@link Order}. Follows
+   * {@link OrderParser#toOrder(CharSequence, int, int)}.
+   * 
+   * @param bytes The bytes to parse. Cannot be <code>null</code>.
+   * @param start The index of the first byte (inclusive).
+   * @param end The index of the last byte (exclusive).
+   * @return The parsed {@link Order} or <code>null</code> if invalid.
+   */
+  public static final Order toOrder(byte[] bytes, int start, int end) {
+    return toOrder(new AsciiCharSequence(bytes), start, end);
+  }
+
+  private static final int indexOfDelimiter(CharSequence line, int start, int end) {
+    int index = start;
+    while (index < end && line.charAt(index) != DELIMITER) {
+      index++;
+    }
+    return index;
+  }
 
   /**
    * Checks to see if the id matches the expected format.
@@ -42,11 +92,36 @@ public final class OrderParser {
    * @return The id if it matches the pattern or <code>null</code>.
    */
   public static final String toOrderId(String id) {
-    if (id.length() != ORDER_ID_LENGTH || !id.matches(ORDER_ID_FORMAT)) {
-      LOG.error("Order Id ({}) does not match format '{}'", id, ORDER_ID_FORMAT);
-      return null;
+    return isOrderId(id, 0, id.length()) ? id : invalidOrderId(id, 0, id.length());
+  }
+
+  private static final String toOrderId(CharSequence line, int start, int end) {
+    return isOrderId(line, start, end) ? line.subSequence(start, end).toString()
+        : invalidOrderId(line, start, end);
+  }
+
+  private static final boolean isOrderId(CharSequence line, int start, int end) {
+    if (end - start != ORDER_ID_LENGTH) {
+      return false;
+    }
+    int digitsStart = start + ORDER_ID_PREFIX.length();
+    for (int index = start; index < digitsStart; index++) {
+      if (line.charAt(index) != ORDER_ID_PREFIX.charAt(index - start)) {
+        return false;
+      }
     }
-    return id;
+    for (int index = digitsStart; index < end; index++) {
+      if (!isDigit(line.charAt(index))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static final String invalidOrderId(CharSequence line, int start, int end) {
+    LOG.error("Order Id ({}) does not match format '{}'", line.subSequence(start, end),
+        ORDER_ID_FORMAT);
+    return null;
   }
 
   /**
@@ -56,13 +131,17 @@ public final class OrderParser {
    * @return The parsed LocalTime if it matches the pattern or <code>null</code>.
    */
   public static final LocalTime toOrderTime(String orderTime) {
-    LocalTime time = null;
-    try {
-      time = LocalTime.parse(orderTime, ORDER_TIME_FORMATTER);
-    } catch (DateTimeParseException exception) {
-      LOG.error("Order Time ({}) does not match format '{}'", orderTime, ORDER_TIME_FORMAT);
+    return toOrderTime(orderTime, 0, orderTime.length());
+  }
+
+  private static final LocalTime toOrderTime(CharSequence line, int start, int end) {
+    int secondOfDay = OrderTimeCodec.toSecondOfDay(line, start, end);
+    if (secondOfDay != OrderTimeCodec.INVALID_SECOND) {
+      return LocalTime.ofSecondOfDay(secondOfDay);
     }
-    return time;
+    LOG.error("Order Time ({}) does not match format '{}'", line.subSequence(start, end),
+        ORDER_TIME_FORMAT);
+    return null;
   }
 
   /**
@@ -72,29 +151,97 @@ public final class OrderParser {
    * @return The formatted time string or <code>null</code> if formatting fails.
    */
   public static final String formatOrderTime(LocalTime orderTime) {
-    return orderTime.format(ORDER_TIME_FORMATTER);
+    return OrderTimeCodec.format(orderTime);
   }
 
   /**
-   * Checks to see if the coordinate matches the expected format.
+   * Checks to see if the coordinate matches the expected format: a north or south distance followed
+   * by an east or west distance (e.g. N11W5).
    * 
    * @param direction The coordinate to validate.
    * @return The {@link GridCoordinate} or <code>null</code> if invalid.
    */
   public static final GridCoordinate toGridCoordinates(String direction) {
-    GridCoordinate coordinate = null;
-    Matcher matcher = Pattern.compile(COORDINATES_FORMAT).matcher(direction);
-    if (matcher.matches()) {
-      int x = toCoordinate(matcher.group(2));
-      int y = toCoordinate(matcher.group(1));
-      coordinate = GridCoordinate.of(x, y);
-    }
-    return coordinate;
+    return toGridCoordinates(direction, 0, direction.length());
   }
 
-  private static final Integer toCoordinate(String direction) {
-    direction = direction.replaceAll(POSITIVE_DIRECTIONS, "").replaceAll(NEGATIVE_DIRECTIONS, "-");
-    return Integer.parseInt(direction);
+  private static final GridCoordinate toGridCoordinates(CharSequence line, int start, int end) {
+    int xStart = start + 1;
+    while (xStart < end && isDigit(line.charAt(xStart))) {
+      xStart++;
+    }
+    if (xStart == start + 1 || xStart >= end) {
+      return null;
+    }
+    long y = toCoordinate(line, start, xStart, 'N', 'S');
+    long x = toCoordinate(line, xStart, end, 'E', 'W');
+    if (x == INVALID_COORDINATE || y == INVALID_COORDINATE) {
+      return null;
+    }
+    return GridCoordinate.of((int) x, (int) y);
+  }
+
+  /**
+   * Parses a direction followed by at least one digit.
+   * 
+   * @return The signed distance or {@link OrderParser#INVALID_COORDINATE} if invalid or out of
+   *         range.
+   */
+  private static final long toCoordinate(CharSequence line, int start, int end,
+      char positiveDirection, char negativeDirection) {
+    char direction = line.charAt(start);
+    if ((direction != positiveDirection && direction != negativeDirection) || end - start < 2) {
+      return INVALID_COORDINATE;
+    }
+    long distance = 0;
+    for (int index = start + 1; index < end; index++) {
+      char digit = line.charAt(index);
+      if (!isDigit(digit)) {
+        return INVALID_COORDINATE;
+      }
+      distance = distance * 10 + (digit - '0');
+      if (distance > Integer.MAX_VALUE) {
+        return INVALID_COORDINATE;
+      }
+    }
+    return direction == positiveDirection ? distance : -distance;
+  }
+
+  private static final boolean isDigit(char character) {
+    return character >= '0' && character <= '9';
+  }
+
+  /**
+   * Read only view of ASCII bytes.
+   */
+  private static final class AsciiCharSequence implements CharSequence {
+
+    private final byte[] bytes;
+
+    private AsciiCharSequence(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    public int length() {
+      return bytes.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+      return (char) (bytes[index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+      return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
   }
 
 }
@@ -0,0 +1,148 @@
+package challenge.parser;
+
+import java.nio.ByteBuffer;
+import java.time.LocalTime;
+import com.google.common.base.Preconditions;
+
+/**
+ * Codec for the fixed width HH:mm:ss order time layout. Converts directly between characters and
+ * seconds of the day without going through a formatter.
+ * 
+ * @author jeffrey
+ */
+public final class OrderTimeCodec {
+
+  /**
+   * The number of characters in a formatted time.
+   */
+  public static final int LENGTH = 8;
+
+  /**
+   * Returned when the characters are not a valid time.
+   */
+  public static final int INVALID_SECOND = -1;
+
+  private static final char SEPARATOR = ':';
+
+  private static final int HOURS_PER_DAY = 24;
+
+  private static final int MINUTES_PER_HOUR = 60;
+
+  private static final int SECONDS_PER_MINUTE = 60;
+
+  private static final int SECONDS_PER_HOUR = 3600;
+
+  private static final int SECONDS_PER_DAY = 86400;
+
+  private OrderTimeCodec() {}
+
+  /**
+   * Parses the characters into seconds of the day.
+   * 
+   * @param line The characters to parse. Cannot be <code>null</code>.
+   * @param start The index of the first character (inclusive).
+   * @param end The index of the last character (exclusive).
+   * @return The second of the day or {@link OrderTimeCodec#INVALID_SECOND} if the characters do
+   *         not match HH:mm:ss.
+   */
+  public static final int toSecondOfDay(CharSequence line, int start, int end) {
+    if (end - start != LENGTH || line.charAt(start + 2) != SEPARATOR
+        || line.charAt(start + 5) != SEPARATOR) {
+      return INVALID_SECOND;
+    }
+    int hour = toTwoDigits(line, start);
+    int minute = toTwoDigits(line, start + 3);
+    int second = toTwoDigits(line, start + 6);
+    if (hour < 0 || hour >= HOURS_PER_DAY || minute < 0 || minute >= MINUTES_PER_HOUR
+        || second < 0 || second >= SECONDS_PER_MINUTE) {
+      return INVALID_SECOND;
+    }
+    return hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE + second;
+  }
+
+  /**
+   * @return The two digit value or -1 if either character is not a digit.
+   */
+  private static final int toTwoDigits(CharSequence line, int start) {
+    char tens = line.charAt(start);
+    char ones = line.charAt(start + 1);
+    if (tens >= '0' && tens <= '9' && ones >= '0' && ones <= '9') {
+      return (tens - '0') * 10 + (ones - '0');
+    }
+    return -1;
+  }
+
+  /**
+   * Writes the second of the day into the buffer as HH:mm:ss.
+   * 
+   * @param secondOfDay The second of the day.
+   * @param buffer The buffer to write to. Cannot be <code>null</code>.
+   * @param offset The index to start writing at.
+   * @return The index after the last written character.
+   */
+  public static final int format(int secondOfDay, char[] buffer, int offset) {
+    Preconditions.checkArgument(secondOfDay >= 0 && secondOfDay < SECONDS_PER_DAY,
+        "The second of the day must be between 0 and 86399.");
+
+    int hour = secondOfDay / SECONDS_PER_HOUR;
+    int minute = secondOfDay / SECONDS_PER_MINUTE % MINUTES_PER_HOUR;
+    int second = secondOfDay % SECONDS_PER_MINUTE;
+    writeTwoDigits(hour, buffer, offset);
+    buffer[offset + 2] = SEPARATOR;
+    writeTwoDigits(minute, buffer, offset + 3);
+    buffer[offset + 5] = SEPARATOR;
+    writeTwoDigits(second, buffer, offset + 6);
+    return offset + LENGTH;
+  }
+
+  private static final void writeTwoDigits(int value, char[] buffer, int offset) {
+    buffer[offset] = (char) ('0' + value / 10);
+    buffer[offset + 1] = (char) ('0' + value % 10);
+  }
+
+  /**
+   * Writes the second of the day into the buffer as HH:mm:ss ASCII bytes, starting at the current
+   * position of the buffer.
+   * 
+   * @param secondOfDay The second of the day.
+   * @param buffer The buffer to write to. Cannot be <code>null</code>. Must have at least
+   *        {@link OrderTimeCodec#LENGTH} bytes remaining.
+   */
+  public static final void format(int secondOfDay, ByteBuffer buffer) {
+    Preconditions.checkArgument(secondOfDay >= 0 && secondOfDay < SECONDS_PER_DAY,
+        "The second of the day must be between 0 and 86399.");
+
+    int hour = secondOfDay / SECONDS_PER_HOUR;
+    int minute = secondOfDay / SECONDS_PER_MINUTE % MINUTES_PER_HOUR;
+    int second = secondOfDay % SECONDS_PER_MINUTE;
+    buffer.put((byte) ('0' + hour / 10)).put((byte) ('0' + hour % 10)).put((byte) SEPARATOR);
+    buffer.put((byte) ('0' + minute / 10)).put((byte) ('0' + minute % 10)).put((byte) SEPARATOR);
+    buffer.put((byte) ('0' + second / 10)).put((byte) ('0' + second % 10));
+  }
+
+  /**
+   * Appends the time as HH:mm:ss. Anything smaller than a second is dropped.
+   * 
+   * @param time The time to append. Cannot be <code>null</code>.
+   * @param stringBuilder The {@link StringBuilder} to append to. Cannot be <code>null</code>.
+   * @return The {@link StringBuilder}.
+   */
+  public static final StringBuilder append(LocalTime time, StringBuilder stringBuilder) {
+    char[] buffer = new char[LENGTH];
+    format(time.toSecondOfDay(), buffer, 0);
+    return stringBuilder.append(buffer);
+  }
+
+  /**
+   * Formats the time as HH:mm:ss. Anything smaller than a second is dropped.
+   * 
+   * @param time The time to format. Cannot be <code>null</code>.
+   * @return The formatted time.
+   */
+  public static final String format(LocalTime time) {
+    char[] buffer = new char[LENGTH];
+    format(time.toSecondOfDay(), buffer, 0);
+    return new String(buffer);
+  }
+
+}
@@ -0,0 +1,141 @@
+package challenge.scheduler;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.base.Preconditions;
+import challenge.calculator.NPSBound;
+import challenge.jenetics.ScheduleProblem;
+import challenge.metrics.PipelineMetrics;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Manifest;
+import challenge.model.ManifestTable;
+import io.jenetics.EnumGene;
+import io.jenetics.Genotype;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.Limits;
+import io.jenetics.util.ISeq;
+
+/**
+ * Runs the genetic search of the {@link BestFitOrderScheduler} for a fixed amount of time instead
+ * of a number of generations. The first population is seeded with the
+ * {@link PriorityQueueOrderScheduler} and {@link FifoOrderScheduler} schedules, so the result is
+ * never worse than either of them.
+ * <p>
+ * The search stops when the time budget runs out, the thread is interrupted or a schedule reaches
+ * either the target NPS or the {@link NPSBound} of the manifests, and the best schedule found so
+ * far is returned. A generation that is still being evaluated when the search stops is finished
+ * first.
+ * 
+ * @author jeffrey
+ */
+public final class AnytimeOrderScheduler extends FifoOrderScheduler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AnytimeOrderScheduler.class);
+
+  /**
+   * The highest possible NPS. Used as the target when none is given, so the search only stops
+   * early if every order is a promoter.
+   */
+  public static final int MAXIMUM_NPS = 100;
+
+  private final SchedulerContext schedulerContext;
+
+  private final Duration timeBudget;
+
+  private final int targetNPS;
+
+  /**
+   * The constructor.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate} used to calculate distance.
+   *        Cannot be <code>null</code>.
+   * @param schedulerContext The {@link SchedulerContext} fitness is evaluated on. Cannot be
+   *        <code>null</code>.
+   * @param timeBudget The time spent searching each schedule. Cannot be <code>null</code> or
+   *        negative.
+   * @param targetNPS The NPS that is good enough to stop the search. Must be between -100 and 100.
+   */
+  public AnytimeOrderScheduler(GridCoordinate warehouseLocation,
+      SchedulerContext schedulerContext, Duration timeBudget, int targetNPS) {
+    super(warehouseLocation);
+    Preconditions.checkNotNull(schedulerContext, "The scheduler context cannot be null.");
+    Preconditions.checkNotNull(timeBudget, "The time budget cannot be null.");
+    Preconditions.checkArgument(!timeBudget.isNegative(), "The time budget cannot be negative.");
+    Preconditions.checkArgument(targetNPS >= -MAXIMUM_NPS && targetNPS <= MAXIMUM_NPS,
+        "The target NPS must be between -100 and 100.");
+
+    this.schedulerContext = schedulerContext;
+    this.timeBudget = timeBudget;
+    this.targetNPS = targetNPS;
+  }
+
+  @Override
+  public List<Delivery> processManifests(List<Manifest> manifests) {
+    return processTable(ManifestTable.ofManifests(manifests));
+  }
+
+  /**
+   * @throws java.util.concurrent.RejectedExecutionException If the {@link SchedulerContext} is
+   *         closed.
+   */
+  @Override
+  public List<Delivery> processTable(ManifestTable manifestTable) {
+    ScheduleProblem scheduleProblem = new ScheduleProblem(getWarehouseLocation(), manifestTable);
+    Function<int[], Integer> fitness = scheduleProblem.fitness();
+
+    int[] queueSchedule =
+        new PriorityQueueOrderScheduler(getWarehouseLocation()).toSchedule(manifestTable);
+    int[] fifoSchedule = IntStream.range(0, manifestTable.size()).toArray();
+    int queueNPS = fitness.apply(queueSchedule);
+    int fifoNPS = fitness.apply(fifoSchedule);
+    int[] bestSchedule = queueNPS >= fifoNPS ? queueSchedule : fifoSchedule;
+    int bestNPS = Math.max(queueNPS, fifoNPS);
+
+    NPSBound bound = NPSBound.of(manifestTable, getStartTime(), getEndTime());
+    int stopNPS = Math.min(targetNPS, bound.getNPS());
+    if (bestNPS < stopNPS) {
+      Engine<EnumGene<Integer>, Integer> engine =
+          BestFitOrderScheduler.newEngine(scheduleProblem, schedulerContext);
+      long startNanos = System.nanoTime();
+      Iterator<EvolutionResult<EnumGene<Integer>, Integer>> results = engine
+          .stream(Arrays.asList(toGenotype(queueSchedule), toGenotype(fifoSchedule)))
+          .limit(Limits.byExecutionTime(timeBudget)).iterator();
+      while (bestNPS < stopNPS && !Thread.currentThread().isInterrupted()
+          && results.hasNext()) {
+        EvolutionResult<EnumGene<Integer>, Integer> generation = results.next();
+        SearchMetrics.recordGeneration(generation);
+        Phenotype<EnumGene<Integer>, Integer> result = generation.getBestPhenotype();
+        if (result.getFitness() > bestNPS) {
+          bestNPS = result.getFitness();
+          bestSchedule = scheduleProblem.codec().decode(result.getGenotype());
+        }
+      }
+      PipelineMetrics.get().getEvolutionTimer().recordSince(startNanos);
+    }
+    SearchMetrics.recordSearch(LOG, bound, bestNPS);
+    return processSchedule(manifestTable, bestSchedule);
+  }
+
+  /**
+   * Encodes the schedule like the permutation codec of the {@link ScheduleProblem}, where every
+   * manifest index is its own allele.
+   */
+  private static Genotype<EnumGene<Integer>> toGenotype(int[] schedule) {
+    ISeq<Integer> alleles =
+        IntStream.range(0, schedule.length).boxed().collect(ISeq.toISeq());
+    ISeq<EnumGene<Integer>> genes = Arrays.stream(schedule)
+        .mapToObj(index -> EnumGene.<Integer>of(index, alleles)).collect(ISeq.toISeq());
+    return Genotype.of(new PermutationChromosome<>(genes));
+  }
+
+}
@@ -1,12 +1,20 @@
 package challenge.scheduler;
 
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.base.Preconditions;
+import challenge.calculator.NPSBound;
 import challenge.jenetics.ScheduleProblem;
+import challenge.jfr.GenerationEvent;
+import challenge.metrics.PipelineMetrics;
 import challenge.model.Delivery;
 import challenge.model.GridCoordinate;
 import challenge.model.Manifest;
+import challenge.model.ManifestTable;
 import challenge.model.Order;
 import io.jenetics.EnumGene;
 import io.jenetics.LinearRankSelector;
@@ -17,39 +25,139 @@ import io.jenetics.engine.Limits;
 
 /**
  * Uses Jenetics to frame a problem and find the best fit {@link Order} schedule.
+ * <p>
+ * Manifests with up to {@link ExactOrderScheduler#MAXIMUM_ORDERS} orders are scheduled with the
+ * exact search of the {@link ExactOrderScheduler} instead, which is both optimal and faster than
+ * evolving that many generations.
+ * <p>
+ * Fitness is evaluated on the {@link SchedulerContext} of the scheduler, so any number of
+ * schedulers can share a bounded set of threads. Generations, fitness evaluations and the time
+ * spent evolving are recorded in the {@link PipelineMetrics}, and every generation is recorded as a
+ * {@link GenerationEvent}.
+ * <p>
+ * The search stops as soon as a schedule reaches the {@link NPSBound} of the manifests, since no
+ * schedule can be better. The {@link PriorityQueueOrderScheduler} schedule is checked against the
+ * bound first, so quiet days that it already schedules optimally are not evolved at all. Otherwise
+ * the gap between the best schedule and the bound is recorded. An interrupted search stops after
+ * the current generation and returns the best schedule found so far.
  * 
  * @author jeffrey
  */
 public final class BestFitOrderScheduler extends FifoOrderScheduler {
 
+  private static final Logger LOG = LoggerFactory.getLogger(BestFitOrderScheduler.class);
+
   private static final int MINIMUM_GENERATION_FACTOR = 50;
 
+  private final SchedulerContext schedulerContext;
+
   /**
-   * The constructor.
+   * Equivalent to calling
+   * {@link BestFitOrderScheduler#BestFitOrderScheduler(GridCoordinate, SchedulerContext)} with
+   * {@link SchedulerContext#common()}.
    * 
    * @param warehouseLocation The warehouse {@link GridCoordinate} used to calculate distance.
    *        Cannot be <code>null</code>.
    */
   public BestFitOrderScheduler(GridCoordinate warehouseLocation) {
+    this(warehouseLocation, SchedulerContext.common());
+  }
+
+  /**
+   * The constructor.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate} used to calculate distance.
+   *        Cannot be <code>null</code>.
+   * @param schedulerContext The {@link SchedulerContext} fitness is evaluated on. Cannot be
+   *        <code>null</code>.
+   */
+  public BestFitOrderScheduler(GridCoordinate warehouseLocation,
+      SchedulerContext schedulerContext) {
     super(warehouseLocation);
+    Preconditions.checkNotNull(schedulerContext, "The scheduler context cannot be null.");
+
+    this.schedulerContext = schedulerContext;
+  }
+
+  /**
+   * @return The {@link SchedulerContext} fitness is evaluated on.
+   */
+  public SchedulerContext getSchedulerContext() {
+    return schedulerContext;
   }
 
   @Override
   public List<Delivery> processManifests(List<Manifest> manifests) {
-    int minimumGeneration = MINIMUM_GENERATION_FACTOR * manifests.size();
-    ScheduleProblem scheduleProblem = new ScheduleProblem(getWarehouseLocation(), manifests);
+    return processTable(ManifestTable.ofManifests(manifests));
+  }
 
-    Engine<EnumGene<Manifest>, Integer> engine =
-        Engine.builder(scheduleProblem).executor(Executors.newCachedThreadPool()).maximizing()
-            .offspringSelector(new LinearRankSelector<>())
-            .survivorsSelector(new LinearRankSelector<>()).build();
+  /**
+   * @throws java.util.concurrent.RejectedExecutionException If the {@link SchedulerContext} is
+   *         closed.
+   */
+  @Override
+  public List<Delivery> processTable(ManifestTable manifestTable) {
+    if (manifestTable.size() <= ExactOrderScheduler.MAXIMUM_ORDERS) {
+      return processSchedule(manifestTable, ExactOrderScheduler.findSchedule(manifestTable,
+          getStartTime().toSecondOfDay(), getEndTime().toSecondOfDay()));
+    }
+    if (schedulerContext.isClosed()) {
+      throw new RejectedExecutionException("The scheduler context is closed.");
+    }
+    ScheduleProblem scheduleProblem = new ScheduleProblem(getWarehouseLocation(), manifestTable);
+    NPSBound bound = NPSBound.of(manifestTable, getStartTime(), getEndTime());
+    int[] queueSchedule =
+        new PriorityQueueOrderScheduler(getWarehouseLocation()).toSchedule(manifestTable);
+    int queueNPS = scheduleProblem.fitness().apply(queueSchedule);
+    if (bound.isOptimal(queueNPS)) {
+      SearchMetrics.recordSearch(LOG, bound, queueNPS);
+      return processSchedule(manifestTable, queueSchedule);
+    }
 
-    Phenotype<EnumGene<Manifest>, Integer> result =
-        engine.stream().limit(Limits.bySteadyFitness(minimumGeneration))
-            .limit(minimumGeneration * 2).collect(EvolutionResult.toBestPhenotype());
+    int minimumGeneration = MINIMUM_GENERATION_FACTOR * manifestTable.size();
+    Engine<EnumGene<Integer>, Integer> engine = newEngine(scheduleProblem, schedulerContext);
 
-    return super.processManifests(result.getGenotype().getChromosome().stream()
-        .map(EnumGene::getAllele).collect(Collectors.toList()));
+    long startNanos = System.nanoTime();
+    Iterator<EvolutionResult<EnumGene<Integer>, Integer>> results = engine.stream()
+        .limit(Limits.bySteadyFitness(minimumGeneration)).limit(minimumGeneration * 2)
+        .iterator();
+    Phenotype<EnumGene<Integer>, Integer> result = null;
+    while ((result == null || !bound.isOptimal(result.getFitness()))
+        && !Thread.currentThread().isInterrupted() && results.hasNext()) {
+      EvolutionResult<EnumGene<Integer>, Integer> generation = results.next();
+      SearchMetrics.recordGeneration(generation);
+      if (result == null || generation.getBestFitness() > result.getFitness()) {
+        result = generation.getBestPhenotype();
+      }
+    }
+    PipelineMetrics.get().getEvolutionTimer().recordSince(startNanos);
+    if (result == null) {
+      SearchMetrics.recordSearch(LOG, bound, queueNPS);
+      return processSchedule(manifestTable, queueSchedule);
+    }
+    SearchMetrics.recordSearch(LOG, bound, result.getFitness());
+
+    return processSchedule(manifestTable, scheduleProblem.codec().decode(result.getGenotype()));
+  }
+
+  /**
+   * Builds the {@link Engine} that maximizes the NPS of the schedule problem. Every fitness
+   * evaluation is counted in the {@link PipelineMetrics}.
+   * 
+   * @param scheduleProblem The {@link ScheduleProblem}.
+   * @param schedulerContext The {@link SchedulerContext} fitness is evaluated on.
+   * @return The {@link Engine}.
+   */
+  static Engine<EnumGene<Integer>, Integer> newEngine(ScheduleProblem scheduleProblem,
+      SchedulerContext schedulerContext) {
+    Function<int[], Integer> fitness = scheduleProblem.fitness();
+    PipelineMetrics metrics = PipelineMetrics.get();
+    return Engine.builder((int[] schedule) -> {
+      metrics.addFitnessEvaluation();
+      return fitness.apply(schedule);
+    }, scheduleProblem.codec()).executor(schedulerContext.getExecutor()).maximizing()
+        .offspringSelector(new LinearRankSelector<>())
+        .survivorsSelector(new LinearRankSelector<>()).build();
   }
 
 }
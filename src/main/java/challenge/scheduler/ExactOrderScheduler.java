@@ -0,0 +1,269 @@
+package challenge.scheduler;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import com.google.common.base.Preconditions;
+import challenge.calculator.NPSBound;
+import challenge.model.CustomerSatisfaction;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Manifest;
+import challenge.model.ManifestTable;
+
+/**
+ * Finds a schedule with the highest possible NPS for small manifests. The search is a dynamic
+ * program over the subsets of delivered orders. Each subset keeps the pairs of drone return time
+ * and score that are not dominated by a pair that is both earlier and higher.
+ * <p>
+ * Orders that are not delivered count as detractors, so delivering an order that would be a
+ * detractor anyway is never needed. A partial schedule is dropped when even the best rating of
+ * every remaining order cannot beat the best schedule found so far, and the search stops as soon
+ * as a schedule reaches the {@link NPSBound} of the manifests. An interrupted search returns the
+ * best schedule found so far.
+ * <p>
+ * Memory and time grow with 2<sup>n</sup>, so the scheduler only accepts up to
+ * {@link ExactOrderScheduler#MAXIMUM_ORDERS} orders.
+ * 
+ * @author jeffrey
+ */
+public final class ExactOrderScheduler extends FifoOrderScheduler {
+
+  /**
+   * The largest number of orders that can be scheduled.
+   */
+  public static final int MAXIMUM_ORDERS = 20;
+
+  private static final int NO_ENTRY = -1;
+
+  /**
+   * The constructor.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate} used to calculate distance.
+   *        Cannot be <code>null</code>.
+   */
+  public ExactOrderScheduler(GridCoordinate warehouseLocation) {
+    super(warehouseLocation);
+  }
+
+  @Override
+  public int getMaximumOrders() {
+    return MAXIMUM_ORDERS;
+  }
+
+  @Override
+  public List<Delivery> processManifests(List<Manifest> manifests) {
+    return processTable(ManifestTable.ofManifests(manifests));
+  }
+
+  /**
+   * @throws IllegalArgumentException If there are more than
+   *         {@link ExactOrderScheduler#MAXIMUM_ORDERS} manifests.
+   */
+  @Override
+  public List<Delivery> processTable(ManifestTable manifestTable) {
+    Preconditions.checkArgument(manifestTable.size() <= MAXIMUM_ORDERS,
+        "Exact scheduling supports at most %s orders.", MAXIMUM_ORDERS);
+
+    return processSchedule(manifestTable, findSchedule(manifestTable,
+        getStartTime().toSecondOfDay(), getEndTime().toSecondOfDay()));
+  }
+
+  /**
+   * Finds the delivery order with the highest NPS when the manifests are scheduled first in, first
+   * out. The delivered orders come first, followed by the remaining orders in table order.
+   * 
+   * @param manifestTable The {@link ManifestTable}. Cannot have more than
+   *        {@link ExactOrderScheduler#MAXIMUM_ORDERS} manifests.
+   * @param startSecond The start second of the day.
+   * @param endSecond The end second of the day.
+   * @return The manifest indices in delivery order.
+   */
+  static int[] findSchedule(ManifestTable manifestTable, int startSecond, int endSecond) {
+    return new Search(manifestTable, startSecond, endSecond).run();
+  }
+
+  /**
+   * The state of a single search. Entries are stored in parallel arrays and each subset links its
+   * entries through {@link Search#nextEntries}. Entries only point to parents in smaller subsets,
+   * which are finished before any larger subset is expanded.
+   */
+  private static final class Search {
+
+    private final ManifestTable manifestTable;
+
+    private final int size;
+
+    private final int endSecond;
+
+    private final int maximumObjective;
+
+    private final int[] firstEntries;
+
+    private int[] nextEntries = new int[64];
+
+    private int[] returnSeconds = new int[64];
+
+    private int[] scores = new int[64];
+
+    private int[] parentEntries = new int[64];
+
+    private int[] lastIndices = new int[64];
+
+    private int entryCount;
+
+    private int bestEntry;
+
+    private int bestObjective;
+
+    private Search(ManifestTable manifestTable, int startSecond, int endSecond) {
+      this.manifestTable = manifestTable;
+      this.size = manifestTable.size();
+      this.endSecond = endSecond;
+      this.maximumObjective = size == 0 ? 0
+          : NPSBound.of(manifestTable, LocalTime.ofSecondOfDay(startSecond),
+              LocalTime.ofSecondOfDay(endSecond)).getMaximumScore();
+      this.firstEntries = new int[1 << size];
+      Arrays.fill(firstEntries, NO_ENTRY);
+
+      this.bestEntry = addEntry(0, startSecond, 0, NO_ENTRY, NO_ENTRY);
+      this.bestObjective = -size;
+    }
+
+    private int[] run() {
+      for (int subset = 0; subset < firstEntries.length && bestObjective < maximumObjective
+          && !Thread.currentThread().isInterrupted(); subset++) {
+        for (int entry = firstEntries[subset];
+            entry != NO_ENTRY && bestObjective < maximumObjective; entry = nextEntries[entry]) {
+          expand(subset, entry);
+        }
+      }
+      return toSchedule();
+    }
+
+    /**
+     * The objective of an entry is the score with every order outside the subset as a detractor.
+     * Each remaining order can gain at most two for a promoter or one for a neutral, rated at the
+     * earliest time it could leave.
+     */
+    private void expand(int subset, int entry) {
+      int returnSecond = returnSeconds[entry];
+      int objective = scores[entry] - (size - Integer.bitCount(subset));
+      if (objective > bestObjective) {
+        bestObjective = objective;
+        bestEntry = entry;
+      }
+
+      int bound = objective;
+      for (int index = 0; index < size; index++) {
+        if ((subset & (1 << index)) == 0) {
+          bound += gain(index, returnSecond);
+        }
+      }
+      if (bound <= bestObjective) {
+        return;
+      }
+
+      for (int index = 0; index < size; index++) {
+        if ((subset & (1 << index)) == 0) {
+          int gain = gain(index, returnSecond);
+          if (gain > 0) {
+            int departureSecond = Math.max(returnSecond, manifestTable.getOrderSecond(index));
+            offer(subset | (1 << index),
+                manifestTable.getCompletionSecond(index, departureSecond),
+                scores[entry] + gain - 1, entry, index);
+          }
+        }
+      }
+    }
+
+    /**
+     * @return Two for a promoter, one for a neutral and zero if the order cannot be delivered or
+     *         would be a detractor.
+     */
+    private int gain(int index, int returnSecond) {
+      int orderSecond = manifestTable.getOrderSecond(index);
+      if (orderSecond >= endSecond) {
+        return 0;
+      }
+      int departureSecond = Math.max(returnSecond, orderSecond);
+      if (manifestTable.getCompletionSecond(index, departureSecond) > endSecond) {
+        return 0;
+      }
+      CustomerSatisfaction rating = manifestTable.getRating(index, departureSecond);
+      if (rating == CustomerSatisfaction.PROMOTER) {
+        return 2;
+      }
+      return rating == CustomerSatisfaction.NEUTRAL ? 1 : 0;
+    }
+
+    /**
+     * Adds the entry to the subset unless an entry of the subset returns no later with a score no
+     * lower. Entries dominated by the new entry are unlinked.
+     */
+    private void offer(int subset, int returnSecond, int score, int parentEntry, int lastIndex) {
+      int previous = NO_ENTRY;
+      int entry = firstEntries[subset];
+      while (entry != NO_ENTRY) {
+        if (returnSeconds[entry] <= returnSecond && scores[entry] >= score) {
+          return;
+        }
+        int next = nextEntries[entry];
+        if (returnSecond <= returnSeconds[entry] && score >= scores[entry]) {
+          if (previous == NO_ENTRY) {
+            firstEntries[subset] = next;
+          } else {
+            nextEntries[previous] = next;
+          }
+        } else {
+          previous = entry;
+        }
+        entry = next;
+      }
+      addEntry(subset, returnSecond, score, parentEntry, lastIndex);
+    }
+
+    private int addEntry(int subset, int returnSecond, int score, int parentEntry,
+        int lastIndex) {
+      if (entryCount == returnSeconds.length) {
+        int capacity = entryCount * 2;
+        nextEntries = Arrays.copyOf(nextEntries, capacity);
+        returnSeconds = Arrays.copyOf(returnSeconds, capacity);
+        scores = Arrays.copyOf(scores, capacity);
+        parentEntries = Arrays.copyOf(parentEntries, capacity);
+        lastIndices = Arrays.copyOf(lastIndices, capacity);
+      }
+      int entry = entryCount++;
+      returnSeconds[entry] = returnSecond;
+      scores[entry] = score;
+      parentEntries[entry] = parentEntry;
+      lastIndices[entry] = lastIndex;
+      nextEntries[entry] = firstEntries[subset];
+      firstEntries[subset] = entry;
+      return entry;
+    }
+
+    private int[] toSchedule() {
+      int[] schedule = new int[size];
+      boolean[] delivered = new boolean[size];
+      int deliveredCount = 0;
+      for (int entry = bestEntry; lastIndices[entry] != NO_ENTRY; entry = parentEntries[entry]) {
+        delivered[lastIndices[entry]] = true;
+        deliveredCount++;
+      }
+      int position = deliveredCount;
+      for (int entry = bestEntry; lastIndices[entry] != NO_ENTRY; entry = parentEntries[entry]) {
+        schedule[--position] = lastIndices[entry];
+      }
+      position = deliveredCount;
+      for (int index = 0; index < size; index++) {
+        if (!delivered[index]) {
+          schedule[position++] = index;
+        }
+      }
+      return schedule;
+    }
+
+  }
+
+}
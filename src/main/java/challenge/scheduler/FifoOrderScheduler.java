@@ -1,13 +1,17 @@
 package challenge.scheduler;
 
-import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import challenge.model.CustomerSatisfaction;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import com.google.common.collect.Iterators;
 import challenge.model.Delivery;
 import challenge.model.GridCoordinate;
 import challenge.model.Manifest;
+import challenge.model.ManifestTable;
+import challenge.model.Order;
 
 /**
  * A basic {@link OrderScheduler} that schedules deliveries in the same order that the orders come
@@ -17,6 +21,8 @@ import challenge.model.Manifest;
  */
 public class FifoOrderScheduler extends OrderScheduler {
 
+  private static final int STREAM_CHUNK_SIZE = 1024;
+
   /**
    * The constructor.
    * 
@@ -29,30 +35,66 @@ public class FifoOrderScheduler extends OrderScheduler {
 
   @Override
   public List<Delivery> processManifests(List<Manifest> manifests) {
-    List<Delivery> deliveries = new ArrayList<>();
+    return processTable(ManifestTable.ofManifests(manifests));
+  }
+
+  @Override
+  public List<Delivery> processTable(ManifestTable manifestTable) {
+    return processSchedule(manifestTable, IntStream.range(0, manifestTable.size()).toArray());
+  }
+
+  /**
+   * Schedules the orders in the order they are read. Incomplete deliveries are passed to the
+   * consumer as soon as they are decided instead of at the end.
+   */
+  @Override
+  protected void processStream(Stream<Order> orders, Consumer<Delivery> deliveryConsumer) {
+    Iterator<List<Order>> chunks = Iterators.partition(orders.iterator(), STREAM_CHUNK_SIZE);
+    int currentSecond = getStartTime().toSecondOfDay();
+    while (chunks.hasNext()) {
+      ManifestTable manifestTable = ManifestTable.of(chunks.next(), getWarehouseLocation());
+      currentSecond = scheduleInOrder(manifestTable,
+          IntStream.range(0, manifestTable.size()).toArray(), currentSecond, deliveryConsumer,
+          deliveryConsumer);
+    }
+  }
+
+  /**
+   * Schedules the deliveries in the order of the manifest indices.
+   * 
+   * @param manifestTable The {@link ManifestTable}.
+   * @param schedule The manifest indices in delivery order.
+   * @return The resulting {@link Delivery} list.
+   */
+  protected final List<Delivery> processSchedule(ManifestTable manifestTable, int[] schedule) {
+    List<Delivery> deliveries = new ArrayList<>(schedule.length);
     List<Delivery> incomplete = new ArrayList<>();
 
-    LocalTime currentTime = getStartTime();
-    Iterator<Manifest> manifestIterator = manifests.iterator();
-    while (manifestIterator.hasNext()) {
-      Manifest manifest = manifestIterator.next();
-      if (!manifest.getOrderTime().isBefore(getEndTime())) {
-        incomplete.add(incompleteDelivery(manifest.getOrderId()));
+    scheduleInOrder(manifestTable, schedule, getStartTime().toSecondOfDay(), deliveries::add,
+        incomplete::add);
+    deliveries.addAll(incomplete);
+
+    return deliveries;
+  }
+
+  private int scheduleInOrder(ManifestTable manifestTable, int[] schedule, int currentSecond,
+      Consumer<Delivery> deliveryConsumer, Consumer<Delivery> incompleteConsumer) {
+    int endSecond = getEndTime().toSecondOfDay();
+    for (int index : schedule) {
+      if (manifestTable.getOrderSecond(index) >= endSecond) {
+        incompleteConsumer.accept(incompleteDelivery(manifestTable.getOrderId(index)));
       } else {
-        currentTime = laterTime(currentTime, manifest.getOrderTime());
-        LocalTime completionTime = manifest.getCompletionTime(currentTime);
-        if (!completionTime.isAfter(getEndTime())) {
-          CustomerSatisfaction rating = manifest.getRating(currentTime);
-          deliveries.add(new Delivery(manifest.getOrderId(), currentTime, rating));
-          currentTime = completionTime;
+        currentSecond = Math.max(currentSecond, manifestTable.getOrderSecond(index));
+        int completionSecond = manifestTable.getCompletionSecond(index, currentSecond);
+        if (completionSecond <= endSecond) {
+          deliveryConsumer.accept(scheduledDelivery(manifestTable, index, currentSecond));
+          currentSecond = completionSecond;
         } else {
-          incomplete.add(incompleteDelivery(manifest.getOrderId()));
+          incompleteConsumer.accept(incompleteDelivery(manifestTable.getOrderId(index)));
         }
       }
     }
-    deliveries.addAll(incomplete);
-
-    return deliveries;
+    return currentSecond;
   }
 
 }
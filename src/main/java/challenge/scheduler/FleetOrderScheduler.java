@@ -0,0 +1,33 @@
+package challenge.scheduler;
+
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.ManifestTable;
+
+/**
+ * Schedules the orders across a fleet of drones. Orders are prioritized like the
+ * {@link PriorityQueueOrderScheduler} and each order is dispatched to the drone that is back at the
+ * warehouse first. Every scheduled {@link Delivery} reports the drone that flew it.
+ * 
+ * @author jeffrey
+ */
+public class FleetOrderScheduler extends PriorityQueueOrderScheduler {
+
+  /**
+   * The constructor.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate} used to calculate distance.
+   *        Cannot be <code>null</code>.
+   * @param droneCount The number of drones. Must be positive.
+   */
+  public FleetOrderScheduler(GridCoordinate warehouseLocation, int droneCount) {
+    super(warehouseLocation, droneCount);
+  }
+
+  @Override
+  protected Delivery toDelivery(ManifestTable manifestTable, int index, int departureSecond,
+      int drone) {
+    return scheduledDelivery(manifestTable, index, departureSecond, drone);
+  }
+
+}
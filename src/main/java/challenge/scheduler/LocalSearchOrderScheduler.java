@@ -0,0 +1,284 @@
+package challenge.scheduler;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.base.Preconditions;
+import challenge.calculator.NPSBound;
+import challenge.jenetics.ScheduleFitness;
+import challenge.model.CustomerSatisfaction;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Manifest;
+import challenge.model.ManifestTable;
+
+/**
+ * Improves the {@link PriorityQueueOrderScheduler} schedule with simulated annealing until the time
+ * budget runs out. Each step either swaps two deliveries or moves one delivery to another position.
+ * Worse schedules are accepted with a probability that drops as the budget is used up, which lets
+ * the search leave local optima early on.
+ * <p>
+ * Schedules are scored like {@link ScheduleFitness}, but only the positions whose drone departure
+ * changes are rescored. The rest of the schedule is skipped once the drone returns at the same
+ * time as before the move. The best schedule found is never worse than the queue based one.
+ * <p>
+ * The search stops early once the best schedule reaches the {@link NPSBound} of the manifests or
+ * the thread is interrupted.
+ * <p>
+ * Every search draws its moves from a {@link SplittableRandom} with the seed of the scheduler.
+ * Given a step budget, the temperature drops with the moves made instead of the time taken, so a
+ * seeded search can be reproduced.
+ * 
+ * @author jeffrey
+ */
+public final class LocalSearchOrderScheduler extends FifoOrderScheduler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LocalSearchOrderScheduler.class);
+
+  /**
+   * The time budget used when none is given.
+   */
+  public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(100);
+
+  private static final double INITIAL_TEMPERATURE = 2.0;
+
+  private static final double FINAL_TEMPERATURE = 0.05;
+
+  /**
+   * The number of steps between checks of the clock.
+   */
+  private static final int CLOCK_INTERVAL = 256;
+
+  /**
+   * Stands in for no step budget, so the search cools down with the time taken.
+   */
+  private static final long UNLIMITED_STEPS = Long.MAX_VALUE;
+
+  private final long timeBudgetNanos;
+
+  private final long seed;
+
+  private final long stepBudget;
+
+  /**
+   * Equivalent to calling
+   * {@link LocalSearchOrderScheduler#LocalSearchOrderScheduler(GridCoordinate, Duration)} with
+   * {@link LocalSearchOrderScheduler#DEFAULT_TIME_BUDGET}.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate} used to calculate distance.
+   *        Cannot be <code>null</code>.
+   */
+  public LocalSearchOrderScheduler(GridCoordinate warehouseLocation) {
+    this(warehouseLocation, DEFAULT_TIME_BUDGET);
+  }
+
+  /**
+   * The constructor. Each search draws its moves with a random seed and cools down with the time
+   * taken.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate} used to calculate distance.
+   *        Cannot be <code>null</code>.
+   * @param timeBudget The time spent improving each schedule. Cannot be <code>null</code> or
+   *        negative.
+   */
+  public LocalSearchOrderScheduler(GridCoordinate warehouseLocation, Duration timeBudget) {
+    this(warehouseLocation, timeBudget, ThreadLocalRandom.current().nextLong(), UNLIMITED_STEPS);
+  }
+
+  /**
+   * The constructor. Each search draws its moves with the seed and cools down with the moves made,
+   * so searches on the same orders make the same moves and return the same schedule unless the
+   * time budget runs out first.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate} used to calculate distance.
+   *        Cannot be <code>null</code>.
+   * @param timeBudget The most time spent improving each schedule. Cannot be <code>null</code> or
+   *        negative.
+   * @param seed The seed of the random moves of each search.
+   * @param stepBudget The number of moves tried to improve each schedule. Must be positive.
+   */
+  public LocalSearchOrderScheduler(GridCoordinate warehouseLocation, Duration timeBudget,
+      long seed, long stepBudget) {
+    super(warehouseLocation);
+    Preconditions.checkNotNull(timeBudget, "The time budget cannot be null.");
+    Preconditions.checkArgument(!timeBudget.isNegative(), "The time budget cannot be negative.");
+    Preconditions.checkArgument(stepBudget > 0, "The step budget must be positive.");
+
+    this.timeBudgetNanos = timeBudget.toNanos();
+    this.seed = seed;
+    this.stepBudget = stepBudget;
+  }
+
+  /**
+   * @return The seed of the random moves of each search.
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  @Override
+  public List<Delivery> processManifests(List<Manifest> manifests) {
+    return processTable(ManifestTable.ofManifests(manifests));
+  }
+
+  @Override
+  public List<Delivery> processTable(ManifestTable manifestTable) {
+    int[] queueSchedule =
+        new PriorityQueueOrderScheduler(getWarehouseLocation()).toSchedule(manifestTable);
+    Search search = new Search(manifestTable, queueSchedule,
+        getStartTime().toSecondOfDay(), getEndTime().toSecondOfDay());
+    NPSBound bound = NPSBound.of(manifestTable, getStartTime(), getEndTime());
+    int[] schedule = search.run(timeBudgetNanos, stepBudget, bound.getMaximumScore(),
+        new SplittableRandom(seed));
+    SearchMetrics.recordSearch(LOG, bound,
+        new ScheduleFitness(manifestTable, getStartTime(), getEndTime()).getNPS(schedule));
+    return processSchedule(manifestTable, schedule);
+  }
+
+  /**
+   * The state of a single search. Keeps the drone return second and the score of every position,
+   * so a move only rescores the positions it affects.
+   */
+  private static final class Search {
+
+    private final ManifestTable manifestTable;
+
+    private final int startSecond;
+
+    private final int endSecond;
+
+    private final int[] schedule;
+
+    private final int[] returnSeconds;
+
+    private final int[] scores;
+
+    private int score;
+
+    private Search(ManifestTable manifestTable, int[] schedule, int startSecond, int endSecond) {
+      this.manifestTable = manifestTable;
+      this.startSecond = startSecond;
+      this.endSecond = endSecond;
+      this.schedule = schedule;
+      this.returnSeconds = new int[schedule.length];
+      this.scores = new int[schedule.length];
+      Arrays.fill(returnSeconds, -1);
+      this.score = rescore(0, 0);
+    }
+
+    /**
+     * The temperature follows the step budget, or the time budget if the steps are
+     * {@link LocalSearchOrderScheduler#UNLIMITED_STEPS}.
+     * 
+     * @return The best schedule found before either budget runs out or the score reaches the
+     *         maximum score.
+     */
+    private int[] run(long timeBudgetNanos, long stepBudget, int maximumScore,
+        SplittableRandom random) {
+      int[] bestSchedule = schedule.clone();
+      int bestScore = score;
+      int size = schedule.length;
+      long startNanos = System.nanoTime();
+      double temperature = INITIAL_TEMPERATURE;
+      for (long step = 0; size > 1 && bestScore < maximumScore && step < stepBudget; step++) {
+        if (step % CLOCK_INTERVAL == 0) {
+          long elapsedNanos = System.nanoTime() - startNanos;
+          if (elapsedNanos >= timeBudgetNanos || Thread.currentThread().isInterrupted()) {
+            break;
+          }
+          double progress = stepBudget == UNLIMITED_STEPS ? (double) elapsedNanos / timeBudgetNanos
+              : (double) step / stepBudget;
+          temperature = INITIAL_TEMPERATURE
+              * Math.pow(FINAL_TEMPERATURE / INITIAL_TEMPERATURE, progress);
+        }
+
+        int from = random.nextInt(size);
+        int to = random.nextInt(size - 1);
+        to += to >= from ? 1 : 0;
+        boolean swap = random.nextBoolean();
+        int delta = swap ? swap(from, to) : move(from, to);
+        if (delta >= 0 || random.nextDouble() < Math.exp(delta / temperature)) {
+          score += delta;
+          if (score > bestScore) {
+            bestScore = score;
+            System.arraycopy(schedule, 0, bestSchedule, 0, size);
+          }
+        } else if (swap) {
+          swap(from, to);
+        } else {
+          move(to, from);
+        }
+      }
+      return bestSchedule;
+    }
+
+    /**
+     * @return The change in score.
+     */
+    private int swap(int first, int second) {
+      int index = schedule[first];
+      schedule[first] = schedule[second];
+      schedule[second] = index;
+      return rescore(Math.min(first, second), Math.max(first, second));
+    }
+
+    /**
+     * @return The change in score.
+     */
+    private int move(int from, int to) {
+      int index = schedule[from];
+      if (from < to) {
+        System.arraycopy(schedule, from + 1, schedule, from, to - from);
+      } else {
+        System.arraycopy(schedule, to, schedule, to + 1, from - to);
+      }
+      schedule[to] = index;
+      return rescore(Math.min(from, to), Math.max(from, to));
+    }
+
+    /**
+     * Rescores the schedule from the first changed position. Stops after the last changed position
+     * once the drone returns at the same second as before, since nothing after it changes.
+     * 
+     * @return The change in score.
+     */
+    private int rescore(int firstChanged, int lastChanged) {
+      int delta = 0;
+      int currentSecond = firstChanged == 0 ? startSecond : returnSeconds[firstChanged - 1];
+      for (int position = firstChanged; position < schedule.length; position++) {
+        int index = schedule[position];
+        int positionScore = -1;
+        int orderSecond = manifestTable.getOrderSecond(index);
+        if (orderSecond < endSecond) {
+          currentSecond = Math.max(currentSecond, orderSecond);
+          int completionSecond = manifestTable.getCompletionSecond(index, currentSecond);
+          if (completionSecond <= endSecond) {
+            positionScore = toScore(manifestTable.getRating(index, currentSecond));
+            currentSecond = completionSecond;
+          }
+        }
+        delta += positionScore - scores[position];
+        scores[position] = positionScore;
+        boolean unchanged = returnSeconds[position] == currentSecond;
+        returnSeconds[position] = currentSecond;
+        if (position >= lastChanged && unchanged) {
+          break;
+        }
+      }
+      return delta;
+    }
+
+    private static int toScore(CustomerSatisfaction rating) {
+      if (rating == CustomerSatisfaction.PROMOTER) {
+        return 1;
+      }
+      return rating == CustomerSatisfaction.DETRACTOR ? -1 : 0;
+    }
+
+  }
+
+}
@@ -0,0 +1,200 @@
+package challenge.scheduler;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import challenge.comparator.ManifestPriorityComparator;
+import challenge.model.Manifest;
+import challenge.model.ManifestTable;
+
+/**
+ * The queue of arrived manifests. Orders are polled in the same sequence as a list that is stably
+ * sorted by {@link ManifestPriorityComparator} each time new orders arrive.
+ * <p>
+ * Queued orders are split into two heaps: orders that can still avoid the detractor zone, and
+ * orders that are already lost. Both are ordered by transit minutes. A third heap keyed by
+ * detractor time moves orders into the lost heap when the queue is refreshed, so every order costs
+ * a logarithmic amount of work.
+ * 
+ * @author jeffrey
+ */
+final class ManifestQueue {
+
+  private static final Comparator<QueuedManifest> BY_TRANSIT_AND_ARRIVAL =
+      Comparator.<QueuedManifest>comparingInt(queued -> queued.transitMinutes)
+          .thenComparingLong(queued -> queued.arrival);
+
+  private static final Comparator<QueuedManifest> BY_TRANSIT_AND_RANK =
+      Comparator.<QueuedManifest>comparingInt(queued -> queued.transitMinutes)
+          .thenComparingLong(queued -> queued.rank);
+
+  private static final Comparator<QueuedManifest> BY_DETRACTOR_SECOND =
+      Comparator.<QueuedManifest>comparingInt(queued -> queued.detractorSecond)
+          .thenComparingLong(queued -> queued.arrival);
+
+  private static final Comparator<QueuedManifest> BY_ARRIVAL =
+      Comparator.comparingLong(queued -> queued.arrival);
+
+  private final PendingManifests pending;
+
+  private final PriorityQueue<QueuedManifest> rescuable =
+      new PriorityQueue<>(BY_TRANSIT_AND_ARRIVAL);
+
+  private final PriorityQueue<QueuedManifest> rescuableByDetractorSecond =
+      new PriorityQueue<>(BY_DETRACTOR_SECOND);
+
+  private final PriorityQueue<QueuedManifest> lost = new PriorityQueue<>(BY_TRANSIT_AND_RANK);
+
+  private long arrivals;
+
+  private int rescuableCount;
+
+  private long frontRank;
+
+  private long backRank;
+
+  ManifestQueue(PendingManifests pending) {
+    this.pending = pending;
+  }
+
+  boolean isEmpty() {
+    return rescuableCount == 0 && lost.isEmpty();
+  }
+
+  /**
+   * @return The number of queued manifests.
+   */
+  int size() {
+    return rescuableCount + lost.size();
+  }
+
+  QueuedManifest poll() {
+    QueuedManifest queued;
+    if (rescuableCount > 0) {
+      do {
+        queued = rescuable.poll();
+      } while (queued.lost);
+      rescuableCount--;
+    } else {
+      queued = lost.poll();
+    }
+    queued.dispatched = true;
+    return queued;
+  }
+
+  /**
+   * Adds the arrived orders to the queue. Skips to the next order time if there isn't anything
+   * left in the queue.
+   * 
+   * @param currentSecond The current second of the day.
+   * @return The updated current second.
+   */
+  int update(int currentSecond) {
+    if (pending.hasNext()) {
+      if (isEmpty()) {
+        currentSecond = Math.max(currentSecond, pending.nextOrderSecond());
+      }
+      if (pending.nextOrderSecond() <= currentSecond) {
+        moveLateToLost(currentSecond);
+        while (pending.hasNext() && pending.nextOrderSecond() <= currentSecond) {
+          QueuedManifest queued = pending.next(arrivals++);
+          if (currentSecond > queued.detractorSecond) {
+            queued.lost = true;
+            queued.rank = backRank++;
+            lost.add(queued);
+          } else {
+            rescuable.add(queued);
+            rescuableByDetractorSecond.add(queued);
+            rescuableCount++;
+          }
+        }
+      }
+    }
+    return currentSecond;
+  }
+
+  /**
+   * Moves the queued orders past their detractor time into the lost heap. A stable sort places
+   * them in front of the orders that were already lost.
+   */
+  private void moveLateToLost(int currentSecond) {
+    List<QueuedManifest> late = new ArrayList<>();
+    while (!rescuableByDetractorSecond.isEmpty()
+        && currentSecond > rescuableByDetractorSecond.peek().detractorSecond) {
+      QueuedManifest queued = rescuableByDetractorSecond.poll();
+      if (!queued.dispatched) {
+        late.add(queued);
+      }
+    }
+    late.sort(BY_ARRIVAL);
+    frontRank -= late.size();
+    long rank = frontRank;
+    for (QueuedManifest queued : late) {
+      queued.lost = true;
+      queued.rank = rank++;
+      lost.add(queued);
+      rescuableCount--;
+    }
+  }
+
+  /**
+   * A manifest waiting in the queue. Either a row of a {@link ManifestTable} or a single
+   * {@link Manifest}, the other being <code>null</code>.
+   */
+  static final class QueuedManifest {
+
+    final ManifestTable manifestTable;
+
+    final int index;
+
+    final Manifest manifest;
+
+    private final int transitMinutes;
+
+    private final int detractorSecond;
+
+    private final long arrival;
+
+    private long rank;
+
+    private boolean lost;
+
+    private boolean dispatched;
+
+    QueuedManifest(ManifestTable manifestTable, int index, long arrival) {
+      this.manifestTable = manifestTable;
+      this.index = index;
+      this.manifest = null;
+      this.transitMinutes = manifestTable.getTransitMinutes(index);
+      this.detractorSecond = manifestTable.getDetractorSecond(index);
+      this.arrival = arrival;
+    }
+
+    QueuedManifest(Manifest manifest, long arrival) {
+      this.manifestTable = null;
+      this.index = 0;
+      this.manifest = manifest;
+      this.transitMinutes = manifest.getTransitMinutes();
+      this.detractorSecond = LocalTime.MAX.equals(manifest.getDetractorTime())
+          ? ManifestTable.MAX_SECOND : manifest.getDetractorTime().toSecondOfDay();
+      this.arrival = arrival;
+    }
+
+  }
+
+  /**
+   * The manifests that have not arrived yet, in the order they join the queue.
+   */
+  interface PendingManifests {
+
+    boolean hasNext();
+
+    int nextOrderSecond();
+
+    QueuedManifest next(long arrival);
+
+  }
+
+}
@@ -0,0 +1,84 @@
+package challenge.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import challenge.calculator.NPSAccumulator;
+import challenge.calculator.NPSCalculator;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+
+/**
+ * The deliveries of a {@link MultiWarehouseScheduler}, kept per warehouse.
+ * 
+ * @author jeffrey
+ */
+public final class MultiWarehouseSchedule {
+
+  private final List<GridCoordinate> warehouseLocations;
+
+  private final List<List<Delivery>> deliveriesByWarehouse;
+
+  /**
+   * The constructor.
+   * 
+   * @param warehouseLocations The warehouse {@link GridCoordinate}s.
+   * @param deliveriesByWarehouse The {@link Delivery} list of each warehouse, in the same order as
+   *        the warehouse locations.
+   */
+  MultiWarehouseSchedule(List<GridCoordinate> warehouseLocations,
+      List<List<Delivery>> deliveriesByWarehouse) {
+    this.warehouseLocations = warehouseLocations;
+    this.deliveriesByWarehouse = deliveriesByWarehouse;
+  }
+
+  /**
+   * @return The warehouse {@link GridCoordinate}s.
+   */
+  public List<GridCoordinate> getWarehouseLocations() {
+    return warehouseLocations;
+  }
+
+  /**
+   * @return Every {@link Delivery}, grouped by warehouse in warehouse order.
+   */
+  public List<Delivery> getDeliveries() {
+    List<Delivery> deliveries = new ArrayList<>();
+    deliveriesByWarehouse.forEach(deliveries::addAll);
+    return deliveries;
+  }
+
+  /**
+   * @param warehouse The warehouse index.
+   * @return The {@link Delivery} list of the warehouse. Empty if no orders were closest to it.
+   */
+  public List<Delivery> getDeliveries(int warehouse) {
+    return Collections.unmodifiableList(deliveriesByWarehouse.get(warehouse));
+  }
+
+  /**
+   * @return The Net Promoter Score (NPS) across all warehouses.
+   */
+  public int getNPS() {
+    NPSAccumulator accumulator = new NPSAccumulator();
+    deliveriesByWarehouse.forEach(deliveries -> deliveries.forEach(accumulator));
+    return accumulator.getNPS();
+  }
+
+  /**
+   * @return The Net Promoter Score (NPS) of each warehouse that has deliveries, in warehouse order.
+   */
+  public Map<GridCoordinate, Integer> getNPSByWarehouse() {
+    Map<GridCoordinate, Integer> npsByWarehouse = new LinkedHashMap<>();
+    for (int warehouse = 0; warehouse < warehouseLocations.size(); warehouse++) {
+      List<Delivery> deliveries = deliveriesByWarehouse.get(warehouse);
+      if (!deliveries.isEmpty()) {
+        npsByWarehouse.put(warehouseLocations.get(warehouse), NPSCalculator.getNPS(deliveries));
+      }
+    }
+    return npsByWarehouse;
+  }
+
+}
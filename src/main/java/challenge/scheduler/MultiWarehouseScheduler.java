@@ -0,0 +1,97 @@
+package challenge.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import com.google.common.base.Preconditions;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Order;
+import challenge.model.WarehouseIndex;
+
+/**
+ * Schedules orders across several warehouses. Each {@link Order} is assigned to the closest
+ * warehouse using a {@link WarehouseIndex}, and the orders of each warehouse are scheduled in
+ * parallel by their own {@link OrderScheduler}.
+ * 
+ * @author jeffrey
+ */
+public final class MultiWarehouseScheduler {
+
+  private final WarehouseIndex warehouseIndex;
+
+  private final List<OrderScheduler> orderSchedulers;
+
+  /**
+   * The constructor.
+   * 
+   * @param warehouseLocations The warehouse {@link GridCoordinate}s. Cannot be <code>null</code>,
+   *        empty or contain duplicates.
+   * @param schedulerFactory Creates the {@link OrderScheduler} of a warehouse (e.g.
+   *        <code>OrderSchedulers::priorityQueueBased</code>). Cannot be <code>null</code>.
+   */
+  public MultiWarehouseScheduler(List<GridCoordinate> warehouseLocations,
+      Function<GridCoordinate, OrderScheduler> schedulerFactory) {
+    Preconditions.checkNotNull(schedulerFactory, "The scheduler factory cannot be null.");
+
+    this.warehouseIndex = new WarehouseIndex(warehouseLocations);
+    this.orderSchedulers = new ArrayList<>();
+    warehouseIndex.getWarehouseLocations().stream().map(schedulerFactory)
+        .forEach(orderSchedulers::add);
+  }
+
+  /**
+   * @return The warehouse {@link GridCoordinate}s.
+   */
+  public List<GridCoordinate> getWarehouseLocations() {
+    return warehouseIndex.getWarehouseLocations();
+  }
+
+  /**
+   * Schedules the orders on the common {@link ForkJoinPool}. Follows
+   * {@link MultiWarehouseScheduler#schedule(List, ForkJoinPool)}.
+   * 
+   * @param orders The {@link Order} list. Cannot be <code>null</code> or empty.
+   * @return The {@link MultiWarehouseSchedule}.
+   */
+  public MultiWarehouseSchedule schedule(List<Order> orders) {
+    return schedule(orders, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Assigns each order to the closest warehouse and schedules the orders of each warehouse as a
+   * separate task on the pool.
+   * 
+   * @param orders The {@link Order} list. Cannot be <code>null</code> or empty.
+   * @param pool The {@link ForkJoinPool} used to schedule the warehouses. Cannot be
+   *        <code>null</code>.
+   * @return The {@link MultiWarehouseSchedule}.
+   */
+  public MultiWarehouseSchedule schedule(List<Order> orders, ForkJoinPool pool) {
+    Preconditions.checkNotNull(orders, "Orders cannot be null.");
+    Preconditions.checkArgument(!orders.isEmpty(), "Orders cannot be empty.");
+    Preconditions.checkNotNull(pool, "The pool cannot be null.");
+
+    List<List<Order>> ordersByWarehouse = new ArrayList<>();
+    orderSchedulers.forEach(orderScheduler -> ordersByWarehouse.add(new ArrayList<>()));
+    orders.forEach(order -> ordersByWarehouse
+        .get(warehouseIndex.nearest(order.getCustomerLocation())).add(order));
+
+    List<ForkJoinTask<List<Delivery>>> tasks = new ArrayList<>();
+    for (int warehouse = 0; warehouse < orderSchedulers.size(); warehouse++) {
+      OrderScheduler orderScheduler = orderSchedulers.get(warehouse);
+      List<Order> warehouseOrders = ordersByWarehouse.get(warehouse);
+      tasks.add(warehouseOrders.isEmpty() ? null
+          : pool.submit(() -> orderScheduler.schedule(warehouseOrders)));
+    }
+
+    List<List<Delivery>> deliveriesByWarehouse = new ArrayList<>();
+    tasks.forEach(task -> deliveriesByWarehouse
+        .add(task == null ? Collections.emptyList() : task.join()));
+    return new MultiWarehouseSchedule(getWarehouseLocations(), deliveriesByWarehouse);
+  }
+
+}
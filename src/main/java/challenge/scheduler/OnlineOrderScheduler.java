@@ -0,0 +1,189 @@
+package challenge.scheduler;
+
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import com.google.common.base.Preconditions;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Manifest;
+import challenge.model.Order;
+import challenge.scheduler.ManifestQueue.PendingManifests;
+import challenge.scheduler.ManifestQueue.QueuedManifest;
+
+/**
+ * Schedules orders as they come in instead of waiting for a full day of orders. Orders are
+ * submitted with {@link OnlineOrderScheduler#submit(Order)} and the drone is dispatched with
+ * {@link OnlineOrderScheduler#nextDispatch(LocalTime)}. Every {@link Delivery}, including
+ * incomplete ones, is passed to the dispatch consumer.
+ * <p>
+ * Orders are prioritized like the {@link QueueOrderScheduler}, using the same {@link ManifestQueue}
+ * as the {@link PriorityQueueOrderScheduler}, so each order costs a logarithmic amount of work.
+ * Each submitted order is kept as a single {@link Manifest}.
+ * Calling {@link OnlineOrderScheduler#nextDispatch(LocalTime)} whenever the drone returns or an
+ * order arrives gives the same deliveries as scheduling the whole day at once.
+ * <p>
+ * The online methods are synchronized, so orders can be submitted from a different thread than the
+ * one dispatching the drone. The dispatch consumer is called while holding the lock.
+ * 
+ * @author jeffrey
+ */
+public class OnlineOrderScheduler extends PriorityQueueOrderScheduler {
+
+  private static final Comparator<SubmittedManifest> BY_ORDER_SECOND =
+      Comparator.<SubmittedManifest>comparingInt(submitted -> submitted.orderSecond)
+          .thenComparingInt(submitted -> submitted.manifest.getTransitMinutes())
+          .thenComparing(submitted -> submitted.manifest.getOrderId())
+          .thenComparingLong(submitted -> submitted.sequence);
+
+  private final Consumer<Delivery> dispatchConsumer;
+
+  private final SubmittedManifests pending = new SubmittedManifests();
+
+  private final ManifestQueue queue = new ManifestQueue(pending);
+
+  private int droneReturnSecond;
+
+  private int lastDispatchSecond;
+
+  /**
+   * The constructor.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate} used to calculate distance.
+   *        Cannot be <code>null</code>.
+   * @param dispatchConsumer The consumer of each {@link Delivery}. Cannot be <code>null</code>.
+   */
+  public OnlineOrderScheduler(GridCoordinate warehouseLocation,
+      Consumer<Delivery> dispatchConsumer) {
+    super(warehouseLocation);
+    Preconditions.checkNotNull(dispatchConsumer, "Dispatch consumer cannot be null.");
+
+    this.dispatchConsumer = dispatchConsumer;
+    this.droneReturnSecond = getStartTime().toSecondOfDay();
+  }
+
+  /**
+   * Adds the order. The order joins the queue once its order time is reached.
+   * 
+   * @param order The {@link Order}. Cannot be <code>null</code>.
+   */
+  public synchronized void submit(Order order) {
+    Preconditions.checkNotNull(order, "Order cannot be null.");
+
+    pending.add(new Manifest(order, getWarehouseLocation()));
+  }
+
+  /**
+   * Dispatches the drone if it is back at the warehouse and an order has arrived. Queued orders
+   * that can no longer be completed are passed to the dispatch consumer as incomplete deliveries
+   * until an order can be flown.
+   * 
+   * @param now The current time. Cannot be <code>null</code> or before the current time of the
+   *        previous dispatch.
+   * @return The dispatched {@link Delivery} or empty if the drone stays at the warehouse.
+   */
+  public synchronized Optional<Delivery> nextDispatch(LocalTime now) {
+    Preconditions.checkNotNull(now, "The current time cannot be null.");
+    Preconditions.checkArgument(now.toSecondOfDay() >= lastDispatchSecond,
+        "The current time cannot be before the previous dispatch.");
+
+    int currentSecond = now.toSecondOfDay();
+    lastDispatchSecond = currentSecond;
+    if (currentSecond < droneReturnSecond) {
+      return Optional.empty();
+    }
+    LocalTime departureTime = LocalTime.ofSecondOfDay(currentSecond);
+    while (hasArrived(currentSecond)) {
+      queue.update(currentSecond);
+      Manifest manifest = queue.poll().manifest;
+      if (manifest.getOrderTime().isBefore(getEndTime())) {
+        LocalTime completionTime = manifest.getCompletionTime(departureTime);
+        if (completionTime.isBefore(getEndTime())) {
+          Delivery delivery = new Delivery(manifest.getOrderId(), departureTime,
+              manifest.getRating(departureTime));
+          droneReturnSecond = completionTime.toSecondOfDay();
+          dispatchConsumer.accept(delivery);
+          return Optional.of(delivery);
+        }
+      }
+      dispatchConsumer.accept(incompleteDelivery(manifest.getOrderId()));
+    }
+    return Optional.empty();
+  }
+
+  private boolean hasArrived(int currentSecond) {
+    return !queue.isEmpty() || (pending.hasNext() && pending.nextOrderSecond() <= currentSecond);
+  }
+
+  /**
+   * @return The time the drone is back at the warehouse.
+   */
+  public synchronized LocalTime getDroneReturnTime() {
+    return LocalTime.ofSecondOfDay(droneReturnSecond);
+  }
+
+  /**
+   * @return The number of submitted orders that have not been delivered or reported as incomplete.
+   */
+  public synchronized int getWaitingCount() {
+    return queue.size() + pending.size();
+  }
+
+  /**
+   * A submitted order and the sequence it was submitted in.
+   */
+  private static final class SubmittedManifest {
+
+    private final Manifest manifest;
+
+    private final int orderSecond;
+
+    private final long sequence;
+
+    private SubmittedManifest(Manifest manifest, long sequence) {
+      this.manifest = manifest;
+      this.orderSecond = manifest.getOrderTime().toSecondOfDay();
+      this.sequence = sequence;
+    }
+
+  }
+
+  /**
+   * Submitted orders that have not joined the queue, ordered by order time, transit minutes and id
+   * with ties broken by submission.
+   */
+  private static final class SubmittedManifests implements PendingManifests {
+
+    private final PriorityQueue<SubmittedManifest> submitted =
+        new PriorityQueue<>(BY_ORDER_SECOND);
+
+    private long submissions;
+
+    private void add(Manifest manifest) {
+      submitted.add(new SubmittedManifest(manifest, submissions++));
+    }
+
+    private int size() {
+      return submitted.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !submitted.isEmpty();
+    }
+
+    @Override
+    public int nextOrderSecond() {
+      return submitted.peek().orderSecond;
+    }
+
+    @Override
+    public QueuedManifest next(long arrival) {
+      return new QueuedManifest(submitted.poll().manifest, arrival);
+    }
+
+  }
+
+}
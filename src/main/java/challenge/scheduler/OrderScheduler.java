@@ -2,12 +2,19 @@ package challenge.scheduler;
 
 import java.time.LocalTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import com.google.common.base.Preconditions;
+import challenge.jfr.ScheduleEvent;
+import challenge.jfr.PipelineEvents;
+import challenge.metrics.PipelineMetrics;
 import challenge.model.CustomerSatisfaction;
 import challenge.model.Delivery;
 import challenge.model.GridCoordinate;
 import challenge.model.Manifest;
+import challenge.model.ManifestTable;
 import challenge.model.Order;
 
 /**
@@ -35,8 +42,9 @@ public abstract class OrderScheduler {
   }
 
   /**
-   * Parses the orders into a {@link Manifest} list for deliveries. If an order will not complete by
-   * the {@link OrderSchedulers#END_TIME}, creates an incomplete delivery entry.
+   * Parses the orders into a {@link ManifestTable} for deliveries. If an order will not complete by
+   * the {@link OrderSchedulers#END_TIME}, creates an incomplete delivery entry. Follows
+   * {@link OrderScheduler#scheduleTable(ManifestTable)}.
    * 
    * @param orders The {@link Order} list. Cannot be <code>null</code> or empty.
    * @return The resulting {@link Delivery} list.
@@ -45,8 +53,118 @@ public abstract class OrderScheduler {
     Preconditions.checkNotNull(orders, "Orders cannot be null.");
     Preconditions.checkArgument(!orders.isEmpty(), "Orders cannot be empty.");
 
-    return processManifests(orders.stream().map(order -> new Manifest(order, warehouseLocation))
-        .collect(Collectors.toList()));
+    long startNanos = System.nanoTime();
+    ScheduleEvent event = PipelineEvents.newScheduleEvent();
+    event.begin();
+    PipelineMetrics.get().scheduleStarted();
+    try {
+      ManifestTable manifestTable = ManifestTable.of(orders, warehouseLocation);
+      List<Delivery> deliveries = processTable(manifestTable);
+      record(manifestTable.size(), () -> countIncomplete(deliveries), startNanos, event);
+      return deliveries;
+    } finally {
+      PipelineMetrics.get().scheduleFinished();
+    }
+  }
+
+  /**
+   * Schedules the table with {@link OrderScheduler#processTable(ManifestTable)}. The manifests and
+   * the time taken are recorded in the {@link PipelineMetrics} and as a {@link ScheduleEvent}.
+   * Schedulers that run other schedulers call this instead of
+   * {@link OrderScheduler#processTable(ManifestTable)}, so each run is recorded.
+   * 
+   * @param manifestTable The {@link ManifestTable}. Cannot be <code>null</code>.
+   * @return The resulting {@link Delivery} list.
+   */
+  public final List<Delivery> scheduleTable(ManifestTable manifestTable) {
+    Preconditions.checkNotNull(manifestTable, "The manifest table cannot be null.");
+
+    long startNanos = System.nanoTime();
+    ScheduleEvent event = PipelineEvents.newScheduleEvent();
+    event.begin();
+    PipelineMetrics.get().scheduleStarted();
+    try {
+      List<Delivery> deliveries = processTable(manifestTable);
+      record(manifestTable.size(), () -> countIncomplete(deliveries), startNanos, event);
+      return deliveries;
+    } finally {
+      PipelineMetrics.get().scheduleFinished();
+    }
+  }
+
+  /**
+   * Schedules the orders while the stream is consumed with
+   * {@link OrderScheduler#processStream(Stream, Consumer)} and passes each {@link Delivery} to the
+   * consumer. The deliveries and the time taken are recorded in the {@link PipelineMetrics} and as
+   * a {@link ScheduleEvent} once the stream is consumed. Nothing is recorded if there are no
+   * orders.
+   * 
+   * @param orders The {@link Order} stream. Schedulers that support streaming expect the orders
+   *        sorted by order time. Cannot be <code>null</code>.
+   * @param deliveryConsumer The consumer of the resulting deliveries. Cannot be <code>null</code>.
+   */
+  public final void schedule(Stream<Order> orders, Consumer<Delivery> deliveryConsumer) {
+    Preconditions.checkNotNull(orders, "Orders cannot be null.");
+    Preconditions.checkNotNull(deliveryConsumer, "Delivery consumer cannot be null.");
+
+    long startNanos = System.nanoTime();
+    ScheduleEvent event = PipelineEvents.newScheduleEvent();
+    event.begin();
+    int[] counts = new int[2];
+    PipelineMetrics.get().scheduleStarted();
+    try {
+      processStream(orders, delivery -> {
+        counts[0]++;
+        if (LocalTime.MAX.equals(delivery.getDepartureTime())) {
+          counts[1]++;
+        }
+        deliveryConsumer.accept(delivery);
+      });
+    } finally {
+      PipelineMetrics.get().scheduleFinished();
+    }
+    if (counts[0] > 0) {
+      record(counts[0], () -> counts[1], startNanos, event);
+    }
+  }
+
+  /**
+   * Records a schedule in the {@link PipelineMetrics} and as a {@link ScheduleEvent}. The
+   * incomplete deliveries are only counted if the event is committed.
+   */
+  private void record(int orders, IntSupplier incompleteDeliveries, long startNanos,
+      ScheduleEvent event) {
+    PipelineMetrics metrics = PipelineMetrics.get();
+    metrics.addManifestsScheduled(orders);
+    metrics.getScheduleTimer().recordSince(startNanos);
+    event.end();
+    if (event.shouldCommit()) {
+      event.setScheduler(getClass().getSimpleName());
+      event.setOrders(orders);
+      event.setIncompleteDeliveries(incompleteDeliveries.getAsInt());
+      event.commit();
+    }
+  }
+
+  private static int countIncomplete(List<Delivery> deliveries) {
+    return (int) deliveries.stream()
+        .filter(delivery -> LocalTime.MAX.equals(delivery.getDepartureTime())).count();
+  }
+
+  /**
+   * Schedules the orders of the stream and passes each {@link Delivery} to the consumer. Defaults
+   * to collecting the orders into a {@link ManifestTable} and calling
+   * {@link OrderScheduler#processTable(ManifestTable)}. Schedulers that support streaming only keep
+   * the orders they are still waiting to deliver.
+   * 
+   * @param orders The {@link Order} stream.
+   * @param deliveryConsumer The consumer of the resulting deliveries.
+   */
+  protected void processStream(Stream<Order> orders, Consumer<Delivery> deliveryConsumer) {
+    List<Order> orderList = orders.collect(Collectors.toList());
+    if (!orderList.isEmpty()) {
+      processTable(ManifestTable.of(orderList, warehouseLocation)).forEach(deliveryConsumer);
+    }
   }
 
   /**
@@ -57,6 +175,17 @@ public abstract class OrderScheduler {
    */
   public abstract List<Delivery> processManifests(List<Manifest> manifests);
 
+  /**
+   * Schedules the deliveries based on the {@link ManifestTable}. Defaults to
+   * {@link OrderScheduler#processManifests(List)} with the manifests of the table.
+   * 
+   * @param manifestTable The {@link ManifestTable}.
+   * @return The resulting {@link Delivery} list.
+   */
+  public List<Delivery> processTable(ManifestTable manifestTable) {
+    return processManifests(manifestTable.toManifests());
+  }
+
   /**
    * @return The warehouse {@link GridCoordinate} used to calculate distance. Cannot be
    *         <code>null</code>.
@@ -65,6 +194,13 @@ public abstract class OrderScheduler {
     return warehouseLocation;
   }
 
+  /**
+   * @return The largest number of orders the scheduler accepts. Unlimited by default.
+   */
+  public int getMaximumOrders() {
+    return Integer.MAX_VALUE;
+  }
+
   /**
    * @return The start time for scheduling.
    */
@@ -90,6 +226,35 @@ public abstract class OrderScheduler {
     return firstTime.isAfter(secondTime) ? firstTime : secondTime;
   }
 
+  /**
+   * Creates a {@link Delivery} for the manifest in the table departing at the second.
+   * 
+   * @param manifestTable The {@link ManifestTable}.
+   * @param index The manifest index.
+   * @param departureSecond The departure second of the day.
+   * @return The {@link Delivery}.
+   */
+  protected final Delivery scheduledDelivery(ManifestTable manifestTable, int index,
+      int departureSecond) {
+    return new Delivery(manifestTable.getOrderId(index), LocalTime.ofSecondOfDay(departureSecond),
+        manifestTable.getRating(index, departureSecond));
+  }
+
+  /**
+   * Creates a {@link Delivery} for the manifest in the table departing at the second on the drone.
+   * 
+   * @param manifestTable The {@link ManifestTable}.
+   * @param index The manifest index.
+   * @param departureSecond The departure second of the day.
+   * @param drone The index of the drone that flies the delivery.
+   * @return The {@link Delivery}.
+   */
+  protected final Delivery scheduledDelivery(ManifestTable manifestTable, int index,
+      int departureSecond, int drone) {
+    return new Delivery(manifestTable.getOrderId(index), LocalTime.ofSecondOfDay(departureSecond),
+        manifestTable.getRating(index, departureSecond), drone);
+  }
+
   /**
    * Creates an incomplete {@link Delivery} at {@link LocalTime#MAX} with a
    * {@link CustomerSatisfaction#DETRACTOR} rating.
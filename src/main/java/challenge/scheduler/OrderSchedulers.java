@@ -1,5 +1,10 @@
 package challenge.scheduler;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import challenge.model.Delivery;
 import challenge.model.GridCoordinate;
 
 /**
@@ -31,6 +36,104 @@ public final class OrderSchedulers {
     return new BestFitOrderScheduler(warehouseLocation);
   }
 
+  /**
+   * Creates a new instance of {@link BestFitOrderScheduler} that evaluates fitness on the
+   * {@link SchedulerContext}. Schedulers created with the same context share its threads.
+   * 
+   * @param warehouseLocation The {@link GridCoordinate} of the warehouse.
+   * @param schedulerContext The {@link SchedulerContext}.
+   * @return The {@link BestFitOrderScheduler}.
+   */
+  public static final OrderScheduler bestFit(GridCoordinate warehouseLocation,
+      SchedulerContext schedulerContext) {
+    return new BestFitOrderScheduler(warehouseLocation, schedulerContext);
+  }
+
+  /**
+   * Equivalent to calling
+   * {@link OrderSchedulers#anytime(GridCoordinate, SchedulerContext, Duration, int)} with
+   * {@link GridCoordinate#ZERO}, {@link SchedulerContext#common()} and
+   * {@link AnytimeOrderScheduler#MAXIMUM_NPS}
+   * 
+   * @param timeBudget The time spent searching each schedule.
+   * @return The {@link AnytimeOrderScheduler}.
+   */
+  public static final OrderScheduler anytime(Duration timeBudget) {
+    return anytime(GridCoordinate.ZERO, SchedulerContext.common(), timeBudget,
+        AnytimeOrderScheduler.MAXIMUM_NPS);
+  }
+
+  /**
+   * Creates a new instance of {@link AnytimeOrderScheduler}.
+   * 
+   * @param warehouseLocation The {@link GridCoordinate} of the warehouse.
+   * @param schedulerContext The {@link SchedulerContext}.
+   * @param timeBudget The time spent searching each schedule.
+   * @param targetNPS The NPS that is good enough to stop the search.
+   * @return The {@link AnytimeOrderScheduler}.
+   */
+  public static final OrderScheduler anytime(GridCoordinate warehouseLocation,
+      SchedulerContext schedulerContext, Duration timeBudget, int targetNPS) {
+    return new AnytimeOrderScheduler(warehouseLocation, schedulerContext, timeBudget, targetNPS);
+  }
+
+  /**
+   * Equivalent to calling {@link OrderSchedulers#exact(GridCoordinate)} with
+   * {@link GridCoordinate#ZERO}
+   * 
+   * @return The {@link ExactOrderScheduler}.
+   */
+  public static final OrderScheduler exact() {
+    return exact(GridCoordinate.ZERO);
+  }
+
+  /**
+   * Creates a new instance of {@link ExactOrderScheduler}. Only schedules up to
+   * {@link ExactOrderScheduler#MAXIMUM_ORDERS} orders.
+   * 
+   * @param warehouseLocation The {@link GridCoordinate} of the warehouse.
+   * @return The {@link ExactOrderScheduler}.
+   */
+  public static final OrderScheduler exact(GridCoordinate warehouseLocation) {
+    return new ExactOrderScheduler(warehouseLocation);
+  }
+
+  /**
+   * Equivalent to calling {@link OrderSchedulers#localSearch(GridCoordinate, Duration)} with
+   * {@link GridCoordinate#ZERO} and {@link LocalSearchOrderScheduler#DEFAULT_TIME_BUDGET}
+   * 
+   * @return The {@link LocalSearchOrderScheduler}.
+   */
+  public static final OrderScheduler localSearch() {
+    return localSearch(GridCoordinate.ZERO, LocalSearchOrderScheduler.DEFAULT_TIME_BUDGET);
+  }
+
+  /**
+   * Creates a new instance of {@link LocalSearchOrderScheduler}.
+   * 
+   * @param warehouseLocation The {@link GridCoordinate} of the warehouse.
+   * @param timeBudget The time spent improving each schedule.
+   * @return The {@link LocalSearchOrderScheduler}.
+   */
+  public static final OrderScheduler localSearch(GridCoordinate warehouseLocation,
+      Duration timeBudget) {
+    return new LocalSearchOrderScheduler(warehouseLocation, timeBudget);
+  }
+
+  /**
+   * Creates a new instance of {@link LocalSearchOrderScheduler} whose searches can be reproduced.
+   * 
+   * @param warehouseLocation The {@link GridCoordinate} of the warehouse.
+   * @param timeBudget The most time spent improving each schedule.
+   * @param seed The seed of the random moves of each search.
+   * @param stepBudget The number of moves tried to improve each schedule.
+   * @return The {@link LocalSearchOrderScheduler}.
+   */
+  public static final OrderScheduler localSearch(GridCoordinate warehouseLocation,
+      Duration timeBudget, long seed, long stepBudget) {
+    return new LocalSearchOrderScheduler(warehouseLocation, timeBudget, seed, stepBudget);
+  }
+
   /**
    * Equivalent to calling {@link OrderSchedulers#fifo(GridCoordinate)} with
    * {@link GridCoordinate#ZERO}
@@ -71,4 +174,119 @@ public final class OrderSchedulers {
     return new QueueOrderScheduler(warehouseLocation);
   }
 
+  /**
+   * Equivalent to calling {@link OrderSchedulers#priorityQueueBased(GridCoordinate)} with
+   * {@link GridCoordinate#ZERO}
+   * 
+   * @return The {@link PriorityQueueOrderScheduler}.
+   */
+  public static final OrderScheduler priorityQueueBased() {
+    return priorityQueueBased(GridCoordinate.ZERO);
+  }
+
+  /**
+   * Creates a new instance of {@link PriorityQueueOrderScheduler}.
+   * 
+   * @param warehouseLocation The {@link GridCoordinate} of the warehouse.
+   * @return The {@link PriorityQueueOrderScheduler}.
+   */
+  public static final OrderScheduler priorityQueueBased(GridCoordinate warehouseLocation) {
+    return new PriorityQueueOrderScheduler(warehouseLocation);
+  }
+
+  /**
+   * Equivalent to calling {@link OrderSchedulers#fleetBased(GridCoordinate, int)} with
+   * {@link GridCoordinate#ZERO}
+   * 
+   * @param droneCount The number of drones. Must be positive.
+   * @return The {@link FleetOrderScheduler}.
+   */
+  public static final OrderScheduler fleetBased(int droneCount) {
+    return fleetBased(GridCoordinate.ZERO, droneCount);
+  }
+
+  /**
+   * Creates a new instance of {@link FleetOrderScheduler}.
+   * 
+   * @param warehouseLocation The {@link GridCoordinate} of the warehouse.
+   * @param droneCount The number of drones. Must be positive.
+   * @return The {@link FleetOrderScheduler}.
+   */
+  public static final OrderScheduler fleetBased(GridCoordinate warehouseLocation, int droneCount) {
+    return new FleetOrderScheduler(warehouseLocation, droneCount);
+  }
+
+  /**
+   * Creates a new instance of {@link MultiWarehouseScheduler} that schedules each warehouse with a
+   * {@link PriorityQueueOrderScheduler}.
+   * 
+   * @param warehouseLocations The {@link GridCoordinate}s of the warehouses.
+   * @return The {@link MultiWarehouseScheduler}.
+   */
+  public static final MultiWarehouseScheduler multiWarehouse(
+      List<GridCoordinate> warehouseLocations) {
+    return new MultiWarehouseScheduler(warehouseLocations, OrderSchedulers::priorityQueueBased);
+  }
+
+  /**
+   * Equivalent to calling {@link OrderSchedulers#online(GridCoordinate, Consumer)} with
+   * {@link GridCoordinate#ZERO}
+   * 
+   * @param dispatchConsumer The consumer of each {@link Delivery}.
+   * @return The {@link OnlineOrderScheduler}.
+   */
+  public static final OnlineOrderScheduler online(Consumer<Delivery> dispatchConsumer) {
+    return online(GridCoordinate.ZERO, dispatchConsumer);
+  }
+
+  /**
+   * Creates a new instance of {@link OnlineOrderScheduler}.
+   * 
+   * @param warehouseLocation The {@link GridCoordinate} of the warehouse.
+   * @param dispatchConsumer The consumer of each {@link Delivery}.
+   * @return The {@link OnlineOrderScheduler}.
+   */
+  public static final OnlineOrderScheduler online(GridCoordinate warehouseLocation,
+      Consumer<Delivery> dispatchConsumer) {
+    return new OnlineOrderScheduler(warehouseLocation, dispatchConsumer);
+  }
+
+  /**
+   * Equivalent to calling
+   * {@link OrderSchedulers#portfolio(GridCoordinate, SchedulerContext, Duration)} with
+   * {@link GridCoordinate#ZERO}, {@link SchedulerContext#common()} and
+   * {@link PortfolioOrderScheduler#DEFAULT_TIME_BUDGET}
+   * 
+   * @return The {@link PortfolioOrderScheduler}.
+   */
+  public static final PortfolioOrderScheduler portfolio() {
+    return portfolio(GridCoordinate.ZERO, SchedulerContext.common(),
+        PortfolioOrderScheduler.DEFAULT_TIME_BUDGET);
+  }
+
+  /**
+   * Creates a new instance of {@link PortfolioOrderScheduler} that races the
+   * {@link PriorityQueueOrderScheduler}, {@link FifoOrderScheduler},
+   * {@link LocalSearchOrderScheduler}, {@link AnytimeOrderScheduler} and
+   * {@link ExactOrderScheduler}. The searching schedulers get three quarters of the time budget, so
+   * they usually finish before they are cancelled. The exact scheduler only enters races on at
+   * most {@link ExactOrderScheduler#MAXIMUM_ORDERS} orders.
+   * 
+   * @param warehouseLocation The {@link GridCoordinate} of the warehouse.
+   * @param schedulerContext The {@link SchedulerContext} the schedulers race on, also used by the
+   *        {@link AnytimeOrderScheduler}.
+   * @param timeBudget The time the schedulers have to race.
+   * @return The {@link PortfolioOrderScheduler}.
+   */
+  public static final PortfolioOrderScheduler portfolio(GridCoordinate warehouseLocation,
+      SchedulerContext schedulerContext, Duration timeBudget) {
+    Duration searchBudget = timeBudget == null ? null : timeBudget.multipliedBy(3).dividedBy(4);
+    return new PortfolioOrderScheduler(warehouseLocation, schedulerContext, timeBudget,
+        Arrays.asList(OrderSchedulers::priorityQueueBased, OrderSchedulers::fifo,
+            location -> localSearch(location, searchBudget),
+            location -> anytime(location, schedulerContext, searchBudget,
+                AnytimeOrderScheduler.MAXIMUM_NPS),
+            OrderSchedulers::exact));
+  }
+
 }
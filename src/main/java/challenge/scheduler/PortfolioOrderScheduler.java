@@ -0,0 +1,276 @@
+package challenge.scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.base.Preconditions;
+import challenge.calculator.NPSBound;
+import challenge.calculator.NPSCalculator;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Manifest;
+import challenge.model.ManifestTable;
+import challenge.model.Order;
+import challenge.scheduler.PortfolioSchedule.Status;
+import challenge.scheduler.PortfolioSchedule.StrategyResult;
+
+/**
+ * Races several scheduling strategies on the same orders at the same time and keeps the schedule
+ * with the highest NPS. Ties go to the strategy that comes first in the portfolio.
+ * <p>
+ * The strategies run on the {@link SchedulerContext#getScheduleExecutor()}, so a race never uses
+ * more threads than the parallelism of its {@link SchedulerContext} and the threads are reused by
+ * the next race. Strategies that do not get a thread right away wait in portfolio order. Strategies
+ * that search in parallel, such as the {@link AnytimeOrderScheduler}, still share the evaluation
+ * threads of the context. When the time budget runs out, the strategies that are still running are
+ * cancelled with an interrupt, the waiting ones never start, and the best finished schedule is
+ * returned. If no strategy has finished by then, the race waits for the first one that does. The
+ * searching schedulers stop at the interrupt, while strategies that do not check for it keep their
+ * thread until they finish.
+ * <p>
+ * Strategies only enter a race on at most {@link OrderScheduler#getMaximumOrders()} orders.
+ * <p>
+ * The race also ends as soon as a strategy reaches the {@link NPSBound} of the orders, since no
+ * other strategy can do better.
+ * 
+ * @author jeffrey
+ */
+public final class PortfolioOrderScheduler extends OrderScheduler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PortfolioOrderScheduler.class);
+
+  /**
+   * The time budget used when none is given.
+   */
+  public static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(1);
+
+  private final SchedulerContext schedulerContext;
+
+  private final Duration timeBudget;
+
+  private final List<OrderScheduler> strategies;
+
+  /**
+   * The constructor. Races on {@link SchedulerContext#common()}.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate} used to calculate distance.
+   *        Cannot be <code>null</code>.
+   * @param timeBudget The time the strategies have to race. Cannot be <code>null</code> or
+   *        negative.
+   * @param strategyFactories Creates each {@link OrderScheduler} of the portfolio for the warehouse
+   *        (e.g. <code>OrderSchedulers::priorityQueueBased</code>). Cannot be <code>null</code> or
+   *        empty.
+   */
+  public PortfolioOrderScheduler(GridCoordinate warehouseLocation, Duration timeBudget,
+      List<Function<GridCoordinate, OrderScheduler>> strategyFactories) {
+    this(warehouseLocation, SchedulerContext.common(), timeBudget, strategyFactories);
+  }
+
+  /**
+   * The constructor.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate} used to calculate distance.
+   *        Cannot be <code>null</code>.
+   * @param schedulerContext The {@link SchedulerContext} the strategies race on. Cannot be
+   *        <code>null</code>.
+   * @param timeBudget The time the strategies have to race. Cannot be <code>null</code> or
+   *        negative.
+   * @param strategyFactories Creates each {@link OrderScheduler} of the portfolio for the warehouse
+   *        (e.g. <code>OrderSchedulers::priorityQueueBased</code>). Cannot be <code>null</code> or
+   *        empty.
+   */
+  public PortfolioOrderScheduler(GridCoordinate warehouseLocation,
+      SchedulerContext schedulerContext, Duration timeBudget,
+      List<Function<GridCoordinate, OrderScheduler>> strategyFactories) {
+    super(warehouseLocation);
+    Preconditions.checkNotNull(schedulerContext, "The scheduler context cannot be null.");
+    Preconditions.checkNotNull(timeBudget, "The time budget cannot be null.");
+    Preconditions.checkArgument(!timeBudget.isNegative(), "The time budget cannot be negative.");
+    Preconditions.checkNotNull(strategyFactories, "The strategy factories cannot be null.");
+    Preconditions.checkArgument(!strategyFactories.isEmpty(),
+        "The strategy factories cannot be empty.");
+
+    this.schedulerContext = schedulerContext;
+    this.timeBudget = timeBudget;
+    this.strategies = strategyFactories.stream()
+        .map(strategyFactory -> strategyFactory.apply(warehouseLocation))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @return The {@link OrderScheduler} strategies, in portfolio order.
+   */
+  public List<OrderScheduler> getStrategies() {
+    return Collections.unmodifiableList(strategies);
+  }
+
+  @Override
+  public List<Delivery> processManifests(List<Manifest> manifests) {
+    return processTable(ManifestTable.ofManifests(manifests));
+  }
+
+  @Override
+  public List<Delivery> processTable(ManifestTable manifestTable) {
+    return race(manifestTable).getDeliveries();
+  }
+
+  /**
+   * Races the strategies on the orders. Follows
+   * {@link PortfolioOrderScheduler#race(ManifestTable)}.
+   * 
+   * @param orders The {@link Order} list. Cannot be <code>null</code> or empty.
+   * @return The {@link PortfolioSchedule}.
+   */
+  public PortfolioSchedule race(List<Order> orders) {
+    Preconditions.checkNotNull(orders, "Orders cannot be null.");
+    Preconditions.checkArgument(!orders.isEmpty(), "Orders cannot be empty.");
+
+    return race(ManifestTable.of(orders, getWarehouseLocation()));
+  }
+
+  /**
+   * Races the strategies on the table until they all finish, one reaches the {@link NPSBound} or
+   * the time budget runs out.
+   * 
+   * @param manifestTable The {@link ManifestTable}. Cannot be <code>null</code> or empty.
+   * @return The {@link PortfolioSchedule} of the best finished strategy. Only the strategies that
+   *         entered the race are reported.
+   * @throws IllegalStateException If no strategy accepts the number of orders or every strategy
+   *         failed.
+   * @throws java.util.concurrent.RejectedExecutionException If the {@link SchedulerContext} is
+   *         closed.
+   */
+  public PortfolioSchedule race(ManifestTable manifestTable) {
+    Preconditions.checkNotNull(manifestTable, "The manifest table cannot be null.");
+    Preconditions.checkArgument(manifestTable.size() > 0, "The manifest table cannot be empty.");
+
+    List<OrderScheduler> entrants = strategies.stream()
+        .filter(strategy -> strategy.getMaximumOrders() >= manifestTable.size())
+        .collect(Collectors.toList());
+    Preconditions.checkState(!entrants.isEmpty(), "No strategy accepts %s orders.",
+        manifestTable.size());
+
+    NPSBound bound = NPSBound.of(manifestTable, getStartTime(), getEndTime());
+    long startNanos = System.nanoTime();
+    long deadlineNanos = startNanos + timeBudget.toNanos();
+    CompletionService<Entry> completionService =
+        new ExecutorCompletionService<>(schedulerContext.getScheduleExecutor());
+    List<Future<Entry>> futures = new ArrayList<>();
+    Entry[] entries = new Entry[entrants.size()];
+    int finished = 0;
+    boolean completed = false;
+    boolean optimal = false;
+    try {
+      for (int strategy = 0; strategy < entrants.size(); strategy++) {
+        int index = strategy;
+        futures.add(completionService
+            .submit(() -> run(index, entrants.get(index), manifestTable, startNanos)));
+      }
+      while (finished < entries.length && !optimal) {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        Future<Entry> future = remainingNanos > 0 || !completed
+            ? completionService.poll(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS) : null;
+        if (future == null && completed) {
+          break;
+        } else if (future == null) {
+          future = completionService.take();
+        }
+        Entry entry = future.get();
+        entries[entry.index] = entry;
+        completed |= entry.deliveries != null;
+        optimal |= entry.deliveries != null && bound.isOptimal(entry.nps);
+        finished++;
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException exception) {
+      LOG.error("Unable to run strategy.", exception.getCause());
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+    return toSchedule(entrants, entries, bound, System.nanoTime() - startNanos);
+  }
+
+  /**
+   * Runs a single strategy. Failures are kept in the entry, so one strategy cannot end the race.
+   */
+  private static Entry run(int index, OrderScheduler strategy, ManifestTable manifestTable,
+      long startNanos) {
+    List<Delivery> deliveries = null;
+    int nps = 0;
+    try {
+      deliveries = strategy.scheduleTable(manifestTable);
+      nps = NPSCalculator.getNPS(deliveries);
+    } catch (RuntimeException exception) {
+      deliveries = null;
+      LOG.debug("Strategy {} failed: {}", getName(strategy), exception.getMessage());
+    }
+    return new Entry(index, deliveries, nps, System.nanoTime() - startNanos);
+  }
+
+  private static PortfolioSchedule toSchedule(List<OrderScheduler> entrants, Entry[] entries,
+      NPSBound bound, long raceNanos) {
+    List<StrategyResult> strategyResults = new ArrayList<>();
+    Entry best = null;
+    int bestNPS = 0;
+    for (int index = 0; index < entries.length; index++) {
+      Entry entry = entries[index];
+      String name = getName(entrants.get(index));
+      if (entry == null) {
+        strategyResults
+            .add(new StrategyResult(name, Status.CANCELLED, 0, Duration.ofNanos(raceNanos)));
+      } else if (entry.deliveries == null) {
+        strategyResults
+            .add(new StrategyResult(name, Status.FAILED, 0, Duration.ofNanos(entry.nanos)));
+      } else {
+        strategyResults.add(
+            new StrategyResult(name, Status.COMPLETED, entry.nps, Duration.ofNanos(entry.nanos)));
+        if (best == null || entry.nps > bestNPS) {
+          best = entry;
+          bestNPS = entry.nps;
+        }
+      }
+    }
+    Preconditions.checkState(best != null, "Every strategy failed.");
+
+    return new PortfolioSchedule(best.deliveries, bestNPS, bound.getNPS(),
+        getName(entrants.get(best.index)), strategyResults);
+  }
+
+  private static String getName(OrderScheduler strategy) {
+    return strategy.getClass().getSimpleName();
+  }
+
+  /**
+   * The deliveries of a single strategy, or <code>null</code> if it failed.
+   */
+  private static final class Entry {
+
+    private final int index;
+
+    private final List<Delivery> deliveries;
+
+    private final int nps;
+
+    private final long nanos;
+
+    private Entry(int index, List<Delivery> deliveries, int nps, long nanos) {
+      this.index = index;
+      this.deliveries = deliveries;
+      this.nps = nps;
+      this.nanos = nanos;
+    }
+
+  }
+
+}
@@ -0,0 +1,186 @@
+package challenge.scheduler;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import com.google.common.base.Preconditions;
+import challenge.model.Delivery;
+
+/**
+ * The deliveries of a {@link PortfolioOrderScheduler} race, with the outcome of every strategy.
+ * 
+ * @author jeffrey
+ */
+public final class PortfolioSchedule {
+
+  private final List<Delivery> deliveries;
+
+  private final int nps;
+
+  private final int upperBoundNPS;
+
+  private final String winner;
+
+  private final List<StrategyResult> strategyResults;
+
+  /**
+   * The constructor.
+   * 
+   * @param deliveries The {@link Delivery} list of the winning strategy.
+   * @param nps The Net Promoter Score (NPS) of the deliveries.
+   * @param upperBoundNPS The highest NPS any schedule of the orders can have.
+   * @param winner The name of the winning strategy.
+   * @param strategyResults The {@link StrategyResult} of every strategy, in portfolio order.
+   */
+  PortfolioSchedule(List<Delivery> deliveries, int nps, int upperBoundNPS, String winner,
+      List<StrategyResult> strategyResults) {
+    this.deliveries = deliveries;
+    this.nps = nps;
+    this.upperBoundNPS = upperBoundNPS;
+    this.winner = winner;
+    this.strategyResults = strategyResults;
+  }
+
+  /**
+   * @return The {@link Delivery} list of the winning strategy.
+   */
+  public List<Delivery> getDeliveries() {
+    return deliveries;
+  }
+
+  /**
+   * @return The Net Promoter Score (NPS) of the winning strategy.
+   */
+  public int getNPS() {
+    return nps;
+  }
+
+  /**
+   * @return The highest Net Promoter Score (NPS) any schedule of the orders can have. Follows
+   *         {@link challenge.calculator.NPSBound}.
+   */
+  public int getUpperBoundNPS() {
+    return upperBoundNPS;
+  }
+
+  /**
+   * @return The NPS the winning strategy is at most away from the best schedule. Zero if no
+   *         schedule is better.
+   */
+  public int getOptimalityGap() {
+    return Math.max(upperBoundNPS - nps, 0);
+  }
+
+  /**
+   * @return The name of the winning strategy.
+   */
+  public String getWinner() {
+    return winner;
+  }
+
+  /**
+   * @return The {@link StrategyResult} of every strategy, in portfolio order.
+   */
+  public List<StrategyResult> getStrategyResults() {
+    return Collections.unmodifiableList(strategyResults);
+  }
+
+  @Override
+  public String toString() {
+    return "PortfolioSchedule [winner=" + winner + ", nps=" + nps + ", upperBoundNPS="
+        + upperBoundNPS + ", strategyResults=" + strategyResults + "]";
+  }
+
+  /**
+   * How a single strategy of the race ended.
+   */
+  public enum Status {
+    /**
+     * The strategy finished within the time budget.
+     */
+    COMPLETED,
+    /**
+     * The strategy threw an exception, e.g. because it does not support that many orders.
+     */
+    FAILED,
+    /**
+     * The strategy was still running when the race ended.
+     */
+    CANCELLED
+  }
+
+  /**
+   * The outcome and timing of a single strategy.
+   */
+  public static final class StrategyResult {
+
+    private final String name;
+
+    private final Status status;
+
+    private final int nps;
+
+    private final Duration duration;
+
+    /**
+     * The constructor.
+     * 
+     * @param name The name of the strategy.
+     * @param status The {@link Status} of the strategy.
+     * @param nps The Net Promoter Score (NPS) of the strategy. Ignored unless completed.
+     * @param duration The time the strategy ran for.
+     */
+    StrategyResult(String name, Status status, int nps, Duration duration) {
+      this.name = name;
+      this.status = status;
+      this.nps = nps;
+      this.duration = duration;
+    }
+
+    /**
+     * @return The name of the strategy.
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * @return The {@link Status} of the strategy.
+     */
+    public Status getStatus() {
+      return status;
+    }
+
+    /**
+     * @return <code>true</code> if the strategy finished within the time budget.
+     */
+    public boolean isCompleted() {
+      return status == Status.COMPLETED;
+    }
+
+    /**
+     * @return The Net Promoter Score (NPS) of the strategy.
+     * @throws IllegalStateException If the strategy did not complete.
+     */
+    public int getNPS() {
+      Preconditions.checkState(isCompleted(), "The strategy did not complete.");
+
+      return nps;
+    }
+
+    /**
+     * @return The time the strategy ran for. Until the end of the race if it did not finish.
+     */
+    public Duration getDuration() {
+      return duration;
+    }
+
+    @Override
+    public String toString() {
+      return "StrategyResult [name=" + name + ", status=" + status
+          + (isCompleted() ? ", nps=" + nps : "") + ", duration=" + duration + "]";
+    }
+
+  }
+
+}
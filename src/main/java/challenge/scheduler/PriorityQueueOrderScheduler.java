@@ -0,0 +1,304 @@
+package challenge.scheduler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Manifest;
+import challenge.model.ManifestTable;
+import challenge.model.Order;
+import challenge.scheduler.ManifestQueue.PendingManifests;
+import challenge.scheduler.ManifestQueue.QueuedManifest;
+
+/**
+ * Heap backed version of the {@link QueueOrderScheduler}. Produces the same deliveries without
+ * re-sorting the whole queue whenever new orders arrive. Queued orders are kept in a
+ * {@link ManifestQueue}. Like the {@link QueueOrderScheduler}, priorities are only re-evaluated
+ * when new orders arrive.
+ * <p>
+ * When scheduling a stream, orders are read as the drone reaches their order time, so only the
+ * queued orders are kept in memory.
+ * <p>
+ * Subclasses can fly several drones. The drones are kept in a heap by return time and the next
+ * queued order is dispatched to the earliest free drone.
+ * 
+ * @author jeffrey
+ */
+public class PriorityQueueOrderScheduler extends OrderScheduler {
+
+  private static final Comparator<Drone> BY_RETURN_SECOND =
+      Comparator.<Drone>comparingInt(drone -> drone.returnSecond)
+          .thenComparingInt(drone -> drone.index);
+
+  private static final int INCOMPLETE = -1;
+
+  private final int droneCount;
+
+  /**
+   * The constructor. Schedules a single drone.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate} used to calculate distance.
+   *        Cannot be <code>null</code>.
+   */
+  public PriorityQueueOrderScheduler(GridCoordinate warehouseLocation) {
+    this(warehouseLocation, 1);
+  }
+
+  /**
+   * The constructor.
+   * 
+   * @param warehouseLocation The warehouse {@link GridCoordinate} used to calculate distance.
+   *        Cannot be <code>null</code>.
+   * @param droneCount The number of drones. Must be positive.
+   */
+  protected PriorityQueueOrderScheduler(GridCoordinate warehouseLocation, int droneCount) {
+    super(warehouseLocation);
+    Preconditions.checkArgument(droneCount > 0, "The drone count must be positive.");
+    this.droneCount = droneCount;
+  }
+
+  /**
+   * @return The number of drones.
+   */
+  public final int getDroneCount() {
+    return droneCount;
+  }
+
+  @Override
+  public List<Delivery> processManifests(List<Manifest> manifests) {
+    return processTable(ManifestTable.ofManifests(manifests));
+  }
+
+  @Override
+  public List<Delivery> processTable(ManifestTable manifestTable) {
+    List<Delivery> deliveries = new ArrayList<>(manifestTable.size());
+    process(new TableManifests(manifestTable), toDeliveries(deliveries::add));
+    return deliveries;
+  }
+
+  /**
+   * Lists the manifests in the order their deliveries depart, followed by the incomplete ones in
+   * table order. With a single drone, scheduling the list first in, first out is never worse than
+   * {@link PriorityQueueOrderScheduler#processTable(ManifestTable)}. Used to seed the searching
+   * schedulers.
+   * 
+   * @param manifestTable The {@link ManifestTable}.
+   * @return The manifest indices in delivery order.
+   */
+  final int[] toSchedule(ManifestTable manifestTable) {
+    boolean[] scheduled = new boolean[manifestTable.size()];
+    IntStream.Builder departed = IntStream.builder();
+    process(new TableManifests(manifestTable), (table, index, departureSecond, drone) -> {
+      if (departureSecond != INCOMPLETE) {
+        departed.add(index);
+        scheduled[index] = true;
+      }
+    });
+    return IntStream.concat(departed.build(),
+        IntStream.range(0, manifestTable.size()).filter(index -> !scheduled[index])).toArray();
+  }
+
+  /**
+   * Schedules the orders while the stream is consumed.
+   * 
+   * @throws IllegalArgumentException If the orders are not sorted by order time.
+   */
+  @Override
+  protected void processStream(Stream<Order> orders, Consumer<Delivery> deliveryConsumer) {
+    process(new StreamedManifests(orders.iterator()), toDeliveries(deliveryConsumer));
+  }
+
+  private DispatchConsumer toDeliveries(Consumer<Delivery> deliveryConsumer) {
+    return (manifestTable, index, departureSecond, drone) -> deliveryConsumer
+        .accept(departureSecond == INCOMPLETE ? incompleteDelivery(manifestTable.getOrderId(index))
+            : toDelivery(manifestTable, index, departureSecond, drone));
+  }
+
+  private void process(PendingManifests pending, DispatchConsumer dispatchConsumer) {
+    ManifestQueue queue = new ManifestQueue(pending);
+    PriorityQueue<Drone> drones = new PriorityQueue<>(BY_RETURN_SECOND);
+    int startSecond = getStartTime().toSecondOfDay();
+    IntStream.range(0, droneCount).forEach(index -> drones.add(new Drone(index, startSecond)));
+
+    int endSecond = getEndTime().toSecondOfDay();
+    Drone drone = drones.poll();
+    int currentSecond = queue.update(drone.returnSecond);
+    while (!queue.isEmpty()) {
+      QueuedManifest queued = queue.poll();
+      ManifestTable manifestTable = queued.manifestTable;
+      int index = queued.index;
+      if (manifestTable.getOrderSecond(index) >= endSecond) {
+        dispatchConsumer.accept(manifestTable, index, INCOMPLETE, drone.index);
+      } else {
+        int completionSecond = manifestTable.getCompletionSecond(index, currentSecond);
+        drone.returnSecond = currentSecond;
+        if (completionSecond < endSecond) {
+          dispatchConsumer.accept(manifestTable, index, currentSecond, drone.index);
+          drone.returnSecond = completionSecond;
+        } else {
+          dispatchConsumer.accept(manifestTable, index, INCOMPLETE, drone.index);
+        }
+        drones.add(drone);
+        drone = drones.poll();
+        currentSecond = Math.max(currentSecond, drone.returnSecond);
+      }
+      currentSecond = queue.update(currentSecond);
+    }
+  }
+
+  /**
+   * Creates the {@link Delivery} for a manifest dispatched to a drone. Defaults to a delivery that
+   * is not assigned to a drone.
+   * 
+   * @param manifestTable The {@link ManifestTable}.
+   * @param index The manifest index.
+   * @param departureSecond The departure second of the day.
+   * @param drone The index of the drone that flies the delivery.
+   * @return The {@link Delivery}.
+   */
+  protected Delivery toDelivery(ManifestTable manifestTable, int index, int departureSecond,
+      int drone) {
+    return scheduledDelivery(manifestTable, index, departureSecond);
+  }
+
+  /**
+   * Sorts the manifest indices like {@link Manifest#compareTo(Manifest)}.
+   */
+  private static int[] sortedIndices(ManifestTable manifestTable) {
+    return IntStream.range(0, manifestTable.size()).boxed()
+        .sorted(Comparator.<Integer>comparingInt(manifestTable::getOrderSecond)
+            .thenComparingInt(manifestTable::getTransitMinutes)
+            .thenComparing(manifestTable::getOrderId))
+        .mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * Receives each manifest as it leaves the queue, identified by its table and index.
+   */
+  @FunctionalInterface
+  private interface DispatchConsumer {
+
+    /**
+     * @param manifestTable The {@link ManifestTable} of the manifest.
+     * @param index The manifest index.
+     * @param departureSecond The departure second of the day, or {@link #INCOMPLETE}.
+     * @param drone The index of the drone.
+     */
+    void accept(ManifestTable manifestTable, int index, int departureSecond, int drone);
+
+  }
+
+  /**
+   * A drone and the second it is back at the warehouse.
+   */
+  private static final class Drone {
+
+    private final int index;
+
+    private int returnSecond;
+
+    private Drone(int index, int returnSecond) {
+      this.index = index;
+      this.returnSecond = returnSecond;
+    }
+
+  }
+
+  /**
+   * Pending manifests of a complete {@link ManifestTable}.
+   */
+  private static final class TableManifests implements PendingManifests {
+
+    private final ManifestTable manifestTable;
+
+    private final int[] pending;
+
+    private int nextPending;
+
+    private TableManifests(ManifestTable manifestTable) {
+      this.manifestTable = manifestTable;
+      this.pending = sortedIndices(manifestTable);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return nextPending < pending.length;
+    }
+
+    @Override
+    public int nextOrderSecond() {
+      return manifestTable.getOrderSecond(pending[nextPending]);
+    }
+
+    @Override
+    public QueuedManifest next(long arrival) {
+      return new QueuedManifest(manifestTable, pending[nextPending++], arrival);
+    }
+
+  }
+
+  /**
+   * Pending manifests read from a stream of orders sorted by order time. Orders placed in the same
+   * second are read together into a small {@link ManifestTable}.
+   */
+  private final class StreamedManifests implements PendingManifests {
+
+    private final PeekingIterator<Order> orders;
+
+    private ManifestTable batch;
+
+    private int[] pending = new int[0];
+
+    private int nextPending;
+
+    private int batchSecond;
+
+    private StreamedManifests(Iterator<Order> orders) {
+      this.orders = Iterators.peekingIterator(orders);
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (nextPending == pending.length && orders.hasNext()) {
+        readBatch();
+      }
+      return nextPending < pending.length;
+    }
+
+    @Override
+    public int nextOrderSecond() {
+      return batch.getOrderSecond(pending[nextPending]);
+    }
+
+    @Override
+    public QueuedManifest next(long arrival) {
+      return new QueuedManifest(batch, pending[nextPending++], arrival);
+    }
+
+    private void readBatch() {
+      int orderSecond = orders.peek().getOrderTime().toSecondOfDay();
+      Preconditions.checkArgument(orderSecond >= batchSecond,
+          "Orders must be sorted by order time.");
+
+      List<Order> sameSecond = new ArrayList<>();
+      while (orders.hasNext() && orders.peek().getOrderTime().toSecondOfDay() == orderSecond) {
+        sameSecond.add(orders.next());
+      }
+      batch = ManifestTable.of(sameSecond, getWarehouseLocation());
+      batchSecond = orderSecond;
+      pending = sortedIndices(batch);
+      nextPending = 0;
+    }
+
+  }
+
+}
@@ -7,13 +7,16 @@ import java.util.List;
 import java.util.NavigableMap;
 import com.google.common.collect.TreeMultimap;
 import challenge.comparator.ManifestPriorityComparator;
+import challenge.jfr.QueueRefreshEvent;
+import challenge.jfr.PipelineEvents;
 import challenge.model.CustomerSatisfaction;
 import challenge.model.Delivery;
 import challenge.model.GridCoordinate;
 import challenge.model.Manifest;
 
 /**
- * Uses a sorted queue system to schedule orders.
+ * Uses a sorted queue system to schedule orders. Every refresh of the queue is recorded as a
+ * {@link QueueRefreshEvent}.
  * 
  * @author jeffrey
  */
@@ -50,8 +53,8 @@ public class QueueOrderScheduler extends OrderScheduler {
         } else {
           deliveries.add(incompleteDelivery(manifest.getOrderId()));
         }
-        currentTime = updateQueue(currentTime, orderByTimeMap, queue);
       }
+      currentTime = updateQueue(currentTime, orderByTimeMap, queue);
     }
     return deliveries;
   }
@@ -73,9 +76,18 @@ public class QueueOrderScheduler extends OrderScheduler {
       NavigableMap<LocalTime, Collection<Manifest>> headMap =
           orderByTimeMap.headMap(currentTime, true);
       if (!headMap.isEmpty()) {
+        QueueRefreshEvent event = PipelineEvents.newQueueRefreshEvent();
+        event.begin();
+        int queueDepth = queue.size();
         headMap.values().stream().flatMap(Collection::stream).forEach(queue::add);
         headMap.clear();
         queue.sort(new ManifestPriorityComparator(currentTime));
+        event.end();
+        if (event.shouldCommit()) {
+          event.setAddedManifests(queue.size() - queueDepth);
+          event.setQueueDepth(queue.size());
+          event.commit();
+        }
       }
     }
     return currentTime;
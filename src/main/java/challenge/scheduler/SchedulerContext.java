@@ -0,0 +1,151 @@
+package challenge.scheduler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * The threads shared by the schedulers that evaluate schedules in parallel. A single context can
+ * be handed to many schedulers, so schedules running side by side never use more threads than the
+ * parallelism of the context.
+ * <p>
+ * A context created with a parallelism owns its {@link ForkJoinPool} and shuts it down when it is
+ * closed. Schedulers using a closed context reject new schedules. The
+ * {@link SchedulerContext#common()} context uses {@link ForkJoinPool#commonPool()} and closing it
+ * does nothing.
+ * <p>
+ * Whole schedules that have to run side by side, such as the strategies of a
+ * {@link PortfolioOrderScheduler}, run on a separate {@link ExecutorService} of the context. It is
+ * created by the first such schedule and runs at most as many schedules at a time as the
+ * parallelism of the context, while the others wait in a queue. Its daemon threads stop after a
+ * minute without work, so the executor of {@link SchedulerContext#common()} holds no threads while
+ * it is idle and never has to be shut down.
+ * 
+ * @author jeffrey
+ */
+public final class SchedulerContext implements AutoCloseable {
+
+  private static final SchedulerContext COMMON =
+      new SchedulerContext(ForkJoinPool.commonPool(), false);
+
+  private final ForkJoinPool pool;
+
+  private static final long SCHEDULE_KEEP_ALIVE_SECONDS = 60;
+
+  private volatile ExecutorService scheduleExecutor;
+
+  private final boolean owned;
+
+  /**
+   * The constructor.
+   * 
+   * @param parallelism The largest number of threads evaluating schedules. Must be positive.
+   */
+  public SchedulerContext(int parallelism) {
+    this(newPool(parallelism), true);
+  }
+
+  private SchedulerContext(ForkJoinPool pool, boolean owned) {
+    this.pool = pool;
+    this.owned = owned;
+  }
+
+  private static ForkJoinPool newPool(int parallelism) {
+    Preconditions.checkArgument(parallelism > 0, "The parallelism must be positive.");
+
+    return new ForkJoinPool(parallelism);
+  }
+
+  private static ExecutorService newScheduleExecutor(int parallelism) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism,
+        SCHEDULE_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        new ThreadFactoryBuilder().setNameFormat("schedule-%d").setDaemon(true).build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * @return The context backed by {@link ForkJoinPool#commonPool()}.
+   */
+  public static final SchedulerContext common() {
+    return COMMON;
+  }
+
+  /**
+   * @return The {@link Executor} to evaluate schedules on.
+   */
+  public Executor getExecutor() {
+    return pool;
+  }
+
+  /**
+   * @return The {@link ExecutorService} that runs whole schedules side by side, at most as many at
+   *         a time as the parallelism. Created on first use.
+   */
+  public ExecutorService getScheduleExecutor() {
+    ExecutorService executor = scheduleExecutor;
+    if (executor == null) {
+      synchronized (this) {
+        executor = scheduleExecutor;
+        if (executor == null) {
+          executor = newScheduleExecutor(getParallelism());
+          if (isClosed()) {
+            executor.shutdown();
+          }
+          scheduleExecutor = executor;
+        }
+      }
+    }
+    return executor;
+  }
+
+  /**
+   * @return The largest number of threads evaluating schedules.
+   */
+  public int getParallelism() {
+    return pool.getParallelism();
+  }
+
+  /**
+   * @return <code>true</code> if the context no longer accepts schedules.
+   */
+  public boolean isClosed() {
+    return pool.isShutdown();
+  }
+
+  /**
+   * Waits for the running schedules to finish. Does nothing for {@link SchedulerContext#common()}.
+   * 
+   * @param timeout The longest time to wait.
+   * @param unit The {@link TimeUnit} of the timeout. Cannot be <code>null</code>.
+   * @return <code>true</code> if every schedule finished.
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    Preconditions.checkNotNull(unit, "The time unit cannot be null.");
+
+    long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+    ExecutorService executor = scheduleExecutor;
+    return !owned || pool.awaitTermination(timeout, unit) && (executor == null || executor
+        .awaitTermination(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS));
+  }
+
+  /**
+   * Stops accepting schedules. Running schedules are allowed to finish.
+   */
+  @Override
+  public synchronized void close() {
+    if (owned) {
+      pool.shutdown();
+      if (scheduleExecutor != null) {
+        scheduleExecutor.shutdown();
+      }
+    }
+  }
+
+}
@@ -0,0 +1,53 @@
+package challenge.scheduler;
+
+import org.slf4j.Logger;
+import challenge.calculator.NPSBound;
+import challenge.jfr.GenerationEvent;
+import challenge.jfr.PipelineEvents;
+import challenge.metrics.PipelineMetrics;
+import io.jenetics.EnumGene;
+import io.jenetics.engine.EvolutionResult;
+
+/**
+ * Records the progress of the searching schedulers in the {@link PipelineMetrics}.
+ * 
+ * @author jeffrey
+ */
+final class SearchMetrics {
+
+  private SearchMetrics() {}
+
+  /**
+   * Records how far the best schedule of a search is from the {@link NPSBound} in the
+   * {@link PipelineMetrics}.
+   * 
+   * @param log The {@link Logger} of the scheduler that searched.
+   * @param bound The {@link NPSBound} of the manifests.
+   * @param nps The Net Promoter Score (NPS) of the best schedule.
+   */
+  static void recordSearch(Logger log, NPSBound bound, int nps) {
+    int optimalityGap = bound.getOptimalityGap(nps);
+    PipelineMetrics.get().addSearch(optimalityGap);
+    log.debug("Search ended at NPS {} with an optimality gap of {}.", nps, optimalityGap);
+  }
+
+  /**
+   * Counts the generation in the {@link PipelineMetrics} and records it as a
+   * {@link GenerationEvent}.
+   * 
+   * @param result The {@link EvolutionResult} of the generation.
+   */
+  static void recordGeneration(EvolutionResult<EnumGene<Integer>, Integer> result) {
+    PipelineMetrics.get().addGeneration();
+    GenerationEvent event = PipelineEvents.newGenerationEvent();
+    if (event.shouldCommit()) {
+      event.setGeneration(result.getGeneration());
+      event.setBestNPS(result.getBestFitness());
+      event.setPopulationSize(result.getPopulation().size());
+      event.setEvaluationNanos(result.getDurations().getEvaluationDuration().toNanos());
+      event.setEvolveNanos(result.getDurations().getEvolveDuration().toNanos());
+      event.commit();
+    }
+  }
+
+}
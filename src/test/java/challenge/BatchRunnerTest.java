@@ -0,0 +1,182 @@
+package challenge;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import challenge.calculator.NPSCalculator;
+import challenge.exporter.DeliveryExporter;
+import challenge.importer.OrderImporter;
+import challenge.model.Delivery;
+import challenge.scheduler.OrderSchedulers;
+
+/**
+ * Tests for {@link BatchRunner}.
+ * 
+ * @author jeffrey
+ */
+public class BatchRunnerTest {
+
+  private static final List<String> INPUT_FILES =
+      Arrays.asList("src/test/resources/test-input-1.txt", "src/test/resources/test-input-2.txt",
+          "src/test/resources/test-input-3.txt");
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Passing a non-positive number of threads.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoThreads() {
+    new BatchRunner(Paths.get(""), 0);
+  }
+
+  /**
+   * Directories are expanded into their files, sorted by name.
+   */
+  @Test
+  public void testToInputFiles() throws IOException {
+    File directory = temporaryFolder.newFolder("orders");
+    Files.createFile(directory.toPath().resolve("b.txt"));
+    Files.createFile(directory.toPath().resolve("a.txt"));
+    Files.createDirectory(directory.toPath().resolve("c"));
+    Assert.assertEquals("Expects the files of the directory and the file.",
+        Arrays.asList(directory.toPath().resolve("a.txt"), directory.toPath().resolve("b.txt"),
+            Paths.get(INPUT_FILES.get(0))),
+        BatchRunner.toInputFiles(Arrays.asList(directory.getPath(), INPUT_FILES.get(0))));
+  }
+
+  /**
+   * Each file should be exported like a single run, along with the totals.
+   */
+  @Test
+  public void testRun() throws IOException {
+    Path outputDirectory = temporaryFolder.newFolder("output").toPath();
+    List<BatchRunner.FileResult> results =
+        new BatchRunner(outputDirectory, 2).run(BatchRunner.toInputFiles(INPUT_FILES));
+    Assert.assertEquals("Expects a result per file.", INPUT_FILES.size(), results.size());
+
+    for (int index = 0; index < INPUT_FILES.size(); index++) {
+      BatchRunner.FileResult result = results.get(index);
+      List<Delivery> deliveries = OrderSchedulers.priorityQueueBased()
+          .schedule(OrderImporter.parseFile(INPUT_FILES.get(index)));
+      Path expectedOutput = temporaryFolder.newFile().toPath();
+      DeliveryExporter.exportToFile(deliveries, expectedOutput.toString());
+
+      Assert.assertEquals("Expects the output file name.",
+          outputDirectory.resolve(String.format("test-input-%d-output.txt", index + 1)),
+          result.getOutputFile());
+      Assert.assertEquals("Expects the single run export.", Files.readAllLines(expectedOutput),
+          Files.readAllLines(result.getOutputFile()));
+      Assert.assertEquals("Expects the single run NPS.", NPSCalculator.getNPS(deliveries),
+          result.getNPS());
+    }
+
+    List<String> summary = BatchRunner.toSummary(results);
+    Assert.assertEquals("Expects a line per file and the totals.", INPUT_FILES.size() + 1,
+        summary.size());
+    Assert.assertTrue("Expects the totals.",
+        summary.get(INPUT_FILES.size()).startsWith("Files 3 Deliveries "));
+  }
+
+  /**
+   * A second run should schedule from the cache until the order file changes.
+   */
+  @Test
+  public void testCache() throws IOException {
+    Path outputDirectory = temporaryFolder.newFolder("output").toPath();
+    Path cacheDirectory = temporaryFolder.newFolder("cache").toPath();
+    Path inputFile = temporaryFolder.newFolder("orders").toPath().resolve("day1.txt");
+    Files.copy(Paths.get(INPUT_FILES.get(0)), inputFile);
+    BatchRunner batchRunner = new BatchRunner(outputDirectory, 1, cacheDirectory);
+    List<Path> inputFiles = Collections.singletonList(inputFile);
+    long deliveries = batchRunner.run(inputFiles).get(0).getDeliveries();
+    Path cacheFile;
+    try (Stream<Path> cacheFiles = Files.list(cacheDirectory)) {
+      cacheFile = cacheFiles.collect(Collectors.toList()).get(0);
+    }
+
+    FileTime cacheTime = Files.getLastModifiedTime(cacheFile);
+    Files.copy(Paths.get(INPUT_FILES.get(1)), inputFile, StandardCopyOption.REPLACE_EXISTING);
+    Files.setLastModifiedTime(inputFile, FileTime.fromMillis(cacheTime.toMillis() - 1000));
+    Assert.assertEquals("Expects the cached orders.", deliveries,
+        batchRunner.run(inputFiles).get(0).getDeliveries());
+
+    Files.setLastModifiedTime(inputFile, FileTime.fromMillis(cacheTime.toMillis() + 1000));
+    Assert.assertEquals("Expects the changed orders.",
+        OrderImporter.parseFile(INPUT_FILES.get(1)).size(),
+        batchRunner.run(inputFiles).get(0).getDeliveries());
+  }
+
+  /**
+   * Export files in a directory are not read as order files.
+   */
+  @Test
+  public void testSkipsOutputFiles() throws IOException {
+    File directory = temporaryFolder.newFolder("orders");
+    Files.createFile(directory.toPath().resolve("day1.txt"));
+    Files.createFile(directory.toPath().resolve("day1-output.txt"));
+    Assert.assertEquals("Expects only the order file.",
+        Collections.singletonList(directory.toPath().resolve("day1.txt")),
+        BatchRunner.toInputFiles(Collections.singletonList(directory.getPath())));
+  }
+
+  /**
+   * Files with the same name should not overwrite each other's export.
+   */
+  @Test
+  public void testSameFileName() throws IOException {
+    Path outputDirectory = temporaryFolder.newFolder("output").toPath();
+    Path first = temporaryFolder.newFolder("a").toPath().resolve("test-input-1.txt");
+    Path second = temporaryFolder.newFolder("b").toPath().resolve("test-input-1.csv");
+    Files.copy(Paths.get(INPUT_FILES.get(0)), first);
+    Files.copy(Paths.get(INPUT_FILES.get(1)), second);
+    List<BatchRunner.FileResult> results =
+        new BatchRunner(outputDirectory, 2).run(Arrays.asList(first, second));
+    Assert.assertTrue("Expects the first file to be exported.", results.get(0).isExported());
+    Assert.assertFalse("Expects the second file not to be exported.",
+        results.get(1).isExported());
+    Assert.assertEquals("Expects the export of the first file.",
+        NPSCalculator.getNPS(OrderSchedulers.priorityQueueBased()
+            .schedule(OrderImporter.parseFile(first.toString()))),
+        results.get(0).getNPS());
+  }
+
+  /**
+   * Exports that cannot be written are not reported as exported.
+   */
+  @Test
+  public void testFailedExport() throws IOException {
+    Path outputDirectory = temporaryFolder.getRoot().toPath().resolve("missing");
+    List<BatchRunner.FileResult> results = new BatchRunner(outputDirectory, 1)
+        .run(Collections.singletonList(Paths.get(INPUT_FILES.get(0))));
+    Assert.assertFalse("Expects no export.", results.get(0).isExported());
+  }
+
+  /**
+   * Files without orders are not exported.
+   */
+  @Test
+  public void testMissingFile() throws IOException {
+    Path outputDirectory = temporaryFolder.newFolder("output").toPath();
+    List<BatchRunner.FileResult> results = new BatchRunner(outputDirectory, 1)
+        .run(Collections.singletonList(outputDirectory.resolve("missing.txt")));
+    Assert.assertFalse("Expects no export.", results.get(0).isExported());
+    Assert.assertEquals("Expects empty totals.",
+        Collections.singletonList("Files 0 Deliveries 0 NPS 0"), BatchRunner.toSummary(results));
+  }
+
+}
@@ -0,0 +1,134 @@
+package challenge.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import challenge.importer.OrderImporter;
+import challenge.model.GridCoordinate;
+import challenge.model.ManifestTable;
+import challenge.model.Order;
+import challenge.model.OrderTest;
+
+/**
+ * Tests for {@link OrderCache}.
+ * 
+ * @author jeffrey
+ */
+public class OrderCacheTest {
+
+  private static final long SEED = 42;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Passing in <code>null</code> orders.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullOrders() throws IOException {
+    OrderCache.write(null, temporaryFolder.newFile().toPath());
+  }
+
+  /**
+   * Writing an order id that cannot be stored as a number.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidOrderId() throws IOException {
+    Order order = new Order("WMTEST", LocalTime.NOON, GridCoordinate.of(1, 2));
+    OrderCache.write(Arrays.asList(order), temporaryFolder.newFile().toPath());
+  }
+
+  /**
+   * Opening a file that is not a cache.
+   */
+  @Test(expected = IOException.class)
+  public void testNotACache() throws IOException {
+    OrderCache.open(Paths.get("src/test/resources/test-input-1.txt"));
+  }
+
+  /**
+   * Opening a cache file that was cut short.
+   */
+  @Test(expected = IOException.class)
+  public void testTruncatedCache() throws IOException {
+    Path filePath = temporaryFolder.newFile().toPath();
+    OrderCache.write(OrderTest.generateOrders(10, 100, 100, SEED), filePath);
+    byte[] bytes = Files.readAllBytes(filePath);
+    Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+    OrderCache.open(filePath);
+  }
+
+  /**
+   * An empty order list should round trip.
+   */
+  @Test
+  public void testEmpty() throws IOException {
+    Path filePath = temporaryFolder.newFile().toPath();
+    OrderCache.write(Collections.emptyList(), filePath);
+    OrderCache orderCache = OrderCache.open(filePath);
+    Assert.assertEquals("Expects no orders.", 0, orderCache.size());
+    Assert.assertTrue("Expects no orders.", orderCache.toOrders().isEmpty());
+  }
+
+  /**
+   * Orders should be read back in file order, including negative coordinates.
+   */
+  @Test
+  public void testRoundTrip() throws IOException {
+    List<Order> orders = OrderTest.generateOrders(20000, 100, 100, SEED);
+    orders.add(new Order("WM0000", LocalTime.MIN, GridCoordinate.of(-7, -300)));
+    orders.add(new Order("WM9999", LocalTime.of(23, 59, 59), GridCoordinate.of(300, 7)));
+    Path filePath = temporaryFolder.newFile().toPath();
+    OrderCache.write(orders, filePath);
+    Assert.assertEquals("Expects four int columns after the header.", 12 + 16 * orders.size(),
+        Files.size(filePath));
+
+    OrderCache orderCache = OrderCache.open(filePath);
+    Assert.assertEquals("Expects every order.", orders.size(), orderCache.size());
+    Assert.assertEquals("Expects the same orders.", orders, orderCache.toOrders());
+    Assert.assertEquals("Expects the order id.", "WM9999",
+        orderCache.getOrderId(orders.size() - 1));
+  }
+
+  /**
+   * Orders parsed from a text file should round trip.
+   */
+  @Test
+  public void testImportedOrders() throws IOException {
+    List<Order> orders = OrderImporter.parseFile("src/test/resources/test-input-3.txt");
+    Path filePath = temporaryFolder.newFile().toPath();
+    OrderCache.write(orders, filePath);
+    Assert.assertEquals("Expects the imported orders.", orders,
+        OrderCache.open(filePath).toOrders());
+  }
+
+  /**
+   * The table read from the cache should match the table of the orders.
+   */
+  @Test
+  public void testManifestTable() throws IOException {
+    List<Order> orders = OrderTest.generateOrders(1000, 100, 100, SEED);
+    Path filePath = temporaryFolder.newFile().toPath();
+    OrderCache.write(orders, filePath);
+
+    GridCoordinate warehouseLocation = GridCoordinate.of(50, 50);
+    ManifestTable expected = ManifestTable.of(orders, warehouseLocation);
+    ManifestTable actual = OrderCache.open(filePath).toManifestTable(warehouseLocation);
+    Assert.assertEquals("Same size.", expected.size(), actual.size());
+    for (int index = 0; index < orders.size(); index++) {
+      Assert.assertEquals("Same manifest.", expected.toManifest(index), actual.toManifest(index));
+      Assert.assertEquals("Same detractor second.", expected.getDetractorSecond(index),
+          actual.getDetractorSecond(index));
+    }
+  }
+
+}
@@ -1,6 +1,9 @@
 package challenge.calculator;
 
+import java.time.Duration;
 import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Random;
 import org.junit.Assert;
 import org.junit.Test;
 import challenge.model.CustomerSatisfaction;
@@ -31,4 +34,53 @@ public class CustomerSatisfactionCalculatorTest {
         .getRating(orderTime, neutralLowerBorderTime.minusMinutes(1), 15));
   }
 
+  /**
+   * Looks up the {@link CustomerSatisfaction} of the seconds to delivery.
+   */
+  @Test
+  public void testGetRatingBySeconds() {
+    Assert.assertEquals("Expects a promoter at zero.", CustomerSatisfaction.PROMOTER,
+        CustomerSatisfactionCalculator.getRating(0));
+    Assert.assertEquals("Expects a promoter just before two hours.", CustomerSatisfaction.PROMOTER,
+        CustomerSatisfactionCalculator.getRating(2 * 3600 - 1));
+    Assert.assertEquals("Expects a neutral at two hours.", CustomerSatisfaction.NEUTRAL,
+        CustomerSatisfactionCalculator.getRating(2 * 3600));
+    Assert.assertEquals("Expects a neutral just before four hours.", CustomerSatisfaction.NEUTRAL,
+        CustomerSatisfactionCalculator.getRating(4 * 3600 - 1));
+    Assert.assertEquals("Expects a detractor at four hours.", CustomerSatisfaction.DETRACTOR,
+        CustomerSatisfactionCalculator.getRating(4 * 3600));
+    Assert.assertEquals("Expects a detractor for a day.", CustomerSatisfaction.DETRACTOR,
+        CustomerSatisfactionCalculator.getRating(24 * 3600));
+    Assert.assertEquals("Expects less than an hour early to count as zero hours.",
+        CustomerSatisfaction.PROMOTER, CustomerSatisfactionCalculator.getRating(-3599));
+    Assert.assertEquals("Expects an hour early to be a detractor.", CustomerSatisfaction.DETRACTOR,
+        CustomerSatisfactionCalculator.getRating(-3600));
+  }
+
+  /**
+   * The lookup should match comparing the hours of the {@link Duration} to every range.
+   */
+  @Test
+  public void testMatchesDuration() {
+    Random random = new Random();
+    for (int run = 0; run < 10000; run++) {
+      LocalTime orderTime = LocalTime.ofNanoOfDay((long) (random.nextDouble() * 86_400e9));
+      LocalTime departureTime = LocalTime.ofNanoOfDay((long) (random.nextDouble() * 86_400e9));
+      int transitMinutes = random.nextInt(600);
+      LocalTime arrivalTime = departureTime.plusMinutes(transitMinutes);
+      Assert.assertEquals("Should match the duration rating.", toRating(orderTime, arrivalTime),
+          CustomerSatisfactionCalculator.getRating(orderTime, arrivalTime));
+      Assert.assertEquals("Should match the duration rating with transit.",
+          toRating(orderTime, arrivalTime),
+          CustomerSatisfactionCalculator.getRating(orderTime, departureTime, transitMinutes));
+    }
+  }
+
+  private static CustomerSatisfaction toRating(LocalTime orderTime, LocalTime arrivalTime) {
+    long hoursToDelivery = Duration.between(orderTime, arrivalTime).toHours();
+    return Arrays.stream(CustomerSatisfaction.values())
+        .filter(rating -> rating.isValid(hoursToDelivery)).findFirst()
+        .orElse(CustomerSatisfaction.DETRACTOR);
+  }
+
 }
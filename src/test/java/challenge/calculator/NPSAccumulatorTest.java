@@ -0,0 +1,82 @@
+package challenge.calculator;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+import challenge.model.CustomerSatisfaction;
+import challenge.model.Delivery;
+import challenge.model.DeliveryTest;
+
+/**
+ * Tests for {@link NPSAccumulator}.
+ * 
+ * @author jeffrey
+ */
+public class NPSAccumulatorTest {
+
+  /**
+   * Passing in <code>null</code> deliveries.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullDeliveries() {
+    NPSAccumulator.of(null);
+  }
+
+  /**
+   * Reading the NPS before any delivery is added.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmpty() {
+    NPSAccumulator accumulator = new NPSAccumulator();
+    Assert.assertTrue("Expects no deliveries.", accumulator.isEmpty());
+    accumulator.getNPS();
+  }
+
+  /**
+   * Adding deliveries one at a time should match {@link NPSCalculator}.
+   */
+  @Test
+  public void testMatchesCalculator() {
+    List<Delivery> deliveries = DeliveryTest.generateDeliveries(5, 10, 11);
+    NPSAccumulator accumulator = new NPSAccumulator();
+    for (Delivery delivery : deliveries) {
+      accumulator.accept(delivery);
+    }
+    Assert.assertEquals("Expects the promoters.", 5, accumulator.getPromoters());
+    Assert.assertEquals("Expects the neutrals.", 10, accumulator.getNeutrals());
+    Assert.assertEquals("Expects the detractors.", 11, accumulator.getDetractors());
+    Assert.assertEquals("Expects every delivery.", deliveries.size(), accumulator.getCount());
+    Assert.assertEquals("Should match the calculator.", NPSCalculator.getNPS(deliveries),
+        accumulator.getNPS());
+  }
+
+  /**
+   * Merging should add the counts and leave the other accumulator as it was.
+   */
+  @Test
+  public void testMerge() {
+    NPSAccumulator first = NPSAccumulator.of(DeliveryTest.generateDeliveries(3, 0, 1));
+    NPSAccumulator second = NPSAccumulator.of(DeliveryTest.generateDeliveries(0, 2, 1));
+    Assert.assertSame("Expects the merged accumulator.", first, first.merge(second));
+    Assert.assertEquals("Expects the merged count.", 7, first.getCount());
+    Assert.assertEquals("Expects the merged NPS.",
+        NPSCalculator.getNPS(3, 2, 7), first.getNPS());
+    Assert.assertEquals("Expects the other count unchanged.", 3, second.getCount());
+  }
+
+  /**
+   * Concurrent producers should not lose any rating.
+   */
+  @Test
+  public void testConcurrentAdds() {
+    NPSAccumulator accumulator = new NPSAccumulator();
+    IntStream.range(0, 300_000).parallel().forEach(index -> accumulator
+        .add(CustomerSatisfaction.values()[index % CustomerSatisfaction.values().length]));
+    Assert.assertEquals("Expects every promoter.", 100_000, accumulator.getPromoters());
+    Assert.assertEquals("Expects every neutral.", 100_000, accumulator.getNeutrals());
+    Assert.assertEquals("Expects every detractor.", 100_000, accumulator.getDetractors());
+    Assert.assertEquals("Expects an NPS of zero.", 0, accumulator.getNPS());
+  }
+
+}
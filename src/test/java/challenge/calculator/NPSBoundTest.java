@@ -0,0 +1,108 @@
+package challenge.calculator;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.Assert;
+import org.junit.Test;
+import challenge.generator.ArrivalProfile;
+import challenge.generator.OrderGenerator;
+import challenge.generator.SpatialDistribution;
+import challenge.model.GridCoordinate;
+import challenge.model.ManifestTable;
+import challenge.model.Order;
+import challenge.scheduler.OrderSchedulers;
+
+/**
+ * Tests for {@link NPSBound}.
+ * 
+ * @author jeffrey
+ */
+public class NPSBoundTest {
+
+  private static final LocalTime START_TIME = LocalTime.of(6, 0);
+
+  private static final LocalTime END_TIME = LocalTime.of(22, 0);
+
+  /**
+   * Passing in a <code>null</code> table.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullTable() {
+    NPSBound.of(null, START_TIME, END_TIME);
+  }
+
+  /**
+   * Passing in an empty table.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyTable() {
+    NPSBound.of(toTable(new int[0], new int[0]), START_TIME, END_TIME);
+  }
+
+  /**
+   * Orders far enough apart can all be promoters.
+   */
+  @Test
+  public void testQuietDay() {
+    NPSBound bound = NPSBound.of(toTable(new int[] {7 * 3600, 10 * 3600, 14 * 3600},
+        new int[] {30, 45, 10}), START_TIME, END_TIME);
+    Assert.assertEquals("Expects every promoter.", 3, bound.getMaximumPromoters());
+    Assert.assertEquals("Expects no detractors.", 0, bound.getMinimumDetractors());
+    Assert.assertEquals("Expects the highest NPS.", 100, bound.getNPS());
+    Assert.assertTrue("Expects the highest NPS to be optimal.", bound.isOptimal(100));
+    Assert.assertEquals("Expects the gap.", 40, bound.getOptimalityGap(60));
+  }
+
+  /**
+   * Orders placed together have to wait for the drone. Each round trip takes 100 minutes, so only
+   * the first can leave within 70 minutes and only two within 190 minutes.
+   */
+  @Test
+  public void testBusyHour() {
+    NPSBound bound = NPSBound.of(toTable(new int[] {36000, 36000, 36000},
+        new int[] {50, 50, 50}), START_TIME, END_TIME);
+    Assert.assertEquals("Expects a single promoter.", 1, bound.getMaximumPromoters());
+    Assert.assertEquals("Expects a single detractor.", 1, bound.getMinimumDetractors());
+    Assert.assertEquals("Expects the score.", 0, bound.getMaximumScore());
+    Assert.assertEquals("Expects the NPS.", 0, bound.getNPS());
+    Assert.assertFalse("Expects a lower NPS not to be optimal.", bound.isOptimal(-34));
+  }
+
+  /**
+   * Orders that cannot be delivered before the end time are always detractors.
+   */
+  @Test
+  public void testLateOrders() {
+    NPSBound bound = NPSBound.of(toTable(new int[] {12 * 3600, 21 * 3600 + 1800, 23 * 3600},
+        new int[] {10, 40, 5}), START_TIME, END_TIME);
+    Assert.assertEquals("Expects a single promoter.", 1, bound.getMaximumPromoters());
+    Assert.assertEquals("Expects the late detractors.", 2, bound.getMinimumDetractors());
+    Assert.assertEquals("Expects the NPS.", -33, bound.getNPS());
+  }
+
+  /**
+   * The bound should never be lower than the best schedule.
+   */
+  @Test
+  public void testNotBelowExact() {
+    OrderGenerator generator = new OrderGenerator(GridCoordinate.ZERO, ArrivalProfile.MIDDAY_PEAK,
+        SpatialDistribution.UNIFORM, 30);
+    LongStream.range(0, 50).forEach(seed -> {
+      List<Order> orders = generator.generate(12, seed);
+      int nps = NPSCalculator.getNPS(OrderSchedulers.exact().schedule(orders));
+      NPSBound bound =
+          NPSBound.of(ManifestTable.of(orders, GridCoordinate.ZERO), START_TIME, END_TIME);
+      Assert.assertTrue("Expects the bound to be at least " + nps + ".", bound.getNPS() >= nps);
+    });
+  }
+
+  private static ManifestTable toTable(int[] orderSeconds, int[] transitMinutes) {
+    String[] orderIds = new String[orderSeconds.length];
+    for (int index = 0; index < orderIds.length; index++) {
+      orderIds[index] = String.format("WM%04d", index);
+    }
+    return ManifestTable.ofColumns(orderIds, orderSeconds, transitMinutes);
+  }
+
+}
@@ -47,4 +47,22 @@ public final class NPSCalculatorTest {
         NPSCalculator.getNPS(DeliveryTest.generateDeliveries(5, 10, 11)));
   }
 
+  /**
+   * Passing in a size of zero should result in an {@link IllegalArgumentException}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyCountNPS() {
+    NPSCalculator.getNPS(0, 0, 0);
+  }
+
+  /**
+   * Calculates the NPS from the counts.
+   */
+  @Test
+  public void testCountNPSCalculation() {
+    Assert.assertEquals("Only promotors.", 100, NPSCalculator.getNPS(1, 0, 1));
+    Assert.assertEquals("Rounds from 14.285.", 14, NPSCalculator.getNPS(3, 1, 14));
+    Assert.assertEquals("Rounds from -23.077.", -23, NPSCalculator.getNPS(5, 11, 26));
+  }
+
 }
@@ -1,14 +1,27 @@
 package challenge.exporter;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import challenge.calculator.NPSCalculator;
 import challenge.model.CustomerSatisfaction;
 import challenge.model.Delivery;
 import challenge.model.DeliveryTest;
@@ -22,6 +35,9 @@ public class DeliveryExporterTest {
 
   private static final Logger LOG = LoggerFactory.getLogger(DeliveryExporterTest.class);
 
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   /**
    * Passing in a null argument should result in a null file path.
    */
@@ -75,4 +91,70 @@ public class DeliveryExporterTest {
     }
   }
 
+  /**
+   * Exporting to a stream should write the sorted lines and the NPS without sorting the list.
+   */
+  @Test
+  public void testStreamExport() throws IOException {
+    List<Delivery> deliveries = DeliveryTest.generateDeliveries(5000, 3000, 4000);
+    List<Delivery> unsorted = new ArrayList<>(deliveries);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    int nps = DeliveryExporter.export(deliveries, outputStream);
+    Assert.assertEquals("Expects the list to be left as is.", unsorted, deliveries);
+    Assert.assertEquals("Expects the NPS of the deliveries.", NPSCalculator.getNPS(deliveries), nps);
+    Assert.assertEquals("Expects sorted lines followed by the NPS.", toExpectedLines(deliveries),
+        toLines(new String(outputStream.toByteArray(), StandardCharsets.US_ASCII)));
+  }
+
+  /**
+   * Exporting to different files at the same time.
+   */
+  @Test
+  public void testConcurrentExports() throws Exception {
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    try {
+      List<List<Delivery>> exports = new ArrayList<>();
+      List<Future<String>> filePaths = new ArrayList<>();
+      for (int export = 0; export < 8; export++) {
+        List<Delivery> deliveries = DeliveryTest.generateDeliveries(2000, 1000, export * 500);
+        File file = temporaryFolder.newFile(String.format("output-%d.txt", export));
+        exports.add(deliveries);
+        filePaths.add(executorService
+            .submit(() -> DeliveryExporter.exportToFile(deliveries, file.getPath())));
+      }
+      for (int export = 0; export < exports.size(); export++) {
+        File file = new File(filePaths.get(export).get());
+        Assert.assertEquals("Expects each file to have its own deliveries.",
+            toExpectedLines(exports.get(export)),
+            Files.readAllLines(file.toPath(), StandardCharsets.US_ASCII));
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  /**
+   * Exporting an empty list to a stream.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyStreamExport() throws IOException {
+    DeliveryExporter.export(Collections.emptyList(), new ByteArrayOutputStream());
+  }
+
+  private static List<String> toExpectedLines(List<Delivery> deliveries) {
+    List<String> lines = deliveries.stream().sorted().map(DeliveryExporter::toLine)
+        .collect(Collectors.toList());
+    lines.add("NPS " + NPSCalculator.getNPS(deliveries));
+    return lines;
+  }
+
+  private static List<String> toLines(String content) {
+    try (BufferedReader bufferedReader = new BufferedReader(new StringReader(content))) {
+      return bufferedReader.lines().collect(Collectors.toList());
+    } catch (IOException exception) {
+      throw new AssertionError(exception);
+    }
+  }
+
 }
@@ -0,0 +1,159 @@
+package challenge.generator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import challenge.importer.OrderImporter;
+import challenge.model.GridCoordinate;
+import challenge.model.Order;
+
+/**
+ * Tests for {@link OrderGenerator}.
+ * 
+ * @author jeffrey
+ */
+public class OrderGeneratorTest {
+
+  private static final long SEED = 42L;
+
+  private static final GridCoordinate WAREHOUSE_LOCATION = GridCoordinate.of(10, -20);
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Passing in a <code>null</code> arrival profile.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullArrivalProfile() {
+    new OrderGenerator(WAREHOUSE_LOCATION, null);
+  }
+
+  /**
+   * Passing in a negative maximum distance.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeMaximumDistance() {
+    new OrderGenerator(WAREHOUSE_LOCATION, ArrivalProfile.UNIFORM, SpatialDistribution.UNIFORM,
+        -1);
+  }
+
+  /**
+   * Generating a negative number of orders.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeNumberOfOrders() {
+    new OrderGenerator(WAREHOUSE_LOCATION, ArrivalProfile.UNIFORM).generate(-1, SEED);
+  }
+
+  /**
+   * Orders should be sorted, within the delivery window and around the warehouse.
+   */
+  @Test
+  public void testGenerate() {
+    for (ArrivalProfile arrivalProfile : ArrivalProfile.values()) {
+      for (SpatialDistribution spatialDistribution : SpatialDistribution.values()) {
+        List<Order> orders = new OrderGenerator(WAREHOUSE_LOCATION, arrivalProfile,
+            spatialDistribution, 25).generateLoad(20000, SEED);
+        Assert.assertEquals("Expects every order.", 20000, orders.size());
+        for (int index = 0; index < orders.size(); index++) {
+          Order order = orders.get(index);
+          Assert.assertEquals("Expects the id of the index.",
+              String.format("WM%04d", index % 10000), order.getOrderId());
+          Assert.assertFalse("Expects no order before 06:00.",
+              order.getOrderTime().isBefore(LocalTime.of(6, 0)));
+          Assert.assertTrue("Expects no order after 22:00.",
+              order.getOrderTime().isBefore(LocalTime.of(22, 0)));
+          Assert.assertTrue("Expects orders sorted by time.", index == 0
+              || !order.getOrderTime().isBefore(orders.get(index - 1).getOrderTime()));
+          GridCoordinate location = order.getCustomerLocation();
+          Assert.assertTrue("Expects the location within the distance.",
+              Math.abs(location.getX() - WAREHOUSE_LOCATION.getX()) <= 25
+                  && Math.abs(location.getY() - WAREHOUSE_LOCATION.getY()) <= 25);
+        }
+      }
+    }
+  }
+
+  /**
+   * Generating more orders than there are unique ids.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testTooManyOrders() {
+    new OrderGenerator(WAREHOUSE_LOCATION, ArrivalProfile.UNIFORM)
+        .generate(OrderGenerator.MAXIMUM_ORDERS + 1, SEED);
+  }
+
+  /**
+   * Orders within the limit should have unique ids.
+   */
+  @Test
+  public void testUniqueIds() {
+    List<Order> orders = new OrderGenerator(WAREHOUSE_LOCATION, ArrivalProfile.UNIFORM)
+        .generate(OrderGenerator.MAXIMUM_ORDERS, SEED);
+    Assert.assertEquals("Expects unique ids.", OrderGenerator.MAXIMUM_ORDERS,
+        orders.stream().map(Order::getOrderId).distinct().count());
+  }
+
+  /**
+   * The same seed should generate the same orders, and a different seed different orders.
+   */
+  @Test
+  public void testSeed() {
+    OrderGenerator orderGenerator = new OrderGenerator(WAREHOUSE_LOCATION,
+        ArrivalProfile.RUSH_HOURS, SpatialDistribution.NORMAL, 60);
+    Assert.assertEquals("Expects the same orders.", orderGenerator.generate(1000, SEED),
+        orderGenerator.generate(1000, SEED));
+    Assert.assertNotEquals("Expects different orders.", orderGenerator.generate(1000, SEED),
+        orderGenerator.generate(1000, SEED + 1));
+  }
+
+  /**
+   * The profiles should shape the order times.
+   */
+  @Test
+  public void testArrivalProfile() {
+    List<Order> orders =
+        new OrderGenerator(WAREHOUSE_LOCATION, ArrivalProfile.MIDDAY_PEAK).generateLoad(50000,
+            SEED);
+    long noonOrders = orders.stream().filter(order -> order.getOrderTime().getHour() == 12).count();
+    long earlyOrders = orders.stream().filter(order -> order.getOrderTime().getHour() == 6).count();
+    Assert.assertTrue("Expects more orders at noon.", noonOrders > earlyOrders * 5);
+  }
+
+  /**
+   * The normal distribution should keep customers closer than the uniform distribution.
+   */
+  @Test
+  public void testSpatialDistribution() {
+    double uniformDistance = averageDistance(SpatialDistribution.UNIFORM);
+    double normalDistance = averageDistance(SpatialDistribution.NORMAL);
+    Assert.assertTrue("Expects closer customers.", normalDistance < uniformDistance * 0.75);
+  }
+
+  private double averageDistance(SpatialDistribution spatialDistribution) {
+    return new OrderGenerator(WAREHOUSE_LOCATION, ArrivalProfile.UNIFORM, spatialDistribution, 60)
+        .streamLoad(20000, SEED)
+        .mapToInt(order -> WAREHOUSE_LOCATION.getDistanceTo(order.getCustomerLocation()))
+        .average().orElse(0);
+  }
+
+  /**
+   * A written file should import as the generated orders.
+   */
+  @Test
+  public void testWriteFile() throws IOException {
+    OrderGenerator orderGenerator = new OrderGenerator(WAREHOUSE_LOCATION,
+        ArrivalProfile.RUSH_HOURS, SpatialDistribution.UNIFORM, 80);
+    Path filePath = temporaryFolder.newFile().toPath();
+    orderGenerator.writeFile(5000, SEED, filePath);
+    Assert.assertEquals("Expects the generated orders.", orderGenerator.generate(5000, SEED),
+        OrderImporter.parseFile(filePath.toString()));
+  }
+
+}
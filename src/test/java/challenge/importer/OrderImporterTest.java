@@ -1,11 +1,23 @@
 package challenge.importer;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import challenge.model.GridCoordinate;
 import challenge.model.Order;
+import challenge.model.OrderTest;
+import challenge.parser.OrderParser;
 
 /**
  * Tests import of {@link Order}.
@@ -16,6 +28,9 @@ public class OrderImporterTest {
 
   private static final String FIRST_ORDER = "WM0001 N11W5 05:11:50";
 
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   /**
    * Valid file path. Expects file to have the following as the first order:
    * <p>
@@ -80,4 +95,89 @@ public class OrderImporterTest {
         order.getOrderTime());
   }
 
+  /**
+   * Streaming a valid file should give the same orders as parsing it.
+   */
+  @Test
+  public void testStreamFile() {
+    String filePath = "src/test/resources/test-input-2.txt";
+    try (Stream<Order> orders = OrderImporter.streamFile(filePath)) {
+      Assert.assertEquals("Expects the parsed orders.", OrderImporter.parseFile(filePath),
+          orders.collect(Collectors.toList()));
+    }
+  }
+
+  /**
+   * Streaming an invalid path to file.
+   */
+  @Test
+  public void testStreamInvalidPath() {
+    try (Stream<Order> orders = OrderImporter.streamFile("src/test/resources")) {
+      Assert.assertEquals("Invalid path, so no orders should be streamed.", 0, orders.count());
+    }
+  }
+
+  /**
+   * Parsing a file in parallel should give the same orders as parsing it.
+   */
+  @Test
+  public void testParseFileInParallel() {
+    for (int file = 1; file <= 3; file++) {
+      String filePath = String.format("src/test/resources/test-input-%d.txt", file);
+      Assert.assertEquals("Expects the parsed orders.", OrderImporter.parseFile(filePath),
+          OrderImporter.parseFileInParallel(filePath));
+    }
+    String filePath = "src/test/resources/invalid-test-input.txt";
+    Assert.assertEquals("Expects the parsed orders.", OrderImporter.parseFile(filePath),
+        OrderImporter.parseFileInParallel(filePath));
+  }
+
+  /**
+   * A file large enough to be split into several chunks should keep the file order.
+   */
+  @Test
+  public void testParseLargeFileInParallel() throws IOException {
+    List<String> lines = new ArrayList<>();
+    for (int index = 0; index < 50000; index++) {
+      Order order = OrderTest.generateOrder(index % 10000, 100, 100);
+      String line = toLine(order);
+      if (index % 7 == 0) {
+        line = line + "\r";
+      } else if (index % 101 == 0) {
+        line = "Invalid " + line;
+      }
+      lines.add(line);
+    }
+    File file = temporaryFolder.newFile("large-input.txt");
+    Files.write(file.toPath(), lines, StandardCharsets.US_ASCII);
+
+    List<Order> expected = OrderImporter.parseFile(file.getPath());
+    Assert.assertEquals("Expects the invalid lines to be ignored.", 50000 - 425, expected.size());
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      Assert.assertEquals("Expects the parsed orders in file order.", expected,
+          OrderImporter.parseFileInParallel(file.getPath(), pool));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Parsing an invalid path to file in parallel.
+   */
+  @Test
+  public void testParseInvalidPathInParallel() {
+    Assert.assertTrue("Invalid path, so no orders should be returned.",
+        OrderImporter.parseFileInParallel("src/test/resources").isEmpty());
+    Assert.assertTrue("Missing file, so no orders should be returned.",
+        OrderImporter.parseFileInParallel("src/test/resources/missing.txt").isEmpty());
+  }
+
+  private static String toLine(Order order) {
+    GridCoordinate location = order.getCustomerLocation();
+    return String.format("%s %s%d%s%d %s", order.getOrderId(), location.getY() < 0 ? "S" : "N",
+        Math.abs(location.getY()), location.getX() < 0 ? "W" : "E", Math.abs(location.getX()),
+        OrderParser.formatOrderTime(order.getOrderTime()));
+  }
+
 }
@@ -0,0 +1,96 @@
+package challenge.jenetics;
+
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+import challenge.calculator.NPSCalculator;
+import challenge.importer.OrderImporter;
+import challenge.model.GridCoordinate;
+import challenge.model.Manifest;
+import challenge.model.ManifestTable;
+import challenge.model.OrderTest;
+import challenge.scheduler.OrderScheduler;
+import challenge.scheduler.OrderSchedulers;
+
+/**
+ * Tests for {@link ScheduleFitness}.
+ * 
+ * @author jeffrey
+ */
+public class ScheduleFitnessTest {
+
+  private static final OrderScheduler FIFO = OrderSchedulers.fifo();
+
+  /**
+   * Passing <code>null</code> manifests.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullManifests() {
+    new ScheduleFitness((ManifestTable) null, LocalTime.MIN, LocalTime.MAX);
+  }
+
+  /**
+   * Passing a schedule that does not contain every manifest.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIncompleteSchedule() {
+    toScheduleFitness(importManifests("src/test/resources/test-input-1.txt"))
+        .getNPS(new int[] {0});
+  }
+
+  /**
+   * Imports the test files and compares the fitness of the file order to the FIFO NPS.
+   */
+  @Test
+  public void testFileOrder() {
+    Assert.assertEquals("Fifo NPS should be 50.", 50,
+        getFileOrderNPS("src/test/resources/test-input-1.txt"));
+    Assert.assertEquals("Fifo NPS should be -12.", -12,
+        getFileOrderNPS("src/test/resources/test-input-2.txt"));
+    Assert.assertEquals("Fifo NPS should be 0.", 0,
+        getFileOrderNPS("src/test/resources/test-input-3.txt"));
+  }
+
+  /**
+   * Compares random permutations of generated manifests to the FIFO NPS.
+   */
+  @Test
+  public void testMatchesFifo() {
+    Random random = new Random();
+    List<Manifest> manifests = IntStream.range(0, 200)
+        .mapToObj(
+            idNumber -> new Manifest(OrderTest.generateOrder(idNumber, 30, 30), GridCoordinate.ZERO))
+        .collect(Collectors.toList());
+    ScheduleFitness scheduleFitness = toScheduleFitness(manifests);
+
+    List<Integer> indices =
+        IntStream.range(0, manifests.size()).boxed().collect(Collectors.toList());
+    for (int attempt = 0; attempt < 20; attempt++) {
+      Collections.shuffle(indices, random);
+      int[] schedule = indices.stream().mapToInt(Integer::intValue).toArray();
+      List<Manifest> ordered = indices.stream().map(manifests::get).collect(Collectors.toList());
+      Assert.assertEquals("Should match the FIFO NPS.",
+          NPSCalculator.getNPS(FIFO.processManifests(ordered)), scheduleFitness.getNPS(schedule));
+    }
+  }
+
+  private int getFileOrderNPS(String filePath) {
+    List<Manifest> manifests = importManifests(filePath);
+    return toScheduleFitness(manifests).getNPS(IntStream.range(0, manifests.size()).toArray());
+  }
+
+  private List<Manifest> importManifests(String filePath) {
+    return OrderImporter.parseFile(filePath).stream()
+        .map(order -> new Manifest(order, GridCoordinate.ZERO)).collect(Collectors.toList());
+  }
+
+  private ScheduleFitness toScheduleFitness(List<Manifest> manifests) {
+    return new ScheduleFitness(manifests, FIFO.getStartTime(), FIFO.getEndTime());
+  }
+
+}
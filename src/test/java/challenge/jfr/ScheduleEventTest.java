@@ -0,0 +1,142 @@
+package challenge.jfr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import challenge.exporter.DeliveryExporter;
+import challenge.importer.OrderImporter;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Order;
+import challenge.scheduler.OrderSchedulers;
+import challenge.scheduler.PortfolioOrderScheduler;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests for {@link ScheduleEvent} and the other flight recorder events of the pipeline.
+ * 
+ * @author jeffrey
+ */
+public class ScheduleEventTest {
+
+  private static final String FILE_PATH = "src/test/resources/test-input-3.txt";
+
+  private static final List<String> EVENT_NAMES = Arrays.asList("challenge.Schedule",
+      "challenge.Generation", "challenge.QueueRefresh", "challenge.Import", "challenge.Export");
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * The events are only recorded on JDKs with the flight recorder.
+   */
+  @Before
+  public void setUp() {
+    Assume.assumeTrue("Expects the flight recorder.", PipelineEvents.isAvailable());
+  }
+
+  /**
+   * Importing, scheduling and exporting while recording should emit every event.
+   */
+  @Test
+  public void testRecording() throws IOException {
+    List<Order> orders;
+    List<Delivery> deliveries;
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    Path recordingPath = temporaryFolder.newFile("pipeline.jfr").toPath();
+    try (Recording recording = new Recording()) {
+      EVENT_NAMES.forEach(recording::enable);
+      recording.start();
+
+      orders = OrderImporter.parseFile(FILE_PATH);
+      OrderImporter.parseFileInParallel(FILE_PATH);
+      deliveries = OrderSchedulers.queueBased().schedule(orders);
+      OrderSchedulers.anytime(Duration.ofMillis(50)).schedule(orders);
+      DeliveryExporter.export(deliveries, outputStream);
+
+      recording.stop();
+      recording.dump(recordingPath);
+    }
+
+    Map<String, List<RecordedEvent>> eventsByName = RecordingFile.readAllEvents(recordingPath)
+        .stream().collect(Collectors.groupingBy(event -> event.getEventType().getName()));
+
+    List<RecordedEvent> importEvents = eventsByName.get("challenge.Import");
+    Assert.assertEquals("Expects an event per import.", 2, importEvents.size());
+    Assert.assertTrue("Expects the orders of every import.", importEvents.stream()
+        .allMatch(event -> event.getInt("orders") == orders.size()));
+
+    List<RecordedEvent> scheduleEvents = eventsByName.get("challenge.Schedule");
+    Assert.assertEquals("Expects an event per schedule.", 2, scheduleEvents.size());
+    RecordedEvent queueEvent = scheduleEvents.stream()
+        .filter(event -> "QueueOrderScheduler".equals(event.getString("scheduler"))).findFirst()
+        .orElse(null);
+    Assert.assertNotNull("Expects the queue based schedule.", queueEvent);
+    Assert.assertEquals("Expects the scheduled orders.", orders.size(),
+        queueEvent.getInt("orders"));
+    Assert.assertEquals("Expects the incomplete deliveries.",
+        deliveries.stream().filter(delivery -> LocalTime.MAX.equals(delivery.getDepartureTime()))
+            .count(),
+        queueEvent.getInt("incompleteDeliveries"));
+
+    Assert.assertTrue("Expects queue refreshes.",
+        eventsByName.get("challenge.QueueRefresh").stream()
+            .allMatch(event -> event.getInt("queueDepth") >= event.getInt("addedManifests")));
+    Assert.assertFalse("Expects generations.",
+        eventsByName.get("challenge.Generation").isEmpty());
+
+    List<RecordedEvent> exportEvents = eventsByName.get("challenge.Export");
+    Assert.assertEquals("Expects a single export.", 1, exportEvents.size());
+    Assert.assertEquals("Expects the bytes written.", outputStream.size(),
+        exportEvents.get(0).getLong("bytesWritten"));
+    Assert.assertEquals("Expects the deliveries.", deliveries.size(),
+        exportEvents.get(0).getInt("deliveries"));
+  }
+
+  /**
+   * Streamed schedules and each strategy of a portfolio should be recorded as schedules.
+   */
+  @Test
+  public void testStreamAndPortfolio() throws IOException {
+    List<Order> orders = OrderImporter.parseFile(FILE_PATH);
+    Path recordingPath = temporaryFolder.newFile("schedule.jfr").toPath();
+    try (Recording recording = new Recording()) {
+      recording.enable("challenge.Schedule");
+      recording.start();
+
+      OrderSchedulers.priorityQueueBased().schedule(orders.stream(), delivery -> {
+      });
+      new PortfolioOrderScheduler(GridCoordinate.ZERO, Duration.ofSeconds(10),
+          Collections.singletonList(OrderSchedulers::fifo)).schedule(orders);
+
+      recording.stop();
+      recording.dump(recordingPath);
+    }
+
+    Map<String, Long> schedulesByScheduler = RecordingFile.readAllEvents(recordingPath).stream()
+        .collect(Collectors.groupingBy(event -> event.getString("scheduler"),
+            Collectors.counting()));
+    Assert.assertEquals("Expects the streamed schedule.", Long.valueOf(1),
+        schedulesByScheduler.get("PriorityQueueOrderScheduler"));
+    Assert.assertEquals("Expects the raced first in, first out schedule.", Long.valueOf(1),
+        schedulesByScheduler.get("FifoOrderScheduler"));
+    Assert.assertEquals("Expects the portfolio schedule.", Long.valueOf(1),
+        schedulesByScheduler.get("PortfolioOrderScheduler"));
+  }
+
+}
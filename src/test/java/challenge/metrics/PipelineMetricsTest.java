@@ -0,0 +1,173 @@
+package challenge.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import challenge.calculator.NPSCalculator;
+import challenge.exporter.DeliveryExporter;
+import challenge.generator.ArrivalProfile;
+import challenge.generator.OrderGenerator;
+import challenge.importer.OrderImporter;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Order;
+import challenge.scheduler.OrderSchedulers;
+
+/**
+ * Tests for {@link PipelineMetrics}.
+ * 
+ * @author jeffrey
+ */
+public class PipelineMetricsTest {
+
+  private static final String INVALID_FILE_PATH = "src/test/resources/invalid-test-input.txt";
+
+  private static final String FILE_PATH = "src/test/resources/test-input-2.txt";
+
+  private static final String LARGE_FILE_PATH = "src/test/resources/test-input-3.txt";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Counters should add up and reset back to zero.
+   */
+  @Test
+  public void testCounters() {
+    PipelineMetrics metrics = new PipelineMetrics();
+    metrics.addOrderLines(5, 2);
+    metrics.addOrderLines(1, 1);
+    metrics.addManifestsScheduled(4);
+    metrics.addGeneration();
+    metrics.addFitnessEvaluation();
+    metrics.addFitnessEvaluation();
+    metrics.addBytesWritten(128);
+    metrics.addSearch(0);
+    metrics.addSearch(7);
+    metrics.getEvolutionTimer().record(1_000_000_000);
+    metrics.scheduleStarted();
+    metrics.scheduleStarted();
+    metrics.scheduleFinished();
+    metrics.setLastNPS(87);
+
+    Assert.assertEquals("Expects the parsed orders.", 6, metrics.getOrdersParsed());
+    Assert.assertEquals("Expects the rejected lines.", 3, metrics.getRejectedLines());
+    Assert.assertEquals("Expects the manifests.", 4, metrics.getManifestsScheduled());
+    Assert.assertEquals("Expects the generations.", 1, metrics.getGenerationsEvaluated());
+    Assert.assertEquals("Expects the evaluations.", 2, metrics.getFitnessEvaluations());
+    Assert.assertEquals("Expects the evaluation rate.", 2,
+        metrics.getFitnessEvaluationsPerSecond());
+    Assert.assertEquals("Expects the bytes.", 128, metrics.getBytesWritten());
+    Assert.assertEquals("Expects the searches.", 2, metrics.getSearches());
+    Assert.assertEquals("Expects the optimal searches.", 1, metrics.getOptimalSearches());
+    Assert.assertEquals("Expects the largest gap.", 7, metrics.getMaximumOptimalityGap());
+    Assert.assertEquals("Expects the running schedule.", 1, metrics.getActiveSchedules());
+    Assert.assertEquals("Expects the last NPS.", 87, metrics.getLastNPS());
+    Assert.assertTrue("Expects the parsed orders line.",
+        metrics.toLines().contains("ordersParsed 6"));
+
+    metrics.scheduleFinished();
+    metrics.reset();
+    Assert.assertTrue("Expects every metric to be zero.",
+        metrics.toLines().stream().allMatch(line -> line.endsWith(" 0")));
+  }
+
+  /**
+   * The registry should be readable as an MBean and registering twice should do nothing.
+   */
+  @Test
+  public void testRegister() throws JMException {
+    MBeanServer server = MBeanServerFactory.newMBeanServer();
+    PipelineMetrics metrics = new PipelineMetrics();
+    metrics.addManifestsScheduled(3);
+
+    Assert.assertTrue("Expects the registry to be registered.", metrics.registerWith(server));
+    Assert.assertTrue("Expects the registry to stay registered.", metrics.registerWith(server));
+    Assert.assertEquals("Expects the manifests attribute.", 3L,
+        server.getAttribute(new ObjectName(PipelineMetrics.OBJECT_NAME), "ManifestsScheduled"));
+
+    server.invoke(new ObjectName(PipelineMetrics.OBJECT_NAME), "reset", null, null);
+    Assert.assertEquals("Expects the reset manifests.", 0, metrics.getManifestsScheduled());
+    Assert.assertTrue("Expects the global registry to be registered.", PipelineMetrics.register());
+  }
+
+  /**
+   * Importing, scheduling and exporting should record into the global registry.
+   */
+  @Test
+  public void testPipeline() {
+    PipelineMetrics metrics = PipelineMetrics.get();
+    long ordersParsed = metrics.getOrdersParsed();
+    long rejectedLines = metrics.getRejectedLines();
+    long importCount = metrics.getImportCount();
+    OrderImporter.parseFile(INVALID_FILE_PATH);
+    OrderImporter.parseFileInParallel(INVALID_FILE_PATH);
+    Assert.assertEquals("Expects no parsed orders.", ordersParsed,
+        metrics.getOrdersParsed());
+    Assert.assertEquals("Expects the rejected lines.", rejectedLines + 8,
+        metrics.getRejectedLines());
+    Assert.assertEquals("Expects the imports.", importCount + 2, metrics.getImportCount());
+
+    List<Order> orders = OrderImporter.parseFile(FILE_PATH);
+    long manifestsScheduled = metrics.getManifestsScheduled();
+    long scheduleCount = metrics.getScheduleCount();
+    List<Delivery> deliveries = OrderSchedulers.priorityQueueBased().schedule(orders);
+    Assert.assertEquals("Expects the manifests.", manifestsScheduled + orders.size(),
+        metrics.getManifestsScheduled());
+    Assert.assertEquals("Expects the schedules.", scheduleCount + 1, metrics.getScheduleCount());
+
+    long bytesWritten = metrics.getBytesWritten();
+    long exportCount = metrics.getExportCount();
+    String filePath = DeliveryExporter.exportToFile(deliveries);
+    Assert.assertNotNull("Expects an export file.", filePath);
+    Assert.assertEquals("Expects the bytes of the file.",
+        bytesWritten + new File(filePath).length(), metrics.getBytesWritten());
+    Assert.assertEquals("Expects the exports.", exportCount + 1, metrics.getExportCount());
+    Assert.assertEquals("Expects the NPS of the export.", NPSCalculator.getNPS(deliveries),
+        metrics.getLastNPS());
+  }
+
+  /**
+   * Streamed lines should all be counted once the stream is closed, including a partial batch.
+   */
+  @Test
+  public void testStreamedLines() throws IOException {
+    Path filePath = temporaryFolder.newFile().toPath();
+    new OrderGenerator(GridCoordinate.ZERO, ArrivalProfile.UNIFORM).writeFile(2500, 1, filePath);
+    PipelineMetrics metrics = PipelineMetrics.get();
+    long ordersParsed = metrics.getOrdersParsed();
+    try (Stream<Order> orders = OrderImporter.streamFile(filePath.toString())) {
+      Assert.assertEquals("Expects every order.", 2500, orders.count());
+    }
+    Assert.assertEquals("Expects every parsed order.", ordersParsed + 2500,
+        metrics.getOrdersParsed());
+  }
+
+  /**
+   * Genetic search should count generations and fitness evaluations.
+   */
+  @Test
+  public void testEvolution() {
+    PipelineMetrics metrics = PipelineMetrics.get();
+    long generations = metrics.getGenerationsEvaluated();
+    long evaluations = metrics.getFitnessEvaluations();
+    OrderSchedulers.anytime(Duration.ofMillis(50))
+        .schedule(OrderImporter.parseFile(LARGE_FILE_PATH));
+    Assert.assertTrue("Expects generations.", metrics.getGenerationsEvaluated() > generations);
+    Assert.assertTrue("Expects evaluations.", metrics.getFitnessEvaluations() > evaluations);
+    Assert.assertTrue("Expects an evaluation rate.",
+        metrics.getFitnessEvaluationsPerSecond() > 0);
+  }
+
+}
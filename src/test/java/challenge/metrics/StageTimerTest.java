@@ -0,0 +1,53 @@
+package challenge.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link StageTimer}.
+ * 
+ * @author jeffrey
+ */
+public class StageTimerTest {
+
+  /**
+   * Recording a negative duration.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeNanos() {
+    new StageTimer().record(-1);
+  }
+
+  /**
+   * Recorded runs should be counted, summed and the longest kept.
+   */
+  @Test
+  public void testRecord() {
+    StageTimer timer = new StageTimer();
+    timer.record(3_000_000);
+    timer.record(7_000_000);
+    Assert.assertEquals("Expects two runs.", 2, timer.getCount());
+    Assert.assertEquals("Expects the total nanoseconds.", 10_000_000, timer.getTotalNanos());
+    Assert.assertEquals("Expects the total milliseconds.", 10, timer.getTotalMillis());
+    Assert.assertEquals("Expects the longest run.", 7, timer.getMaximumMillis());
+
+    timer.reset();
+    Assert.assertEquals("Expects no runs.", 0, timer.getCount());
+    Assert.assertEquals("Expects no time.", 0, timer.getTotalNanos());
+    Assert.assertEquals("Expects no longest run.", 0, timer.getMaximumMillis());
+  }
+
+  /**
+   * Recording since a start time should record the elapsed time.
+   */
+  @Test
+  public void testRecordSince() {
+    StageTimer timer = new StageTimer();
+    long startNanos = System.nanoTime();
+    long nanos = timer.recordSince(startNanos);
+    Assert.assertTrue("Expects a non-negative duration.", nanos >= 0);
+    Assert.assertEquals("Expects a single run.", 1, timer.getCount());
+    Assert.assertEquals("Expects the returned duration.", nanos, timer.getTotalNanos());
+  }
+
+}
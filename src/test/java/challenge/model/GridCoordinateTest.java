@@ -69,6 +69,8 @@ public class GridCoordinateTest {
     Assert.assertFalse("Two different GridCoordinates should not be equal.",
         coordinate.equals(GridCoordinate.ZERO));
     Assert.assertTrue("Same values.", coordinate.equals(same));
+    Assert.assertEquals("Same values should have the same hash code.", coordinate.hashCode(),
+        same.hashCode());
   }
 
   /**
@@ -0,0 +1,176 @@
+package challenge.model;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ManifestTable}.
+ * 
+ * @author jeffrey
+ */
+public class ManifestTableTest {
+
+  /**
+   * Passing <code>null</code> orders.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullOrders() {
+    ManifestTable.of(null, GridCoordinate.ZERO);
+  }
+
+  /**
+   * Passing in a <code>null</code> warehouse {@link GridCoordinate}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullWarehouse() {
+    ManifestTable.of(Arrays.asList(OrderTest.generateOrder(1, 10, 10)), null);
+  }
+
+  /**
+   * Tests basic instantiation and getters.
+   */
+  @Test
+  public void testBasicInstantiation() {
+    Order order = new Order("WM0001", LocalTime.NOON, GridCoordinate.of(5, 10));
+    ManifestTable manifestTable = ManifestTable.of(Arrays.asList(order), GridCoordinate.ZERO);
+    Assert.assertEquals("Expects one manifest.", 1, manifestTable.size());
+    Assert.assertEquals("Expects order id to be value declared.", "WM0001",
+        manifestTable.getOrderId(0));
+    Assert.assertEquals("Expects order second.", LocalTime.NOON.toSecondOfDay(),
+        manifestTable.getOrderSecond(0));
+    Assert.assertEquals("Expects transit to be the distance.", 15,
+        manifestTable.getTransitMinutes(0));
+    Assert.assertEquals("Expects neutral second.", LocalTime.of(13, 45).toSecondOfDay(),
+        manifestTable.getNeutralSecond(0));
+    Assert.assertEquals("Expects detractor second.", LocalTime.of(15, 45).toSecondOfDay(),
+        manifestTable.getDetractorSecond(0));
+  }
+
+  /**
+   * Tests completion second. Checks to make sure there isn't wrap around.
+   */
+  @Test
+  public void testCompletionSecond() {
+    Order order = new Order("WM0001", LocalTime.NOON, GridCoordinate.of(10, 5));
+    ManifestTable manifestTable = ManifestTable.of(Arrays.asList(order), GridCoordinate.ZERO);
+
+    Assert.assertEquals("Adds the round trip.", LocalTime.of(12, 30).toSecondOfDay(),
+        manifestTable.getCompletionSecond(0, LocalTime.NOON.toSecondOfDay()));
+    Assert.assertEquals("Limits to Max Second.", ManifestTable.MAX_SECOND,
+        manifestTable.getCompletionSecond(0, LocalTime.of(23, 30).toSecondOfDay()));
+  }
+
+  /**
+   * Compares the table to the {@link Manifest}s of generated orders.
+   */
+  @Test
+  public void testMatchesManifests() {
+    List<Order> orders = IntStream.range(0, 500)
+        .mapToObj(idNumber -> OrderTest.generateOrder(idNumber, 100, 100))
+        .collect(Collectors.toList());
+    ManifestTable manifestTable = ManifestTable.of(orders, GridCoordinate.of(50, 50));
+    for (int index = 0; index < orders.size(); index++) {
+      Manifest manifest = new Manifest(orders.get(index), GridCoordinate.of(50, 50));
+      Assert.assertEquals("Same manifest.", manifest, manifestTable.toManifest(index));
+      Assert.assertEquals("Same neutral time.", toSecond(manifest.getNeutralTime()),
+          manifestTable.getNeutralSecond(index));
+      Assert.assertEquals("Same detractor time.", toSecond(manifest.getDetractorTime()),
+          manifestTable.getDetractorSecond(index));
+
+      LocalTime departureTime = laterTime(manifest.getOrderTime(), LocalTime.of(6, 0));
+      int departureSecond = departureTime.toSecondOfDay();
+      Assert.assertEquals("Same completion time.",
+          toSecond(manifest.getCompletionTime(departureTime)),
+          manifestTable.getCompletionSecond(index, departureSecond));
+      if (manifest.getCompletionTime(departureTime).isBefore(LocalTime.of(22, 0))) {
+        Assert.assertEquals("Same rating.", manifest.getRating(departureTime),
+            manifestTable.getRating(index, departureSecond));
+      }
+    }
+  }
+
+  /**
+   * Columns of different lengths.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testMismatchedColumns() {
+    ManifestTable.ofColumns(new String[] {"WM0001"}, new int[] {0, 1}, new int[] {1});
+  }
+
+  /**
+   * An order second past the end of the day.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidOrderSecond() {
+    ManifestTable.ofColumns(new String[] {"WM0001"}, new int[] {86400}, new int[] {1});
+  }
+
+  /**
+   * The table created from columns should match the table created from the orders.
+   */
+  @Test
+  public void testOfColumns() {
+    List<Order> orders = IntStream.range(0, 500)
+        .mapToObj(idNumber -> OrderTest.generateOrder(idNumber, 100, 100))
+        .collect(Collectors.toList());
+    GridCoordinate warehouseLocation = GridCoordinate.of(50, 50);
+    ManifestTable manifestTable = ManifestTable.of(orders, warehouseLocation);
+    ManifestTable columnTable = ManifestTable.ofColumns(
+        orders.stream().map(Order::getOrderId).toArray(String[]::new),
+        orders.stream().mapToInt(order -> order.getOrderTime().toSecondOfDay()).toArray(),
+        orders.stream()
+            .mapToInt(order -> warehouseLocation.getDistanceTo(order.getCustomerLocation()))
+            .toArray());
+    Assert.assertEquals("Same size.", manifestTable.size(), columnTable.size());
+    for (int index = 0; index < orders.size(); index++) {
+      Assert.assertEquals("Same manifest.", manifestTable.toManifest(index),
+          columnTable.toManifest(index));
+      Assert.assertEquals("Same neutral second.", manifestTable.getNeutralSecond(index),
+          columnTable.getNeutralSecond(index));
+      Assert.assertEquals("Same detractor second.", manifestTable.getDetractorSecond(index),
+          columnTable.getDetractorSecond(index));
+    }
+  }
+
+  /**
+   * Numeric order ids should only be formatted when they are asked for.
+   */
+  @Test
+  public void testOfIdNumbers() {
+    AtomicInteger formatted = new AtomicInteger();
+    ManifestTable manifestTable =
+        ManifestTable.ofIdNumbers(new int[] {1, 42}, idNumber -> {
+          formatted.incrementAndGet();
+          return String.format("WM%04d", idNumber);
+        }, new int[] {0, 3600}, new int[] {5, 10});
+    Assert.assertEquals("Expects both manifests.", 2, manifestTable.size());
+    Assert.assertEquals("Expects no order id yet.", 0, formatted.get());
+    Assert.assertEquals("Expects the formatted order id.", "WM0042", manifestTable.getOrderId(1));
+    Assert.assertEquals("Expects the manifest.",
+        new Manifest("WM0001", LocalTime.MIN, 5), manifestTable.toManifest(0));
+    Assert.assertEquals("Expects an order id per request.", 2, formatted.get());
+  }
+
+  /**
+   * Numeric order id columns of different lengths.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testMismatchedIdNumbers() {
+    ManifestTable.ofIdNumbers(new int[] {1, 2}, String::valueOf, new int[] {0}, new int[] {1});
+  }
+
+  private LocalTime laterTime(LocalTime firstTime, LocalTime secondTime) {
+    return firstTime.isAfter(secondTime) ? firstTime : secondTime;
+  }
+
+  private int toSecond(LocalTime time) {
+    return LocalTime.MAX.equals(time) ? ManifestTable.MAX_SECOND : time.toSecondOfDay();
+  }
+
+}
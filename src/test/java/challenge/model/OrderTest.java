@@ -1,7 +1,10 @@
 package challenge.model;
 
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -128,4 +131,24 @@ public class OrderTest {
     return new Order(id, generateOrderTime(),
         GridCoordinate.of(RANDOM.nextInt(xMax + 1), RANDOM.nextInt(yMax + 1)));
   }
+
+  /**
+   * Generates {@link Order}s with consecutive id numbers and grid coordinates in the range. The
+   * same seed always generates the same orders. Id numbers repeat every 10000 orders.
+   * 
+   * @param numberOfOrders The number of orders to generate.
+   * @param xMax The maximum x coordinate.
+   * @param yMax The maximum y coordinate.
+   * @param seed The seed of the random order times and coordinates.
+   * @return The generated orders.
+   */
+  public static final List<Order> generateOrders(int numberOfOrders, int xMax, int yMax,
+      long seed) {
+    Random random = new Random(seed);
+    return IntStream.range(0, numberOfOrders)
+        .mapToObj(idNumber -> new Order(generateOrderId(idNumber % 10000),
+            LocalTime.MIN.plusSeconds(random.nextLong()),
+            GridCoordinate.of(random.nextInt(xMax + 1), random.nextInt(yMax + 1))))
+        .collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,99 @@
+package challenge.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link WarehouseIndex}.
+ * 
+ * @author jeffrey
+ */
+public class WarehouseIndexTest {
+
+  private static final Random RANDOM = new Random();
+
+  /**
+   * Passing <code>null</code> warehouse locations.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullWarehouses() {
+    new WarehouseIndex(null);
+  }
+
+  /**
+   * Passing empty warehouse locations.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyWarehouses() {
+    new WarehouseIndex(Collections.emptyList());
+  }
+
+  /**
+   * Passing the same warehouse location twice.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testDuplicateWarehouses() {
+    new WarehouseIndex(Arrays.asList(GridCoordinate.of(1, 2), GridCoordinate.of(1, 2)));
+  }
+
+  /**
+   * Ties go to the warehouse that comes first.
+   */
+  @Test
+  public void testTies() {
+    WarehouseIndex warehouseIndex = new WarehouseIndex(Arrays.asList(GridCoordinate.of(2, 0),
+        GridCoordinate.of(-2, 0), GridCoordinate.of(0, 2), GridCoordinate.ZERO));
+    Assert.assertEquals("Expects the exact match.", 3, warehouseIndex.nearest(GridCoordinate.ZERO));
+    Assert.assertEquals("Expects the first of the tied warehouses.", 0,
+        warehouseIndex.nearest(GridCoordinate.of(1, 1)));
+    Assert.assertEquals("Expects the first of the tied warehouses.", 1,
+        warehouseIndex.nearest(GridCoordinate.of(-1, 1)));
+  }
+
+  /**
+   * The nearest warehouse should match a linear search.
+   */
+  @Test
+  public void testMatchesLinearSearch() {
+    for (int trial = 0; trial < 50; trial++) {
+      int range = RANDOM.nextInt(50) + 1;
+      Set<GridCoordinate> locations = new LinkedHashSet<>();
+      int size = Math.min(RANDOM.nextInt(200) + 1, (2 * range + 1) * (2 * range + 1));
+      while (locations.size() < size) {
+        locations.add(randomLocation(range));
+      }
+      List<GridCoordinate> warehouseLocations = new ArrayList<>(locations);
+      WarehouseIndex warehouseIndex = new WarehouseIndex(warehouseLocations);
+      for (int search = 0; search < 200; search++) {
+        GridCoordinate location = randomLocation(range * 2);
+        Assert.assertEquals("Expects the closest warehouse.",
+            linearSearch(warehouseLocations, location), warehouseIndex.nearest(location));
+      }
+    }
+  }
+
+  private static GridCoordinate randomLocation(int range) {
+    return GridCoordinate.of(RANDOM.nextInt(2 * range + 1) - range,
+        RANDOM.nextInt(2 * range + 1) - range);
+  }
+
+  private static int linearSearch(List<GridCoordinate> warehouseLocations,
+      GridCoordinate location) {
+    int nearest = 0;
+    for (int warehouse = 1; warehouse < warehouseLocations.size(); warehouse++) {
+      if (location.getDistanceTo(warehouseLocations.get(warehouse)) < location
+          .getDistanceTo(warehouseLocations.get(nearest))) {
+        nearest = warehouse;
+      }
+    }
+    return nearest;
+  }
+
+}
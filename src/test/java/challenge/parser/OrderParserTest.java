@@ -1,9 +1,11 @@
 package challenge.parser;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalTime;
 import org.junit.Assert;
 import org.junit.Test;
 import challenge.model.GridCoordinate;
+import challenge.model.Order;
 
 /**
  * Tests order field parsing validation to avoid issues with invalid entries.
@@ -50,4 +52,38 @@ public class OrderParserTest {
     Assert.assertNull("Can only have one x direction and one y direction.",
         OrderParser.toGridCoordinates("NS11EW5"));
   }
+
+  /**
+   * Coordinates that cannot be represented are invalid.
+   */
+  @Test
+  public void testInvalidCoordinateCharacters() {
+    Assert.assertNull("The pipe is not a direction.", OrderParser.toGridCoordinates("|11E5"));
+    Assert.assertNull("Distance must fit in an integer.",
+        OrderParser.toGridCoordinates("N11E99999999999"));
+    Assert.assertNull("Expects north or south first.", OrderParser.toGridCoordinates("E5N5"));
+    Assert.assertNull("Expects a distance.", OrderParser.toGridCoordinates("NE5"));
+    Assert.assertNull("Empty check.", OrderParser.toGridCoordinates(""));
+  }
+
+  /**
+   * Parses whole lines from a character window and from ASCII bytes.
+   */
+  @Test
+  public void testLineParsing() {
+    Order expected = new Order("WM0001", LocalTime.of(5, 11, 50), GridCoordinate.of(-5, 11));
+    String lines = "WM0001 N11W5 05:11:50\nWM0002 S3E2 11:55\n";
+    int firstLineEnd = lines.indexOf('\n');
+    byte[] bytes = lines.getBytes(StandardCharsets.US_ASCII);
+
+    Assert.assertEquals("Parses the first line.", expected,
+        OrderParser.toOrder(lines, 0, firstLineEnd));
+    Assert.assertEquals("Parses the first line of bytes.", expected,
+        OrderParser.toOrder(bytes, 0, firstLineEnd));
+    Assert.assertNull("Invalid time on the second line.",
+        OrderParser.toOrder(bytes, firstLineEnd + 1, lines.length()));
+    Assert.assertNull("Columns are delimited by a single space.",
+        OrderParser.toOrder("WM0001  N11W5 05:11:50", 0, 22));
+  }
+
 }
@@ -0,0 +1,83 @@
+package challenge.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link OrderTimeCodec}.
+ * 
+ * @author jeffrey
+ */
+public class OrderTimeCodecTest {
+
+  private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+  /**
+   * Every second of the day should match the {@link DateTimeFormatter} in both directions.
+   */
+  @Test
+  public void testEverySecondOfDay() {
+    char[] buffer = new char[OrderTimeCodec.LENGTH + 2];
+    for (int secondOfDay = 0; secondOfDay < 86400; secondOfDay++) {
+      String expected = LocalTime.ofSecondOfDay(secondOfDay).format(FORMATTER);
+      Assert.assertEquals("Expects the end of the written characters.", OrderTimeCodec.LENGTH + 1,
+          OrderTimeCodec.format(secondOfDay, buffer, 1));
+      Assert.assertEquals("Expects the formatted time.", expected,
+          new String(buffer, 1, OrderTimeCodec.LENGTH));
+      Assert.assertEquals("Expects the parsed second.", secondOfDay,
+          OrderTimeCodec.toSecondOfDay(" " + expected + " ", 1, OrderTimeCodec.LENGTH + 1));
+    }
+  }
+
+  /**
+   * Formatting into a {@link ByteBuffer} should write ASCII bytes at the current position.
+   */
+  @Test
+  public void testFormatByteBuffer() {
+    ByteBuffer buffer = ByteBuffer.allocate(OrderTimeCodec.LENGTH + 1);
+    buffer.put((byte) ' ');
+    OrderTimeCodec.format(LocalTime.of(21, 9, 3).toSecondOfDay(), buffer);
+    Assert.assertFalse("Expects the buffer to be filled.", buffer.hasRemaining());
+    Assert.assertEquals("Expects the formatted time.", " 21:09:03",
+        new String(buffer.array(), StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Formatting a {@link LocalTime} drops anything smaller than a second.
+   */
+  @Test
+  public void testFormatLocalTime() {
+    Assert.assertEquals("Expects the formatted time.", "05:11:50",
+        OrderTimeCodec.format(LocalTime.of(5, 11, 50)));
+    Assert.assertEquals("Expects the nanoseconds to be dropped.", "23:59:59",
+        OrderTimeCodec.format(LocalTime.MAX));
+    Assert.assertEquals("Expects the time to be appended.", "WM0001 06:00:00",
+        OrderTimeCodec.append(LocalTime.of(6, 0), new StringBuilder("WM0001 ")).toString());
+  }
+
+  /**
+   * Times that do not match HH:mm:ss.
+   */
+  @Test
+  public void testInvalidTimes() {
+    String[] invalidTimes = {"", "1:11:11", "11:11:1", "111:11:11", "11-11-11", "24:00:00",
+        "11:60:00", "11:00:60", "1a:00:00", "11:0b:00", "11:00:0c", "-1:00:00"};
+    for (String invalidTime : invalidTimes) {
+      Assert.assertEquals("Expects an invalid time: " + invalidTime, OrderTimeCodec.INVALID_SECOND,
+          OrderTimeCodec.toSecondOfDay(invalidTime, 0, invalidTime.length()));
+    }
+  }
+
+  /**
+   * Formatting a second outside of the day.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testFormatInvalidSecond() {
+    OrderTimeCodec.format(86400, new char[OrderTimeCodec.LENGTH], 0);
+  }
+
+}
@@ -0,0 +1,136 @@
+package challenge.scheduler;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import challenge.calculator.NPSCalculator;
+import challenge.importer.OrderImporter;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Order;
+import challenge.model.OrderTest;
+
+/**
+ * Tests for {@link AnytimeOrderScheduler}.
+ * 
+ * @author jeffrey
+ */
+public class AnytimeOrderSchedulerTest {
+
+  private static final long SEED = 42;
+
+  private static final Duration TIME_BUDGET = Duration.ofMillis(100);
+
+  /**
+   * Passing in a <code>null</code> warehouse {@link GridCoordinate}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullWarehouse() {
+    OrderSchedulers.anytime(null, SchedulerContext.common(), TIME_BUDGET, 100);
+  }
+
+  /**
+   * Passing in a <code>null</code> {@link SchedulerContext}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullContext() {
+    OrderSchedulers.anytime(GridCoordinate.ZERO, null, TIME_BUDGET, 100);
+  }
+
+  /**
+   * Passing in a <code>null</code> time budget.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullTimeBudget() {
+    OrderSchedulers.anytime(null);
+  }
+
+  /**
+   * Passing in a negative time budget.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeTimeBudget() {
+    OrderSchedulers.anytime(Duration.ofMillis(-1));
+  }
+
+  /**
+   * Passing in a target NPS that can never be reached.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidTargetNPS() {
+    OrderSchedulers.anytime(GridCoordinate.ZERO, SchedulerContext.common(), TIME_BUDGET, 101);
+  }
+
+  /**
+   * Passing empty {@link Order}s.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyOrders() {
+    OrderSchedulers.anytime(TIME_BUDGET).schedule(Collections.emptyList());
+  }
+
+  /**
+   * The seeded schedules should be kept when there is no time to search.
+   */
+  @Test
+  public void testZeroTimeBudget() {
+    List<Order> orders = OrderImporter.parseFile("src/test/resources/test-input-3.txt");
+    List<Delivery> deliveries = OrderSchedulers.anytime(Duration.ZERO).schedule(orders);
+    Assert.assertEquals("All orders must be scheduled for delivery.", orders.size(),
+        deliveries.size());
+    Assert.assertTrue("Should not be worse than the priority queue scheduler.",
+        NPSCalculator.getNPS(deliveries) >= 50);
+  }
+
+  /**
+   * Searching should never be worse than the seeded schedules and should stop near the budget.
+   */
+  @Test
+  public void testNotWorseThanSeeds() {
+    List<Order> orders = OrderTest.generateOrders(100, 30, 30, SEED);
+    long startNanos = System.nanoTime();
+    List<Delivery> deliveries = OrderSchedulers.anytime(TIME_BUDGET).schedule(orders);
+    long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+    Assert.assertEquals("All orders must be scheduled for delivery.", orders.size(),
+        deliveries.size());
+    int nps = NPSCalculator.getNPS(deliveries);
+    Assert.assertTrue("Should not be worse than the priority queue scheduler.",
+        nps >= NPSCalculator.getNPS(OrderSchedulers.priorityQueueBased().schedule(orders)));
+    Assert.assertTrue("Should not be worse than the fifo scheduler.",
+        nps >= NPSCalculator.getNPS(OrderSchedulers.fifo().schedule(orders)));
+    Assert.assertTrue("Should stop close to the time budget.", elapsedMillis < 2000);
+  }
+
+  /**
+   * An interrupted search should stop long before its time budget runs out.
+   */
+  @Test(timeout = 5000)
+  public void testInterrupted() {
+    List<Order> orders = OrderTest.generateOrders(100, 30, 30, SEED);
+    Thread.currentThread().interrupt();
+    try {
+      List<Delivery> deliveries = OrderSchedulers.anytime(Duration.ofMinutes(1)).schedule(orders);
+      Assert.assertEquals("All orders must be scheduled for delivery.", orders.size(),
+          deliveries.size());
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  /**
+   * A target NPS that the seeds already reach should skip the search.
+   */
+  @Test
+  public void testTargetReached() {
+    List<Order> orders = OrderTest.generateOrders(100, 30, 30, SEED);
+    int queueNPS =
+        NPSCalculator.getNPS(OrderSchedulers.priorityQueueBased().schedule(orders));
+    List<Delivery> deliveries = OrderSchedulers
+        .anytime(GridCoordinate.ZERO, SchedulerContext.common(), Duration.ofHours(1), queueNPS)
+        .schedule(orders);
+    Assert.assertTrue("Should reach the target NPS.", NPSCalculator.getNPS(deliveries) >= queueNPS);
+  }
+
+}
@@ -1,16 +1,21 @@
 package challenge.scheduler;
 
+import java.time.LocalTime;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.Assert;
 import org.junit.Test;
 import challenge.calculator.NPSCalculator;
 import challenge.importer.OrderImporter;
+import challenge.metrics.PipelineMetrics;
 import challenge.model.Delivery;
 import challenge.model.GridCoordinate;
 import challenge.model.Order;
+import challenge.model.OrderTest;
 
 /**
  * Tests for {@link BestFitOrderScheduler}.
@@ -19,6 +24,8 @@ import challenge.model.Order;
  */
 public class BestFitOrderSchedulerTest {
 
+  private static final long SEED = 42;
+
   /**
    * Passing in a <code>null</code> warehouse {@link GridCoordinate}.
    */
@@ -43,6 +50,41 @@ public class BestFitOrderSchedulerTest {
     OrderSchedulers.bestFit().schedule(Collections.emptyList());
   }
 
+  /**
+   * A day the priority queue already schedules at the NPS upper bound should not be evolved.
+   */
+  @Test
+  public void testStopsAtBound() {
+    List<Order> orders = IntStream.range(0, 30)
+        .mapToObj(index -> new Order(String.format("WM%04d", index),
+            LocalTime.of(6, 0).plusMinutes(30 * index), GridCoordinate.of(index % 5, 3)))
+        .collect(Collectors.toList());
+    long generations = PipelineMetrics.get().getGenerationsEvaluated();
+    List<Delivery> deliveries = OrderSchedulers.bestFit().schedule(orders);
+    Assert.assertEquals("Expects every promoter.", 100, NPSCalculator.getNPS(deliveries));
+    Assert.assertEquals("Expects no generations.", generations,
+        PipelineMetrics.get().getGenerationsEvaluated());
+  }
+
+  /**
+   * An interrupted search should not evolve any generation.
+   */
+  @Test
+  public void testInterrupted() {
+    List<Order> orders = OrderTest.generateOrders(50, 10, 10, SEED);
+    long generations = PipelineMetrics.get().getGenerationsEvaluated();
+    Thread.currentThread().interrupt();
+    try {
+      List<Delivery> deliveries = OrderSchedulers.bestFit().schedule(orders);
+      Assert.assertEquals("All orders must be scheduled for delivery.", orders.size(),
+          deliveries.size());
+    } finally {
+      Thread.interrupted();
+    }
+    Assert.assertEquals("Expects no generations.", generations,
+        PipelineMetrics.get().getGenerationsEvaluated());
+  }
+
   /**
    * Imports the test files and compares the expected NPS to the actual.
    */
@@ -0,0 +1,131 @@
+package challenge.scheduler;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+import challenge.calculator.NPSCalculator;
+import challenge.importer.OrderImporter;
+import challenge.jenetics.ScheduleFitness;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.ManifestTable;
+import challenge.model.Order;
+import challenge.model.OrderTest;
+
+/**
+ * Tests for {@link ExactOrderScheduler}.
+ * 
+ * @author jeffrey
+ */
+public class ExactOrderSchedulerTest {
+
+  private static final long SEED = 42;
+
+  /**
+   * Passing in a <code>null</code> warehouse {@link GridCoordinate}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullWarehouse() {
+    OrderSchedulers.exact(null);
+  }
+
+  /**
+   * Passing <code>null</code> {@link Order}s.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullOrders() {
+    OrderSchedulers.exact().schedule(null);
+  }
+
+  /**
+   * Passing empty {@link Order}s.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyOrders() {
+    OrderSchedulers.exact().schedule(Collections.emptyList());
+  }
+
+  /**
+   * Passing more orders than the search supports.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testTooManyOrders() {
+    OrderSchedulers.exact().schedule(
+        OrderTest.generateOrders(ExactOrderScheduler.MAXIMUM_ORDERS + 1, 60, 60, SEED));
+  }
+
+  /**
+   * Imports the test files and compares the expected NPS to the actual.
+   */
+  @Test
+  public void testExact() {
+    Map<String, Integer> testMap = new HashMap<>();
+    testMap.put("src/test/resources/test-input-1.txt", 75);
+    testMap.put("src/test/resources/test-input-2.txt", 50);
+
+    testMap.entrySet().stream().forEach(entry -> testExact(entry.getKey(), entry.getValue()));
+  }
+
+  private void testExact(String filePath, int expectedNPS) {
+    List<Order> orders = OrderImporter.parseFile(filePath);
+    List<Delivery> deliveries = OrderSchedulers.exact().schedule(orders);
+    Assert.assertEquals("All orders must be scheduled for delivery.", orders.size(),
+        deliveries.size());
+    Assert.assertEquals(String.format("Exact NPS should be %d.", expectedNPS), expectedNPS,
+        NPSCalculator.getNPS(deliveries));
+  }
+
+  /**
+   * The NPS should match the best of every permutation.
+   */
+  @Test
+  public void testMatchesEveryPermutation() {
+    OrderScheduler orderScheduler = OrderSchedulers.exact();
+    for (int run = 0; run < 50; run++) {
+      List<Order> orders = OrderTest.generateOrders(1 + run % 7, 60, 60, SEED);
+      ScheduleFitness scheduleFitness =
+          new ScheduleFitness(ManifestTable.of(orders, GridCoordinate.ZERO),
+              orderScheduler.getStartTime(), orderScheduler.getEndTime());
+      int bestNPS = bestNPS(scheduleFitness, IntStream.range(0, orders.size()).toArray(), 0);
+      Assert.assertEquals("Should match the best permutation.", bestNPS,
+          NPSCalculator.getNPS(orderScheduler.schedule(orders)));
+    }
+  }
+
+  private int bestNPS(ScheduleFitness scheduleFitness, int[] schedule, int position) {
+    if (position == schedule.length) {
+      return scheduleFitness.getNPS(schedule);
+    }
+    int bestNPS = Integer.MIN_VALUE;
+    for (int index = position; index < schedule.length; index++) {
+      swap(schedule, position, index);
+      bestNPS = Math.max(bestNPS, bestNPS(scheduleFitness, schedule, position + 1));
+      swap(schedule, position, index);
+    }
+    return bestNPS;
+  }
+
+  private static void swap(int[] schedule, int first, int second) {
+    int index = schedule[first];
+    schedule[first] = schedule[second];
+    schedule[second] = index;
+  }
+
+  /**
+   * The largest supported manifest should be at least as good as the heuristic schedulers.
+   */
+  @Test
+  public void testMaximumOrders() {
+    List<Order> orders = OrderTest.generateOrders(ExactOrderScheduler.MAXIMUM_ORDERS, 60, 60, SEED);
+    int exactNPS = NPSCalculator.getNPS(OrderSchedulers.exact().schedule(orders));
+    Assert.assertTrue("Should not be worse than the priority queue scheduler.",
+        exactNPS >= NPSCalculator.getNPS(OrderSchedulers.priorityQueueBased().schedule(orders)));
+    Assert.assertTrue("Should not be worse than the fifo scheduler.",
+        exactNPS >= NPSCalculator.getNPS(OrderSchedulers.fifo().schedule(orders)));
+  }
+
+}
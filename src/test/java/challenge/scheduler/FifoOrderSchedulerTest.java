@@ -106,4 +106,21 @@ public class FifoOrderSchedulerTest {
           delivery.getDepartureTime());
     });
   }
+
+  /**
+   * Scheduling a stream of orders should give the same deliveries as the list.
+   */
+  @Test
+  public void testStreamMatchesList() {
+    List<Order> orders = IntStream.range(0, 3000)
+        .mapToObj(idNumber -> OrderTest.generateOrder(idNumber, 10, 10))
+        .collect(Collectors.toList());
+    List<Delivery> deliveries = new ArrayList<>();
+    OrderSchedulers.fifo().schedule(orders.stream(), deliveries::add);
+    List<Delivery> expected = OrderSchedulers.fifo().schedule(orders);
+    Collections.sort(expected);
+    Collections.sort(deliveries);
+    Assert.assertEquals("Should match the list deliveries.", expected, deliveries);
+  }
+
 }
@@ -0,0 +1,127 @@
+package challenge.scheduler;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+import challenge.calculator.NPSCalculator;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Order;
+import challenge.model.OrderTest;
+
+/**
+ * Tests for {@link FleetOrderScheduler}.
+ * 
+ * @author jeffrey
+ */
+public class FleetOrderSchedulerTest {
+
+  private static final Random RANDOM = new Random();
+
+  /**
+   * Passing in a <code>null</code> warehouse {@link GridCoordinate}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullWarehouse() {
+    OrderSchedulers.fleetBased(null, 2);
+  }
+
+  /**
+   * A fleet needs at least one drone.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoDrones() {
+    OrderSchedulers.fleetBased(0);
+  }
+
+  /**
+   * Passing empty {@link Order}s.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyOrders() {
+    OrderSchedulers.fleetBased(2).schedule(Collections.emptyList());
+  }
+
+  /**
+   * A single drone should fly the same deliveries as the {@link PriorityQueueOrderScheduler}.
+   */
+  @Test
+  public void testSingleDroneMatchesPriorityQueueBased() {
+    List<Order> orders = IntStream.range(0, 1000)
+        .mapToObj(idNumber -> OrderTest.generateOrder(idNumber, 10, 10))
+        .collect(Collectors.toList());
+    List<Delivery> deliveries = OrderSchedulers.fleetBased(1).schedule(orders);
+    Assert.assertEquals("Should match the priority queue based deliveries.",
+        OrderSchedulers.priorityQueueBased().schedule(orders),
+        deliveries.stream().map(delivery -> new Delivery(delivery.getOrderId(),
+            delivery.getDepartureTime(), delivery.getRating())).collect(Collectors.toList()));
+  }
+
+  /**
+   * Every order gets a delivery and a drone never leaves before it is back from its last delivery.
+   * Deliveries are checked in the order they are scheduled.
+   */
+  @Test
+  public void testDronesDoNotOverlap() {
+    int droneCount = 4;
+    List<Order> orders = IntStream.range(0, 2000)
+        .mapToObj(idNumber -> OrderTest.generateOrder(idNumber, 20, 20))
+        .collect(Collectors.toList());
+    Map<String, Order> ordersById =
+        orders.stream().collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+    List<Delivery> deliveries = OrderSchedulers.fleetBased(droneCount).schedule(orders);
+    Assert.assertEquals("All orders must be scheduled for delivery.", orders.size(),
+        deliveries.size());
+
+    List<List<Delivery>> deliveriesByDrone = new ArrayList<>();
+    IntStream.range(0, droneCount).forEach(drone -> deliveriesByDrone.add(new ArrayList<>()));
+    for (Delivery delivery : deliveries) {
+      if (delivery.getDrone() == Delivery.UNASSIGNED_DRONE) {
+        Assert.assertEquals("Only incomplete deliveries have no drone.", LocalTime.MAX,
+            delivery.getDepartureTime());
+      } else {
+        deliveriesByDrone.get(delivery.getDrone()).add(delivery);
+      }
+    }
+    for (List<Delivery> droneDeliveries : deliveriesByDrone) {
+      LocalTime returnTime = LocalTime.of(6, 0);
+      for (Delivery delivery : droneDeliveries) {
+        Assert.assertFalse("The drone must be back before it departs.",
+            delivery.getDepartureTime().isBefore(returnTime));
+        Order order = ordersById.get(delivery.getOrderId());
+        Assert.assertFalse("Orders cannot depart before they are placed.",
+            delivery.getDepartureTime().isBefore(order.getOrderTime()));
+        returnTime = delivery.getDepartureTime().plusMinutes(
+            2 * GridCoordinate.ZERO.getDistanceTo(order.getCustomerLocation()));
+      }
+    }
+  }
+
+  /**
+   * With a drone for every order, each order placed during the day departs right away.
+   */
+  @Test
+  public void testDroneForEveryOrder() {
+    List<Order> orders = IntStream.range(0, 200)
+        .mapToObj(idNumber -> new Order(OrderTest.generateOrderId(idNumber),
+            LocalTime.of(6, 0).plusSeconds(RANDOM.nextInt(15 * 3600)),
+            GridCoordinate.of(RANDOM.nextInt(21) - 10, RANDOM.nextInt(21) - 10)))
+        .collect(Collectors.toList());
+    List<Delivery> deliveries = OrderSchedulers.fleetBased(orders.size()).schedule(orders);
+    Assert.assertEquals("Every order should be a promoter.", 100,
+        NPSCalculator.getNPS(deliveries));
+    Map<String, Order> ordersById =
+        orders.stream().collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+    deliveries.forEach(delivery -> Assert.assertEquals("Should depart at the order time.",
+        ordersById.get(delivery.getOrderId()).getOrderTime(), delivery.getDepartureTime()));
+  }
+
+}
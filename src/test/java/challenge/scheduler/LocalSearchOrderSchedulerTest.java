@@ -0,0 +1,209 @@
+package challenge.scheduler;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.Assert;
+import org.junit.Test;
+import challenge.calculator.NPSCalculator;
+import challenge.generator.ArrivalProfile;
+import challenge.generator.OrderGenerator;
+import challenge.generator.SpatialDistribution;
+import challenge.importer.OrderImporter;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Order;
+import challenge.model.OrderTest;
+
+/**
+ * Tests for {@link LocalSearchOrderScheduler}.
+ * 
+ * @author jeffrey
+ */
+public class LocalSearchOrderSchedulerTest {
+
+  private static final Duration TIME_BUDGET = Duration.ofMillis(20);
+
+  private static final Duration SEEDED_TIME_BUDGET = Duration.ofSeconds(10);
+
+  private static final long SEED = 42;
+
+  private static final long STEP_BUDGET = 50_000;
+
+  /**
+   * Passing in a <code>null</code> warehouse {@link GridCoordinate}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullWarehouse() {
+    OrderSchedulers.localSearch(null, TIME_BUDGET);
+  }
+
+  /**
+   * Passing in a <code>null</code> time budget.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullTimeBudget() {
+    OrderSchedulers.localSearch(GridCoordinate.ZERO, null);
+  }
+
+  /**
+   * Passing in a negative time budget.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeTimeBudget() {
+    OrderSchedulers.localSearch(GridCoordinate.ZERO, Duration.ofMillis(-1));
+  }
+
+  /**
+   * Passing in a step budget that is not positive.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoStepBudget() {
+    OrderSchedulers.localSearch(GridCoordinate.ZERO, SEEDED_TIME_BUDGET, SEED, 0);
+  }
+
+  /**
+   * Passing <code>null</code> {@link Order}s.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullOrders() {
+    OrderSchedulers.localSearch().schedule(null);
+  }
+
+  /**
+   * Passing empty {@link Order}s.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyOrders() {
+    OrderSchedulers.localSearch().schedule(Collections.emptyList());
+  }
+
+  /**
+   * Imports the test files and compares the expected NPS to the actual.
+   */
+  @Test
+  public void testLocalSearch() {
+    Map<String, Integer> testMap = new HashMap<>();
+    testMap.put("src/test/resources/test-input-1.txt", 75);
+    testMap.put("src/test/resources/test-input-2.txt", 50);
+    testMap.put("src/test/resources/test-input-3.txt", 50);
+
+    testMap.entrySet().stream().forEach(entry -> testLocalSearch(entry.getKey(), entry.getValue()));
+  }
+
+  private void testLocalSearch(String filePath, int expectedNPS) {
+    List<Order> orders = OrderImporter.parseFile(filePath);
+    List<Delivery> deliveries =
+        OrderSchedulers.localSearch(GridCoordinate.ZERO, TIME_BUDGET).schedule(orders);
+    Assert.assertEquals("All orders must be scheduled for delivery.", orders.size(),
+        deliveries.size());
+    Assert.assertTrue(String.format("Local search NPS should be at least %d.", expectedNPS),
+        NPSCalculator.getNPS(deliveries) >= expectedNPS);
+  }
+
+  /**
+   * An interrupted search should stop long before its time budget runs out.
+   */
+  @Test(timeout = 5000)
+  public void testInterrupted() {
+    List<Order> orders = OrderTest.generateOrders(200, 60, 60, SEED);
+    Thread.currentThread().interrupt();
+    try {
+      List<Delivery> deliveries =
+          OrderSchedulers.localSearch(GridCoordinate.ZERO, Duration.ofMinutes(1)).schedule(orders);
+      Assert.assertEquals("All orders must be scheduled for delivery.", orders.size(),
+          deliveries.size());
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  /**
+   * A zero budget should keep the priority queue NPS.
+   */
+  @Test
+  public void testZeroTimeBudget() {
+    List<Order> orders = OrderTest.generateOrders(200, 60, 60, SEED);
+    List<Delivery> deliveries =
+        OrderSchedulers.localSearch(GridCoordinate.ZERO, Duration.ZERO).schedule(orders);
+    Assert.assertEquals("Should match the priority queue NPS.",
+        NPSCalculator.getNPS(OrderSchedulers.priorityQueueBased().schedule(orders)),
+        NPSCalculator.getNPS(deliveries));
+  }
+
+  /**
+   * Searches with the same seed and step budget should return the same schedule.
+   */
+  @Test
+  public void testSeeded() {
+    List<Order> orders =
+        new OrderGenerator(GridCoordinate.ZERO, ArrivalProfile.MIDDAY_PEAK).generate(20, SEED);
+    List<Delivery> deliveries = OrderSchedulers
+        .localSearch(GridCoordinate.ZERO, SEEDED_TIME_BUDGET, SEED, STEP_BUDGET).schedule(orders);
+    Assert.assertEquals("Should repeat the seeded search.", deliveries, OrderSchedulers
+        .localSearch(GridCoordinate.ZERO, SEEDED_TIME_BUDGET, SEED, STEP_BUDGET).schedule(orders));
+    Assert.assertTrue("Should improve on the priority queue scheduler.",
+        NPSCalculator.getNPS(deliveries) > NPSCalculator
+            .getNPS(OrderSchedulers.priorityQueueBased().schedule(orders)));
+  }
+
+  /**
+   * Busy days should never be worse than the queue based schedule and every order should be
+   * delivered once.
+   */
+  @Test
+  public void testNotWorseThanQueueBased() {
+    IntStream.of(2, 20, 200).forEach(numberOfOrders -> {
+      List<Order> orders = OrderTest.generateOrders(numberOfOrders, 60, 60, SEED);
+      List<Delivery> deliveries = OrderSchedulers
+          .localSearch(GridCoordinate.ZERO, SEEDED_TIME_BUDGET, SEED, STEP_BUDGET).schedule(orders);
+      Assert.assertEquals("Every order should be delivered once.",
+          orders.stream().map(Order::getOrderId).sorted().collect(Collectors.toList()),
+          deliveries.stream().map(Delivery::getOrderId).sorted().collect(Collectors.toList()));
+      Assert.assertTrue("Should not be worse than the priority queue scheduler.",
+          NPSCalculator.getNPS(deliveries) >= NPSCalculator
+              .getNPS(OrderSchedulers.priorityQueueBased().schedule(orders)));
+    });
+  }
+
+  /**
+   * A search that stops after its first step should not be worse than the priority queue, even when
+   * order ids repeat.
+   */
+  @Test
+  public void testRepeatedIds() {
+    OrderGenerator orderGenerator = new OrderGenerator(GridCoordinate.ZERO,
+        ArrivalProfile.MIDDAY_PEAK, SpatialDistribution.UNIFORM, 20);
+    LongStream.range(0, 50).forEach(seed -> {
+      List<Order> orders = orderGenerator.generate(100, seed).stream()
+          .map(order -> new Order("WM000" + order.getOrderId().substring(5), order.getOrderTime(),
+              order.getCustomerLocation()))
+          .collect(Collectors.toList());
+      List<Delivery> deliveries =
+          OrderSchedulers.localSearch(GridCoordinate.ZERO, SEEDED_TIME_BUDGET, seed, 1)
+              .schedule(orders);
+      Assert.assertTrue("Should not be worse than the priority queue.",
+          NPSCalculator.getNPS(deliveries) >= NPSCalculator
+              .getNPS(OrderSchedulers.priorityQueueBased().schedule(orders)));
+    });
+  }
+
+  /**
+   * Small manifests can never beat the {@link ExactOrderScheduler}.
+   */
+  @Test
+  public void testNotBetterThanExact() {
+    List<Order> orders = OrderTest.generateOrders(12, 60, 60, SEED);
+    List<Delivery> deliveries = OrderSchedulers
+        .localSearch(GridCoordinate.ZERO, SEEDED_TIME_BUDGET, SEED, STEP_BUDGET).schedule(orders);
+    Assert.assertTrue("Should not beat the exact scheduler.",
+        NPSCalculator.getNPS(OrderSchedulers.exact().schedule(orders)) >= NPSCalculator
+            .getNPS(deliveries));
+  }
+
+}
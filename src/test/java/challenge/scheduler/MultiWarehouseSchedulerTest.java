@@ -0,0 +1,120 @@
+package challenge.scheduler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+import challenge.calculator.NPSCalculator;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Order;
+import challenge.model.OrderTest;
+
+/**
+ * Tests for {@link MultiWarehouseScheduler}.
+ * 
+ * @author jeffrey
+ */
+public class MultiWarehouseSchedulerTest {
+
+  private static final long SEED = 42;
+
+  private static final List<GridCoordinate> WAREHOUSES = Arrays.asList(GridCoordinate.of(10, 10),
+      GridCoordinate.of(30, 10), GridCoordinate.of(10, 30), GridCoordinate.of(30, 30));
+
+  /**
+   * Passing <code>null</code> {@link Order}s.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullOrders() {
+    OrderSchedulers.multiWarehouse(WAREHOUSES).schedule(null);
+  }
+
+  /**
+   * Passing empty {@link Order}s.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyOrders() {
+    OrderSchedulers.multiWarehouse(WAREHOUSES).schedule(Collections.emptyList());
+  }
+
+  /**
+   * A single warehouse should match its own scheduler.
+   */
+  @Test
+  public void testSingleWarehouse() {
+    List<Order> orders = OrderTest.generateOrders(500, 40, 40, SEED);
+    MultiWarehouseSchedule schedule = OrderSchedulers
+        .multiWarehouse(Collections.singletonList(GridCoordinate.ZERO)).schedule(orders);
+    List<Delivery> expected = OrderSchedulers.priorityQueueBased().schedule(orders);
+    Assert.assertEquals("Should match the single warehouse deliveries.", expected,
+        schedule.getDeliveries());
+    Assert.assertEquals("Should match the single warehouse NPS.",
+        NPSCalculator.getNPS(expected), schedule.getNPS());
+  }
+
+  /**
+   * Each warehouse should deliver the orders closest to it, scheduled by its own scheduler.
+   */
+  @Test
+  public void testWarehousesScheduleClosestOrders() {
+    List<Order> orders = OrderTest.generateOrders(2000, 40, 40, SEED);
+    ForkJoinPool pool = new ForkJoinPool(2);
+    MultiWarehouseSchedule schedule;
+    try {
+      schedule = new MultiWarehouseScheduler(WAREHOUSES, OrderSchedulers::fifo).schedule(orders,
+          pool);
+    } finally {
+      pool.shutdown();
+    }
+    Assert.assertEquals("All orders must be scheduled for delivery.", orders.size(),
+        schedule.getDeliveries().size());
+
+    Map<GridCoordinate, Integer> npsByWarehouse = schedule.getNPSByWarehouse();
+    for (int warehouse = 0; warehouse < WAREHOUSES.size(); warehouse++) {
+      GridCoordinate warehouseLocation = WAREHOUSES.get(warehouse);
+      List<Order> warehouseOrders = orders.stream()
+          .filter(order -> isClosest(warehouseLocation, order.getCustomerLocation()))
+          .collect(Collectors.toList());
+      List<Delivery> expected = OrderSchedulers.fifo(warehouseLocation).schedule(warehouseOrders);
+      Assert.assertEquals("Should match the warehouse deliveries.", expected,
+          schedule.getDeliveries(warehouse));
+      Assert.assertEquals("Should match the warehouse NPS.", NPSCalculator.getNPS(expected),
+          npsByWarehouse.get(warehouseLocation).intValue());
+    }
+    Assert.assertEquals("Should match the overall NPS.",
+        NPSCalculator.getNPS(schedule.getDeliveries()), schedule.getNPS());
+  }
+
+  /**
+   * Warehouses without orders have no deliveries and no NPS.
+   */
+  @Test
+  public void testWarehouseWithoutOrders() {
+    List<GridCoordinate> warehouses =
+        Arrays.asList(GridCoordinate.ZERO, GridCoordinate.of(1000, 1000));
+    MultiWarehouseSchedule schedule = OrderSchedulers.multiWarehouse(warehouses)
+        .schedule(OrderTest.generateOrders(100, 40, 40, SEED));
+    Assert.assertTrue("Expects no deliveries.", schedule.getDeliveries(1).isEmpty());
+    Assert.assertEquals("Expects only the warehouse with deliveries.",
+        Collections.singleton(GridCoordinate.ZERO), schedule.getNPSByWarehouse().keySet());
+  }
+
+  /**
+   * The closest warehouse, with ties going to the first warehouse.
+   */
+  private static boolean isClosest(GridCoordinate warehouseLocation, GridCoordinate location) {
+    GridCoordinate closest = WAREHOUSES.get(0);
+    for (GridCoordinate other : WAREHOUSES) {
+      if (location.getDistanceTo(other) < location.getDistanceTo(closest)) {
+        closest = other;
+      }
+    }
+    return closest.equals(warehouseLocation);
+  }
+
+}
@@ -0,0 +1,133 @@
+package challenge.scheduler;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Order;
+import challenge.model.OrderTest;
+
+/**
+ * Tests for {@link OnlineOrderScheduler}.
+ * 
+ * @author jeffrey
+ */
+public class OnlineOrderSchedulerTest {
+
+  /**
+   * Passing a <code>null</code> dispatch consumer.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullConsumer() {
+    OrderSchedulers.online(null);
+  }
+
+  /**
+   * Submitting a <code>null</code> {@link Order}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullOrder() {
+    OrderSchedulers.online(delivery -> {
+    }).submit(null);
+  }
+
+  /**
+   * Dispatching at a time before the previous dispatch.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testTimeBeforePreviousDispatch() {
+    OnlineOrderScheduler scheduler = OrderSchedulers.online(delivery -> {
+    });
+    scheduler.nextDispatch(LocalTime.of(7, 0));
+    scheduler.nextDispatch(LocalTime.of(6, 59));
+  }
+
+  /**
+   * The drone waits for orders to arrive and for itself to return.
+   */
+  @Test
+  public void testDispatch() {
+    List<Delivery> dispatched = new ArrayList<>();
+    OnlineOrderScheduler scheduler = OrderSchedulers.online(dispatched::add);
+    scheduler.submit(new Order("WM0001", LocalTime.of(5, 0), GridCoordinate.of(5, 5)));
+    scheduler.submit(new Order("WM0002", LocalTime.of(6, 30), GridCoordinate.of(1, 1)));
+
+    Assert.assertFalse("Nothing is dispatched before the start time.",
+        scheduler.nextDispatch(LocalTime.of(5, 30)).isPresent());
+    Optional<Delivery> first = scheduler.nextDispatch(LocalTime.of(6, 0));
+    Assert.assertEquals("Expects the first order.", "WM0001", first.get().getOrderId());
+    Assert.assertEquals("Expects the drone to be away for the round trip.", LocalTime.of(6, 20),
+        scheduler.getDroneReturnTime());
+    Assert.assertFalse("Nothing is dispatched while the drone is away.",
+        scheduler.nextDispatch(LocalTime.of(6, 10)).isPresent());
+    Assert.assertFalse("Nothing is dispatched before the next order arrives.",
+        scheduler.nextDispatch(LocalTime.of(6, 20)).isPresent());
+    Assert.assertEquals("Expects one waiting order.", 1, scheduler.getWaitingCount());
+    Assert.assertEquals("Expects the second order.", "WM0002",
+        scheduler.nextDispatch(LocalTime.of(6, 31)).get().getOrderId());
+    Assert.assertEquals("Expects every dispatch to reach the consumer.", 2, dispatched.size());
+    Assert.assertEquals("Expects no waiting orders.", 0, scheduler.getWaitingCount());
+  }
+
+  /**
+   * Orders that can no longer be completed are passed to the consumer as incomplete deliveries.
+   */
+  @Test
+  public void testIncompleteOrders() {
+    List<Delivery> dispatched = new ArrayList<>();
+    OnlineOrderScheduler scheduler = OrderSchedulers.online(dispatched::add);
+    scheduler.submit(new Order("WM0001", LocalTime.of(21, 45), GridCoordinate.of(5, 10)));
+    scheduler.submit(new Order("WM0002", LocalTime.of(21, 50), GridCoordinate.of(1, 1)));
+
+    Assert.assertEquals("Expects the shorter trip first.", "WM0002",
+        scheduler.nextDispatch(LocalTime.of(21, 50)).get().getOrderId());
+    Assert.assertFalse("The remaining order cannot be completed.",
+        scheduler.nextDispatch(scheduler.getDroneReturnTime()).isPresent());
+    Assert.assertEquals("Expects the dispatch and the incomplete delivery.", 2, dispatched.size());
+    Assert.assertEquals("Expects the incomplete order last.", LocalTime.MAX,
+        dispatched.get(1).getDepartureTime());
+    Assert.assertEquals("Expects no waiting orders.", 0, scheduler.getWaitingCount());
+  }
+
+  /**
+   * Submitting a day of orders and dispatching the drone whenever it returns or an order arrives
+   * should match the {@link PriorityQueueOrderScheduler}.
+   */
+  @Test
+  public void testMatchesPriorityQueueBased() {
+    IntStream.of(10, 100, 1000).forEach(numberOfOrders -> {
+      List<Order> orders = IntStream.range(0, numberOfOrders)
+          .mapToObj(idNumber -> OrderTest.generateOrder(idNumber, 10, 10))
+          .collect(Collectors.toList());
+      List<Delivery> dispatched = new ArrayList<>();
+      OnlineOrderScheduler scheduler = OrderSchedulers.online(dispatched::add);
+      orders.forEach(scheduler::submit);
+
+      List<LocalTime> orderTimes =
+          orders.stream().map(Order::getOrderTime).sorted().collect(Collectors.toList());
+      LocalTime now = LocalTime.of(6, 0);
+      while (scheduler.getWaitingCount() > 0) {
+        if (scheduler.nextDispatch(now).isPresent()) {
+          now = scheduler.getDroneReturnTime();
+        } else {
+          now = nextOrderTime(orderTimes, now);
+        }
+      }
+      Assert.assertEquals("Should match the priority queue based deliveries.",
+          OrderSchedulers.priorityQueueBased().schedule(orders), dispatched);
+    });
+  }
+
+  private static LocalTime nextOrderTime(List<LocalTime> orderTimes, LocalTime now) {
+    int index = Collections.binarySearch(orderTimes, now.plusSeconds(1));
+    return orderTimes.get(index < 0 ? Math.min(-index - 1, orderTimes.size() - 1) : index);
+  }
+
+}
@@ -0,0 +1,242 @@
+package challenge.scheduler;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+import challenge.calculator.NPSCalculator;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Manifest;
+import challenge.model.Order;
+import challenge.model.OrderTest;
+import challenge.scheduler.PortfolioSchedule.Status;
+import challenge.scheduler.PortfolioSchedule.StrategyResult;
+
+/**
+ * Tests for {@link PortfolioOrderScheduler}.
+ * 
+ * @author jeffrey
+ */
+public class PortfolioOrderSchedulerTest {
+
+  private static final long SEED = 42;
+
+  private static final Duration TIME_BUDGET = Duration.ofMillis(500);
+
+  /**
+   * Passing <code>null</code> {@link Order}s.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullOrders() {
+    OrderSchedulers.portfolio().race((List<Order>) null);
+  }
+
+  /**
+   * Passing empty {@link Order}s.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyOrders() {
+    OrderSchedulers.portfolio().schedule(Collections.emptyList());
+  }
+
+  /**
+   * Passing a negative time budget.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeTimeBudget() {
+    OrderSchedulers.portfolio(GridCoordinate.ZERO, SchedulerContext.common(),
+        Duration.ofMillis(-1));
+  }
+
+  /**
+   * Passing no strategies.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyStrategies() {
+    new PortfolioOrderScheduler(GridCoordinate.ZERO, TIME_BUDGET, Collections.emptyList());
+  }
+
+  /**
+   * The portfolio should be at least as good as each strategy that finished, and report every
+   * strategy.
+   */
+  @Test
+  public void testRace() {
+    List<Order> orders = OrderTest.generateOrders(100, 20, 20, SEED);
+    PortfolioSchedule schedule = OrderSchedulers
+        .portfolio(GridCoordinate.ZERO, SchedulerContext.common(), TIME_BUDGET).race(orders);
+    Assert.assertEquals("Should deliver every order.", orders.size(),
+        schedule.getDeliveries().size());
+    Assert.assertEquals("Should report the NPS of the deliveries.",
+        NPSCalculator.getNPS(schedule.getDeliveries()), schedule.getNPS());
+    Assert.assertTrue("Should not be above the upper bound.",
+        schedule.getNPS() <= schedule.getUpperBoundNPS());
+    Assert.assertEquals("Should report the optimality gap.",
+        schedule.getUpperBoundNPS() - schedule.getNPS(), schedule.getOptimalityGap());
+    Assert.assertTrue("Should be at least as good as the priority queue.", schedule
+        .getNPS() >= NPSCalculator.getNPS(OrderSchedulers.priorityQueueBased().schedule(orders)));
+
+    List<StrategyResult> strategyResults = schedule.getStrategyResults();
+    Assert.assertEquals("Should report every strategy but the exact one.",
+        Arrays.asList("PriorityQueueOrderScheduler", "FifoOrderScheduler",
+            "LocalSearchOrderScheduler", "AnytimeOrderScheduler"),
+        strategyResults.stream().map(StrategyResult::getName).collect(Collectors.toList()));
+    for (StrategyResult strategyResult : strategyResults) {
+      if (strategyResult.isCompleted()) {
+        Assert.assertTrue("Should be at least as good as " + strategyResult.getName() + ".",
+            schedule.getNPS() >= strategyResult.getNPS());
+      }
+    }
+    Assert.assertTrue("The winner should have completed.", strategyResults.stream()
+        .anyMatch(result -> result.isCompleted() && result.getName().equals(schedule.getWinner())
+            && result.getNPS() == schedule.getNPS()));
+  }
+
+  /**
+   * The exact strategy should only enter races it can finish.
+   */
+  @Test
+  public void testExactRace() {
+    PortfolioSchedule schedule = OrderSchedulers
+        .portfolio(GridCoordinate.ZERO, SchedulerContext.common(), Duration.ofSeconds(10))
+        .race(OrderTest.generateOrders(ExactOrderScheduler.MAXIMUM_ORDERS, 20, 20, SEED));
+    StrategyResult exactResult = schedule.getStrategyResults().stream()
+        .filter(result -> "ExactOrderScheduler".equals(result.getName())).findFirst()
+        .orElse(null);
+    Assert.assertNotNull("Should enter the exact strategy.", exactResult);
+    Assert.assertNotEquals("The exact strategy should not fail.", Status.FAILED,
+        exactResult.getStatus());
+  }
+
+  /**
+   * A strategy still running when the time budget runs out should be cancelled.
+   */
+  @Test(timeout = 5000)
+  public void testCancelled() {
+    PortfolioSchedule schedule;
+    try (SchedulerContext schedulerContext = new SchedulerContext(2)) {
+      schedule = new PortfolioOrderScheduler(GridCoordinate.ZERO, schedulerContext,
+          Duration.ofMillis(50),
+          Arrays.asList(SlowOrderScheduler::new, OrderSchedulers::priorityQueueBased))
+              .race(OrderTest.generateOrders(10, 20, 20, SEED));
+    }
+    Assert.assertEquals("Should keep the finished strategy.", "PriorityQueueOrderScheduler",
+        schedule.getWinner());
+    Assert.assertEquals("Should cancel the slow strategy.", Status.CANCELLED,
+        schedule.getStrategyResults().get(0).getStatus());
+    Assert.assertEquals("Should complete the fast strategy.", Status.COMPLETED,
+        schedule.getStrategyResults().get(1).getStatus());
+  }
+
+  /**
+   * A failing strategy should be reported as failed.
+   */
+  @Test
+  public void testFailed() {
+    PortfolioSchedule schedule = new PortfolioOrderScheduler(GridCoordinate.ZERO, TIME_BUDGET,
+        Arrays.asList(FailingOrderScheduler::new, DelayedOrderScheduler::new))
+            .race(OrderTest.generateOrders(10, 20, 20, SEED));
+    Assert.assertEquals("Should fail the failing strategy.", Status.FAILED,
+        schedule.getStrategyResults().get(0).getStatus());
+    Assert.assertEquals("Should keep the finished strategy.", "DelayedOrderScheduler",
+        schedule.getWinner());
+  }
+
+  /**
+   * Every strategy failing.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testEveryStrategyFailed() {
+    new PortfolioOrderScheduler(GridCoordinate.ZERO, TIME_BUDGET,
+        Collections.singletonList(FailingOrderScheduler::new))
+            .race(OrderTest.generateOrders(50, 20, 20, SEED));
+  }
+
+  /**
+   * No strategy accepting the number of orders.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testNoStrategyAccepts() {
+    new PortfolioOrderScheduler(GridCoordinate.ZERO, TIME_BUDGET,
+        Collections.singletonList(OrderSchedulers::exact))
+            .race(OrderTest.generateOrders(50, 20, 20, SEED));
+  }
+
+  /**
+   * Racing on a closed {@link SchedulerContext}.
+   */
+  @Test(expected = RejectedExecutionException.class)
+  public void testClosedContext() {
+    SchedulerContext schedulerContext = new SchedulerContext(1);
+    schedulerContext.close();
+    new PortfolioOrderScheduler(GridCoordinate.ZERO, schedulerContext, TIME_BUDGET,
+        Collections.singletonList(OrderSchedulers::priorityQueueBased))
+            .race(OrderTest.generateOrders(10, 20, 20, SEED));
+  }
+
+  /**
+   * Fails every schedule.
+   */
+  private static final class FailingOrderScheduler extends OrderScheduler {
+
+    private FailingOrderScheduler(GridCoordinate warehouseLocation) {
+      super(warehouseLocation);
+    }
+
+    @Override
+    public List<Delivery> processManifests(List<Manifest> manifests) {
+      throw new IllegalStateException("Failed.");
+    }
+
+  }
+
+  /**
+   * Schedules like the {@link PriorityQueueOrderScheduler} after a short sleep, so it finishes
+   * after the strategies that fail at once.
+   */
+  private static final class DelayedOrderScheduler extends OrderScheduler {
+
+    private DelayedOrderScheduler(GridCoordinate warehouseLocation) {
+      super(warehouseLocation);
+    }
+
+    @Override
+    public List<Delivery> processManifests(List<Manifest> manifests) {
+      try {
+        Thread.sleep(100);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+      return OrderSchedulers.priorityQueueBased(getWarehouseLocation())
+          .processManifests(manifests);
+    }
+
+  }
+
+  /**
+   * Sleeps until it is interrupted.
+   */
+  private static final class SlowOrderScheduler extends OrderScheduler {
+
+    private SlowOrderScheduler(GridCoordinate warehouseLocation) {
+      super(warehouseLocation);
+    }
+
+    @Override
+    public List<Delivery> processManifests(List<Manifest> manifests) {
+      try {
+        Thread.sleep(Long.MAX_VALUE);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+      throw new IllegalStateException("Interrupted.");
+    }
+
+  }
+
+}
@@ -0,0 +1,166 @@
+package challenge.scheduler;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.Assert;
+import org.junit.Test;
+import challenge.calculator.NPSCalculator;
+import challenge.generator.ArrivalProfile;
+import challenge.generator.OrderGenerator;
+import challenge.generator.SpatialDistribution;
+import challenge.importer.OrderImporter;
+import challenge.jenetics.ScheduleProblem;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.ManifestTable;
+import challenge.model.Order;
+import challenge.model.OrderTest;
+
+/**
+ * Tests for {@link PriorityQueueOrderScheduler}.
+ * 
+ * @author jeffrey
+ */
+public class PriorityQueueOrderSchedulerTest {
+
+  /**
+   * Passing in a <code>null</code> warehouse {@link GridCoordinate}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullWarehouse() {
+    OrderSchedulers.priorityQueueBased(null);
+  }
+
+  /**
+   * Passing <code>null</code> {@link Order}s.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullOrders() {
+    OrderSchedulers.priorityQueueBased().schedule(null);
+  }
+
+  /**
+   * Passing empty {@link Order}s.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyOrders() {
+    OrderSchedulers.priorityQueueBased().schedule(Collections.emptyList());
+  }
+
+  /**
+   * Imports the test files and compares the expected NPS to the actual.
+   */
+  @Test
+  public void testPriorityQueueBased() {
+    Map<String, Integer> testInputMap = new HashMap<>();
+    testInputMap.put("src/test/resources/test-input-1.txt", 75);
+    testInputMap.put("src/test/resources/test-input-2.txt", 50);
+    testInputMap.put("src/test/resources/test-input-3.txt", 50);
+
+    testInputMap.entrySet().stream()
+        .forEach(entry -> testPriorityQueueBased(entry.getKey(), entry.getValue()));
+  }
+
+  private void testPriorityQueueBased(String filePath, int expectedNPS) {
+    List<Order> orders = OrderImporter.parseFile(filePath);
+    List<Delivery> deliveries = OrderSchedulers.priorityQueueBased().schedule(orders);
+    Assert.assertEquals("All orders must be scheduled for delivery.", orders.size(),
+        deliveries.size());
+    Assert.assertEquals(String.format("Priority queue NPS should be %d.", expectedNPS),
+        expectedNPS, NPSCalculator.getNPS(deliveries));
+    Assert.assertEquals("Should match the queue based deliveries.",
+        OrderSchedulers.queueBased().schedule(orders), deliveries);
+  }
+
+  /**
+   * Busy days with many equal transit times should be scheduled exactly like the
+   * {@link QueueOrderScheduler}.
+   */
+  @Test
+  public void testMatchesQueueBased() {
+    IntStream.of(10, 100, 1000).forEach(numberOfOrders -> {
+      List<Order> orders = IntStream.range(0, numberOfOrders)
+          .mapToObj(idNumber -> OrderTest.generateOrder(idNumber, 10, 10))
+          .collect(Collectors.toList());
+      Assert.assertEquals("Should match the queue based deliveries.",
+          OrderSchedulers.queueBased().schedule(orders),
+          OrderSchedulers.priorityQueueBased().schedule(orders));
+    });
+  }
+
+  /**
+   * Flying the {@link PriorityQueueOrderScheduler#toSchedule(ManifestTable)} list first in, first
+   * out should be as good as the priority queue, even when order ids repeat.
+   */
+  @Test
+  public void testToScheduleRepeatedIds() {
+    OrderGenerator orderGenerator = new OrderGenerator(GridCoordinate.ZERO,
+        ArrivalProfile.MIDDAY_PEAK, SpatialDistribution.UNIFORM, 20);
+    PriorityQueueOrderScheduler orderScheduler =
+        new PriorityQueueOrderScheduler(GridCoordinate.ZERO);
+    LongStream.range(0, 50).forEach(seed -> {
+      List<Order> orders = orderGenerator.generate(100, seed).stream()
+          .map(order -> new Order("WM000" + order.getOrderId().substring(5), order.getOrderTime(),
+              order.getCustomerLocation()))
+          .collect(Collectors.toList());
+      ManifestTable manifestTable = ManifestTable.of(orders, GridCoordinate.ZERO);
+      int queueNPS = NPSCalculator.getNPS(orderScheduler.scheduleTable(manifestTable));
+      int scheduleNPS = new ScheduleProblem(GridCoordinate.ZERO, manifestTable).fitness()
+          .apply(orderScheduler.toSchedule(manifestTable));
+      Assert.assertTrue("Should not be worse than the priority queue.", scheduleNPS >= queueNPS);
+    });
+  }
+
+  /**
+   * Tests incomplete orders.
+   */
+  @Test
+  public void testIncompleteOrders() {
+    Order lateOrder = new Order("WM0001", LocalTime.of(21, 45), GridCoordinate.of(5, 10));
+    Order anotherLateOrder = new Order("WM0002", LocalTime.of(21, 0), GridCoordinate.of(20, 10));
+    Order passEndOrder = new Order("WM0003", LocalTime.of(22, 0), GridCoordinate.of(1, 1));
+    List<Delivery> deliveries = OrderSchedulers.priorityQueueBased()
+        .schedule(Arrays.asList(lateOrder, anotherLateOrder, passEndOrder));
+    Assert.assertEquals("Incomplete orders still need to be scheduled.", 3, deliveries.size());
+    deliveries.stream().forEach(delivery -> {
+      Assert.assertEquals("Incomplete orders should be scheduled with the max time.", LocalTime.MAX,
+          delivery.getDepartureTime());
+    });
+  }
+
+  /**
+   * Scheduling a stream of sorted orders should match scheduling the list.
+   */
+  @Test
+  public void testStreamMatchesList() {
+    List<Order> orders = IntStream.range(0, 1000)
+        .mapToObj(idNumber -> OrderTest.generateOrder(idNumber, 10, 10)).sorted()
+        .collect(Collectors.toList());
+    List<Delivery> deliveries = new ArrayList<>();
+    OrderSchedulers.priorityQueueBased().schedule(orders.stream(), deliveries::add);
+    Assert.assertEquals("Should match the list deliveries.",
+        OrderSchedulers.priorityQueueBased().schedule(orders), deliveries);
+  }
+
+  /**
+   * Streaming orders that are not sorted by order time.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnsortedStream() {
+    Order laterOrder = new Order("WM0001", LocalTime.of(12, 0), GridCoordinate.of(5, 10));
+    Order earlierOrder = new Order("WM0002", LocalTime.of(11, 0), GridCoordinate.of(5, 10));
+    OrderSchedulers.priorityQueueBased().schedule(Stream.of(laterOrder, earlierOrder),
+        delivery -> {
+        });
+  }
+
+}
@@ -1,5 +1,7 @@
 package challenge.scheduler;
 
+import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -58,6 +60,22 @@ public class QueueOrderSchedulerTest {
         .forEach(entry -> testQueueBased(entry.getKey(), entry.getValue()));
   }
 
+  /**
+   * Orders placed after the end time should be reported as incomplete instead of dropped, even
+   * when the queue runs empty between them.
+   */
+  @Test
+  public void testOrdersAfterEndTime() {
+    List<Order> orders = Arrays.asList(
+        new Order("WM0001", LocalTime.of(22, 30), GridCoordinate.of(1, 1)),
+        new Order("WM0002", LocalTime.of(23, 0), GridCoordinate.of(1, 1)));
+    List<Delivery> deliveries = OrderSchedulers.queueBased().schedule(orders);
+    Assert.assertEquals("All orders must be scheduled for delivery.", orders.size(),
+        deliveries.size());
+    Assert.assertTrue("Orders after the end time should be incomplete.", deliveries.stream()
+        .allMatch(delivery -> LocalTime.MAX.equals(delivery.getDepartureTime())));
+  }
+
   private void testQueueBased(String filePath, int expectedNPS) {
     List<Order> orders = OrderImporter.parseFile(filePath);
     List<Delivery> deliveries = OrderSchedulers.queueBased().schedule(orders);
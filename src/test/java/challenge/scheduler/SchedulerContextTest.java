@@ -0,0 +1,125 @@
+package challenge.scheduler;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+import challenge.model.Delivery;
+import challenge.model.GridCoordinate;
+import challenge.model.Order;
+import challenge.model.OrderTest;
+
+/**
+ * Tests for {@link SchedulerContext}.
+ * 
+ * @author jeffrey
+ */
+public class SchedulerContextTest {
+
+  private static final long SEED = 42;
+
+  private static final int NUMBER_OF_ORDERS = ExactOrderScheduler.MAXIMUM_ORDERS + 5;
+
+  /**
+   * Passing a non-positive parallelism.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoParallelism() {
+    new SchedulerContext(0);
+  }
+
+  /**
+   * Passing in a <code>null</code> {@link SchedulerContext}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullContext() {
+    OrderSchedulers.bestFit(GridCoordinate.ZERO, null);
+  }
+
+  /**
+   * Closing the common context should leave the common pool running.
+   */
+  @Test
+  public void testCloseCommon() {
+    SchedulerContext.common().close();
+    Assert.assertFalse("The common context should not close.",
+        SchedulerContext.common().isClosed());
+    Assert.assertFalse("The common pool should keep running.",
+        ForkJoinPool.commonPool().isShutdown());
+    Assert.assertFalse("The common schedule executor should keep running.",
+        SchedulerContext.common().getScheduleExecutor().isShutdown());
+  }
+
+  /**
+   * The schedule executor should be created once and run no more schedules at a time than the
+   * parallelism.
+   */
+  @Test
+  public void testScheduleExecutor() {
+    try (SchedulerContext schedulerContext = new SchedulerContext(2)) {
+      ExecutorService executor = schedulerContext.getScheduleExecutor();
+      Assert.assertSame("Should reuse the schedule executor.", executor,
+          schedulerContext.getScheduleExecutor());
+      Assert.assertEquals("Should not use more threads than the parallelism.", 2,
+          ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+    }
+  }
+
+  /**
+   * A schedule executor first used after the context is closed should reject schedules.
+   */
+  @Test(expected = RejectedExecutionException.class)
+  public void testClosedScheduleExecutor() {
+    SchedulerContext schedulerContext = new SchedulerContext(1);
+    schedulerContext.close();
+    schedulerContext.getScheduleExecutor().execute(() -> {
+    });
+  }
+
+  /**
+   * A closed context should reject new schedules.
+   */
+  @Test(expected = RejectedExecutionException.class)
+  public void testClosed() throws InterruptedException {
+    SchedulerContext schedulerContext = new SchedulerContext(1);
+    schedulerContext.close();
+    Assert.assertTrue("The context should be closed.", schedulerContext.isClosed());
+    Assert.assertTrue("The schedule executor should be shut down.",
+        schedulerContext.getScheduleExecutor().isShutdown());
+    Assert.assertTrue("The context should terminate.",
+        schedulerContext.awaitTermination(1, TimeUnit.SECONDS));
+    OrderSchedulers.bestFit(GridCoordinate.ZERO, schedulerContext)
+        .schedule(OrderTest.generateOrders(NUMBER_OF_ORDERS, 10, 10, SEED));
+  }
+
+  /**
+   * Several genetic schedules running side by side should share the threads of the context.
+   */
+  @Test
+  public void testSharedContext() throws InterruptedException {
+    List<Order> orders = OrderTest.generateOrders(NUMBER_OF_ORDERS, 10, 10, SEED);
+    try (SchedulerContext schedulerContext = new SchedulerContext(2)) {
+      OrderScheduler orderScheduler =
+          OrderSchedulers.bestFit(GridCoordinate.ZERO, schedulerContext);
+      List<CompletableFuture<List<Delivery>>> futures = IntStream.range(0, 3)
+          .mapToObj(run -> CompletableFuture.supplyAsync(() -> orderScheduler.schedule(orders)))
+          .collect(Collectors.toList());
+      futures.stream().map(CompletableFuture::join).forEach(deliveries -> {
+        Assert.assertEquals("All orders must be scheduled for delivery.", orders.size(),
+            deliveries.size());
+        Assert.assertEquals("Every order should be delivered once.",
+            orders.size(), deliveries.stream().map(Delivery::getOrderId).distinct().count());
+      });
+      Assert.assertTrue("Should not use more threads than the parallelism.",
+          ((ForkJoinPool) schedulerContext.getExecutor()).getPoolSize() <= 2);
+    }
+  }
+
+}